@@ -0,0 +1,336 @@
+package com.spiderweb;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * BlockingSpiderWebQueue is a {@link BlockingQueue} backed by a SpiderWeb, optionally bounded by a
+ * capacity. Producers append to the end of the SpiderWeb and consumers take from the beginning.
+ * Waiting is done on {@link Condition}s of a {@link ReentrantLock} rather than on monitors, so
+ * virtual threads blocked in {@code put} or {@code take} release their carrier threads, and
+ * thousands of waiters cost no more than thousands of parked threads.
+ *
+ * <p>{@link #drainTo(Collection, int)} detaches whole levels of the SpiderWeb at once while holding
+ * the lock, and hands the detached elements to the target collection after releasing it, so a large
+ * drain blocks producers only for as long as it takes to cut the SpiderWeb.
+ *
+ * <p>Iterators are weakly consistent: they iterate over a snapshot taken when they were created and
+ * do not support removal.
+ *
+ * <p>Usage Example:
+ * <blockquote><pre>
+ * BlockingSpiderWebQueue&lt;Task&gt; tasks = new BlockingSpiderWebQueue&lt;&gt;(10000);
+ * tasks.put(task);
+ * Task next = tasks.take();
+ * </pre></blockquote>
+ *
+ * @param <E> the type of elements held in the queue
+ *
+ * @author Milan Savic
+ * @version 1.0
+ * @since October 19, 2026
+ */
+public class BlockingSpiderWebQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    private final SpiderWeb<E> spiderWeb;
+    private final int capacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = this.lock.newCondition();
+    private final Condition notFull = this.lock.newCondition();
+
+    /**
+     * Constructs an unbounded queue with the default number of elements per level (6).
+     */
+    public BlockingSpiderWebQueue() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructs a queue holding at most {@code capacity} elements, with the default number of
+     * elements per level (6).
+     *
+     * @param capacity The maximum number of elements in the queue.
+     * @throws IllegalArgumentException If the capacity is not positive.
+     */
+    public BlockingSpiderWebQueue(int capacity) {
+        this(capacity, 6);
+    }
+
+    /**
+     * Constructs a queue holding at most {@code capacity} elements.
+     *
+     * @param capacity           The maximum number of elements in the queue.
+     * @param maxElementPerLevel The maximum number of elements allowed in each level of the SpiderWeb.
+     * @throws IllegalArgumentException If the capacity or the number of elements per level is not positive.
+     */
+    public BlockingSpiderWebQueue(int capacity, int maxElementPerLevel) {
+        if (capacity <= 0 || maxElementPerLevel <= 0) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity + " or maxElementPerLevel: " + maxElementPerLevel);
+        }
+        this.spiderWeb = new SpiderWeb<>(maxElementPerLevel);
+        this.capacity = capacity;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        this.lock.lock();
+        try {
+            if (this.spiderWeb.size() == this.capacity) {
+                return false;
+            }
+            this.enqueue(e);
+            return true;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        Objects.requireNonNull(e);
+        this.lock.lockInterruptibly();
+        try {
+            while (this.spiderWeb.size() == this.capacity) {
+                this.notFull.await();
+            }
+            this.enqueue(e);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(e);
+        long nanos = unit.toNanos(timeout);
+        this.lock.lockInterruptibly();
+        try {
+            while (this.spiderWeb.size() == this.capacity) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = this.notFull.awaitNanos(nanos);
+            }
+            this.enqueue(e);
+            return true;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public E poll() {
+        this.lock.lock();
+        try {
+            return this.spiderWeb.size() == 0 ? null : this.dequeue();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        this.lock.lockInterruptibly();
+        try {
+            while (this.spiderWeb.size() == 0) {
+                this.notEmpty.await();
+            }
+            return this.dequeue();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        this.lock.lockInterruptibly();
+        try {
+            while (this.spiderWeb.size() == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = this.notEmpty.awaitNanos(nanos);
+            }
+            return this.dequeue();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public E peek() {
+        this.lock.lock();
+        try {
+            return this.spiderWeb.size() == 0 ? null : this.spiderWeb.getFirst();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        this.lock.lock();
+        try {
+            return this.spiderWeb.size();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        this.lock.lock();
+        try {
+            return this.capacity - this.spiderWeb.size();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (o == null) {
+            return false;
+        }
+        this.lock.lock();
+        try {
+            for (SpiderWebNode<E> node = this.spiderWeb.getFirstNode(); node != null; node = node.getNextNode()) {
+                if (o.equals(node.getValue())) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        this.lock.lock();
+        try {
+            int position = 0;
+            for (SpiderWebNode<E> node = this.spiderWeb.getFirstNode(); node != null; node = node.getNextNode(), position++) {
+                if (o.equals(node.getValue())) {
+                    this.spiderWeb.unlink(node, position);
+                    this.notFull.signal();
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        this.lock.lock();
+        try {
+            this.spiderWeb.clear();
+            this.notFull.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return this.drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        Objects.requireNonNull(c);
+        if (c == this) {
+            throw new IllegalArgumentException("Cannot drain a queue into itself.");
+        }
+        if (maxElements <= 0) {
+            return 0;
+        }
+        final SpiderWebNode<E> head;
+        final int drained;
+        this.lock.lock();
+        try {
+            drained = Math.min(maxElements, this.spiderWeb.size());
+            if (drained == 0) {
+                return 0;
+            }
+            head = this.spiderWeb.detachFirst(drained);
+            this.notFull.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+        for (SpiderWebNode<E> node = head; node != null; node = node.getNextNode()) {
+            c.add(node.getValue());
+        }
+        return drained;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        final List<E> snapshot = new ArrayList<>();
+        this.lock.lock();
+        try {
+            for (SpiderWebNode<E> node = this.spiderWeb.getFirstNode(); node != null; node = node.getNextNode()) {
+                snapshot.add(node.getValue());
+            }
+        } finally {
+            this.lock.unlock();
+        }
+        final Iterator<E> iterator = snapshot.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public E next() {
+                return iterator.next();
+            }
+        };
+    }
+
+    /**
+     * Returns a string representation of the queue, including its size and capacity.
+     *
+     * @return A string representation of the queue.
+     */
+    @Override
+    public String toString() {
+        this.lock.lock();
+        try {
+            return "BlockingSpiderWebQueue{" +
+                    "size=" + this.spiderWeb.size() +
+                    ", capacity=" + this.capacity +
+                    '}';
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void enqueue(E e) {
+        this.spiderWeb.add(e);
+        this.notEmpty.signal();
+    }
+
+    private E dequeue() {
+        final E value = this.spiderWeb.removeFirst();
+        this.notFull.signal();
+        return value;
+    }
+}
@@ -0,0 +1,57 @@
+package com.spiderweb;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * The {@code DirectBuffers} class frees the memory of direct and mapped buffers immediately, through
+ * {@code sun.misc.Unsafe#invokeCleaner}, when the JVM provides it. Otherwise the memory is freed by
+ * the garbage collector once the buffer becomes unreachable. A buffer must not be used after it has
+ * been released.
+ *
+ * @author Milan Savic
+ * @version 1.0
+ * @since October 19, 2026
+ */
+final class DirectBuffers {
+
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafe = theUnsafe.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            unsafe = null;
+            invokeCleaner = null;
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private DirectBuffers() {
+    }
+
+    /**
+     * Frees the memory of a direct or mapped buffer, if the JVM allows it.
+     *
+     * @param buffer The buffer to release.
+     */
+    static void release(ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null || buffer == null || !buffer.isDirect()) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // The buffer is freed by the garbage collector instead.
+        }
+    }
+}
@@ -0,0 +1,505 @@
+package com.spiderweb;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * DurableSpiderWeb is a thread-safe SpiderWeb whose mutations are recorded in a write-ahead log,
+ * so its contents survive a crash. Every add, addFirst, set, removeFirst, removeLast and clear is
+ * appended to the log as a checksummed record, and the call returns only once the record has been
+ * forced to disk. Opening an existing log replays it to rebuild the SpiderWeb; a record torn by a
+ * crash is detected by its checksum and cut off.
+ *
+ * <p>Forcing is group-committed: while one writer forces the log, others keep appending records to
+ * a shared buffer, and the next force makes all of them durable at once. A group commit delay lets
+ * the writer that forces the log wait for more records first, trading latency for fewer forces.
+ *
+ * <p>Usage Example:
+ * <blockquote><pre>
+ * try (DurableSpiderWeb&lt;String&gt; orders = new DurableSpiderWeb&lt;&gt;(Path.of("orders.log"), SpiderWebCodec.strings())) {
+ *     orders.add("order-1");
+ *     String first = orders.get(0, 0);
+ * }
+ * </pre></blockquote>
+ *
+ * @param <E> the type of elements stored in the SpiderWeb
+ *
+ * @author Milan Savic
+ * @version 1.0
+ * @since October 19, 2026
+ */
+public class DurableSpiderWeb<E> implements Closeable {
+
+    private static final int MAGIC = 0x5357414C;
+    private static final int HEADER_BYTES = 8;
+    private static final byte ADD = 1;
+    private static final byte ADD_FIRST = 2;
+    private static final byte SET = 3;
+    private static final byte REMOVE_FIRST = 4;
+    private static final byte REMOVE_LAST = 5;
+    private static final byte CLEAR = 6;
+
+    private final SpiderWeb<E> spiderWeb;
+    private final SpiderWebCodec<E> codec;
+    private final FileChannel channel;
+    private final long groupCommitNanos;
+    private final ReentrantLock stateLock = new ReentrantLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition synced = this.syncLock.newCondition();
+    private final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+    private final DataOutputStream recordOut = new DataOutputStream(this.recordBytes);
+    private final CRC32 checksum = new CRC32();
+    private ByteBuffer pending = ByteBuffer.allocate(1 << 16);
+    private ByteBuffer spare = ByteBuffer.allocate(1 << 16);
+    private long appendedSequence;
+    private long durableSequence;
+    private boolean syncing;
+    private volatile IOException failure;
+    private boolean closed;
+
+    /**
+     * Opens the log at the specified path, replaying it if it exists, with the default number of
+     * elements per level (6) and no group commit delay.
+     *
+     * @param path  The path of the log file.
+     * @param codec The codec writing elements to the log.
+     * @throws IOException If the log cannot be opened or is not a SpiderWeb log.
+     * @throws IllegalArgumentException If the path or codec is null.
+     */
+    public DurableSpiderWeb(Path path, SpiderWebCodec<E> codec) throws IOException {
+        this(path, codec, 6, 0);
+    }
+
+    /**
+     * Opens the log at the specified path, replaying it if it exists.
+     *
+     * @param path               The path of the log file.
+     * @param codec              The codec writing elements to the log.
+     * @param maxElementPerLevel The maximum number of elements allowed in each level.
+     * @param groupCommitNanos   How long a writer forcing the log first waits for other writers, in nanoseconds.
+     * @throws IOException If the log cannot be opened or is not a SpiderWeb log.
+     * @throws IllegalArgumentException If the path or codec is null, or the number of elements per level or the delay is invalid.
+     */
+    public DurableSpiderWeb(Path path, SpiderWebCodec<E> codec, int maxElementPerLevel, long groupCommitNanos) throws IOException {
+        if (path == null || codec == null) {
+            throw new IllegalArgumentException("Path and codec cannot be null.");
+        }
+        if (maxElementPerLevel <= 0 || groupCommitNanos < 0) {
+            throw new IllegalArgumentException("Invalid maxElementPerLevel: " + maxElementPerLevel
+                    + " or group commit delay: " + groupCommitNanos);
+        }
+        this.spiderWeb = new SpiderWeb<>(maxElementPerLevel);
+        this.codec = codec;
+        this.groupCommitNanos = groupCommitNanos;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (this.channel.size() == 0) {
+                this.channel.write(ByteBuffer.allocate(4).putInt(0, MAGIC));
+                this.channel.force(true);
+            } else {
+                this.replay(path);
+            }
+        } catch (IOException | RuntimeException e) {
+            this.channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Adds an element to the end of the SpiderWeb and waits until the change is durable.
+     *
+     * @param value The element to be added.
+     * @throws IOException If the log cannot be written.
+     * @throws IllegalStateException If the DurableSpiderWeb is closed or an earlier write failed.
+     */
+    public void add(E value) throws IOException {
+        final long sequence;
+        this.stateLock.lock();
+        try {
+            this.beginRecord(ADD);
+            this.codec.encode(value, this.recordOut);
+            sequence = this.appendRecord();
+            this.spiderWeb.add(value);
+        } finally {
+            this.stateLock.unlock();
+        }
+        this.awaitDurable(sequence);
+    }
+
+    /**
+     * Adds an element to the beginning of the SpiderWeb and waits until the change is durable.
+     *
+     * @param value The element to be added.
+     * @throws IOException If the log cannot be written.
+     * @throws IllegalStateException If the DurableSpiderWeb is closed or an earlier write failed.
+     */
+    public void addFirst(E value) throws IOException {
+        final long sequence;
+        this.stateLock.lock();
+        try {
+            this.beginRecord(ADD_FIRST);
+            this.codec.encode(value, this.recordOut);
+            sequence = this.appendRecord();
+            this.spiderWeb.addFirst(value);
+        } finally {
+            this.stateLock.unlock();
+        }
+        this.awaitDurable(sequence);
+    }
+
+    /**
+     * Sets the element at the specified level and index and waits until the change is durable.
+     *
+     * @param level   The level at which to set the element.
+     * @param index   The index within the specified level to set the element.
+     * @param element The new element.
+     * @return The previous value at the specified level and index.
+     * @throws IOException If the log cannot be written.
+     * @throws IllegalArgumentException If the provided level or index is invalid.
+     * @throws IllegalStateException If the DurableSpiderWeb is closed or an earlier write failed.
+     */
+    public E set(int level, int index, E element) throws IOException {
+        final long sequence;
+        final E oldValue;
+        this.stateLock.lock();
+        try {
+            this.spiderWeb.get(level, index);
+            this.beginRecord(SET);
+            this.recordOut.writeInt(level * this.spiderWeb.getMaxElementPerLevel() + index);
+            this.codec.encode(element, this.recordOut);
+            sequence = this.appendRecord();
+            oldValue = this.spiderWeb.set(level, index, element);
+        } finally {
+            this.stateLock.unlock();
+        }
+        this.awaitDurable(sequence);
+        return oldValue;
+    }
+
+    /**
+     * Removes and returns the first element and waits until the change is durable.
+     *
+     * @return The removed element.
+     * @throws IOException If the log cannot be written.
+     * @throws NoSuchElementException If the SpiderWeb is empty.
+     * @throws IllegalStateException If the DurableSpiderWeb is closed or an earlier write failed.
+     */
+    public E removeFirst() throws IOException {
+        return this.removeEnd(REMOVE_FIRST);
+    }
+
+    /**
+     * Removes and returns the last element and waits until the change is durable.
+     *
+     * @return The removed element.
+     * @throws IOException If the log cannot be written.
+     * @throws NoSuchElementException If the SpiderWeb is empty.
+     * @throws IllegalStateException If the DurableSpiderWeb is closed or an earlier write failed.
+     */
+    public E removeLast() throws IOException {
+        return this.removeEnd(REMOVE_LAST);
+    }
+
+    /**
+     * Removes all elements and waits until the change is durable.
+     *
+     * @throws IOException If the log cannot be written.
+     * @throws IllegalStateException If the DurableSpiderWeb is closed or an earlier write failed.
+     */
+    public void clear() throws IOException {
+        final long sequence;
+        this.stateLock.lock();
+        try {
+            this.beginRecord(CLEAR);
+            sequence = this.appendRecord();
+            this.spiderWeb.clear();
+        } finally {
+            this.stateLock.unlock();
+        }
+        this.awaitDurable(sequence);
+    }
+
+    /**
+     * Returns the element at the specified level and index.
+     *
+     * @param level The level of the desired element (non-negative).
+     * @param index The index of the desired element (non-negative).
+     * @return The element at the specified level and index.
+     * @throws IllegalArgumentException If the provided level or index is invalid.
+     */
+    public E get(int level, int index) {
+        this.stateLock.lock();
+        try {
+            return this.spiderWeb.get(level, index);
+        } finally {
+            this.stateLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of elements in the SpiderWeb.
+     *
+     * @return The number of elements.
+     */
+    public int size() {
+        this.stateLock.lock();
+        try {
+            return this.spiderWeb.size();
+        } finally {
+            this.stateLock.unlock();
+        }
+    }
+
+    /**
+     * Gets the maximum number of elements allowed in each level.
+     *
+     * @return The maximum number of elements per level.
+     */
+    public int getMaxElementPerLevel() {
+        return this.spiderWeb.getMaxElementPerLevel();
+    }
+
+    /**
+     * Returns a copy of the current contents as a plain SpiderWeb.
+     *
+     * @return A SpiderWeb holding the same elements at the same levels and indexes.
+     */
+    @SuppressWarnings("unchecked")
+    public SpiderWeb<E> toSpiderWeb() {
+        this.stateLock.lock();
+        try {
+            return (SpiderWeb<E>) this.spiderWeb.clone();
+        } finally {
+            this.stateLock.unlock();
+        }
+    }
+
+    /**
+     * Makes every appended record durable and closes the log. Further mutations throw an
+     * {@link IllegalStateException}.
+     *
+     * @throws IOException If the log cannot be written or closed.
+     */
+    @Override
+    public void close() throws IOException {
+        final long sequence;
+        this.stateLock.lock();
+        try {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+            sequence = this.appendedSequence;
+        } finally {
+            this.stateLock.unlock();
+        }
+        try {
+            this.awaitDurable(sequence);
+        } finally {
+            this.channel.close();
+        }
+    }
+
+    private E removeEnd(byte type) throws IOException {
+        final long sequence;
+        final E value;
+        this.stateLock.lock();
+        try {
+            if (this.spiderWeb.size() == 0) {
+                throw new NoSuchElementException("Cannot remove from an empty SpiderWeb.");
+            }
+            this.beginRecord(type);
+            sequence = this.appendRecord();
+            value = type == REMOVE_FIRST ? this.spiderWeb.removeFirst() : this.spiderWeb.removeLast();
+        } finally {
+            this.stateLock.unlock();
+        }
+        this.awaitDurable(sequence);
+        return value;
+    }
+
+    private void beginRecord(byte type) throws IOException {
+        if (this.closed) {
+            throw new IllegalStateException("DurableSpiderWeb is closed.");
+        }
+        if (this.failure != null) {
+            throw new IllegalStateException("Write-ahead log failed.", this.failure);
+        }
+        this.recordBytes.reset();
+        this.recordOut.writeByte(type);
+    }
+
+    /**
+     * Moves the record being built into the pending buffer, framed by its length and checksum.
+     *
+     * @return The sequence number of the record.
+     */
+    private long appendRecord() {
+        final byte[] body = this.recordBytes.toByteArray();
+        this.checksum.reset();
+        this.checksum.update(body);
+        if (this.pending.remaining() < HEADER_BYTES + body.length) {
+            final ByteBuffer grown = ByteBuffer.allocate(Math.max(this.pending.capacity() * 2,
+                    this.pending.position() + HEADER_BYTES + body.length));
+            this.pending.flip();
+            grown.put(this.pending);
+            this.pending = grown;
+        }
+        this.pending.putInt(body.length).putInt((int) this.checksum.getValue()).put(body);
+        return ++this.appendedSequence;
+    }
+
+    /**
+     * Waits until the record with the specified sequence number is durable. If no other writer is
+     * forcing the log, this writer forces it on behalf of every record appended so far.
+     */
+    private void awaitDurable(long sequence) throws IOException {
+        this.syncLock.lock();
+        try {
+            while (this.durableSequence < sequence) {
+                if (this.failure != null) {
+                    throw new IOException("Write-ahead log failed.", this.failure);
+                }
+                if (this.syncing) {
+                    this.synced.awaitUninterruptibly();
+                    continue;
+                }
+                this.syncing = true;
+                this.syncLock.unlock();
+                long reached = 0;
+                IOException error = null;
+                try {
+                    reached = this.writePending();
+                } catch (IOException e) {
+                    error = e;
+                } finally {
+                    this.syncLock.lock();
+                    this.syncing = false;
+                    if (error != null) {
+                        this.failure = error;
+                    } else {
+                        this.durableSequence = Math.max(this.durableSequence, reached);
+                    }
+                    this.synced.signalAll();
+                }
+            }
+        } finally {
+            this.syncLock.unlock();
+        }
+    }
+
+    /**
+     * Writes and forces every pending record, swapping in the spare buffer so writers can keep
+     * appending meanwhile.
+     *
+     * @return The sequence number of the last record made durable.
+     */
+    private long writePending() throws IOException {
+        if (this.groupCommitNanos > 0) {
+            LockSupport.parkNanos(this.groupCommitNanos);
+        }
+        final ByteBuffer batch;
+        final long reached;
+        this.stateLock.lock();
+        try {
+            batch = this.pending;
+            reached = this.appendedSequence;
+            this.pending = this.spare;
+        } finally {
+            this.stateLock.unlock();
+        }
+        batch.flip();
+        while (batch.hasRemaining()) {
+            this.channel.write(batch);
+        }
+        this.channel.force(false);
+        batch.clear();
+        this.spare = batch;
+        return reached;
+    }
+
+    /**
+     * Rebuilds the SpiderWeb from the log and truncates the log after the last intact record.
+     */
+    private void replay(Path path) throws IOException {
+        final DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(this.channel.position(0))));
+        if (this.channel.size() < 4 || in.readInt() != MAGIC) {
+            throw new IOException("Not a SpiderWeb log: " + path);
+        }
+        final long size = this.channel.size();
+        long valid = 4;
+        while (size - valid >= HEADER_BYTES) {
+            final int length;
+            final int expected;
+            final byte[] body;
+            try {
+                length = in.readInt();
+                expected = in.readInt();
+                if (length <= 0 || length > size - valid - HEADER_BYTES) {
+                    break;
+                }
+                body = new byte[length];
+                in.readFully(body);
+            } catch (EOFException e) {
+                break;
+            }
+            this.checksum.reset();
+            this.checksum.update(body);
+            if ((int) this.checksum.getValue() != expected) {
+                break;
+            }
+            this.apply(new DataInputStream(new ByteArrayInputStream(body)));
+            valid += HEADER_BYTES + length;
+        }
+        if (valid < size) {
+            this.channel.truncate(valid);
+            this.channel.force(true);
+        }
+        this.channel.position(valid);
+    }
+
+    private void apply(DataInputStream record) throws IOException {
+        final byte type = record.readByte();
+        switch (type) {
+            case ADD:
+                this.spiderWeb.add(this.codec.decode(record));
+                break;
+            case ADD_FIRST:
+                this.spiderWeb.addFirst(this.codec.decode(record));
+                break;
+            case SET: {
+                final int position = record.readInt();
+                final int width = this.spiderWeb.getMaxElementPerLevel();
+                this.spiderWeb.set(position / width, position % width, this.codec.decode(record));
+                break;
+            }
+            case REMOVE_FIRST:
+                this.spiderWeb.removeFirst();
+                break;
+            case REMOVE_LAST:
+                this.spiderWeb.removeLast();
+                break;
+            case CLEAR:
+                this.spiderWeb.clear();
+                break;
+            default:
+                throw new IOException("Unknown log record type: " + type);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.spiderweb;
+
+/**
+ * The {@code FingerCache} class remembers the nodes and positions of the most recent positional
+ * accesses to a SpiderWeb, so that a lookup close to a recent one starts from the remembered node
+ * instead of from either end. Fingers are shifted when elements before them are added or removed,
+ * and dropped when their own node is removed.
+ *
+ * @param <E> the type of elements stored in the SpiderWeb
+ *
+ * @author Milan Savic
+ * @version 1.0
+ * @since October 19, 2026
+ */
+final class FingerCache<E> implements SpiderWebListener<E> {
+
+    /**
+     * The number of remembered accesses.
+     */
+    static final int FINGERS = 4;
+
+    private final SpiderWeb<E> web;
+    private final SpiderWebNode<E>[] nodes;
+    private final int[] positions = new int[FINGERS];
+    private int next;
+
+    /**
+     * Constructs an empty finger cache for the specified SpiderWeb.
+     *
+     * @param web The SpiderWeb whose accesses are remembered.
+     */
+    FingerCache(SpiderWeb<E> web) {
+        this.web = web;
+        @SuppressWarnings("unchecked")
+        final SpiderWebNode<E>[] nodes = (SpiderWebNode<E>[]) new SpiderWebNode<?>[FINGERS];
+        this.nodes = nodes;
+    }
+
+    /**
+     * Returns the estimated heap size of the finger cache.
+     *
+     * @return The estimated size in bytes.
+     */
+    long estimateBytes() {
+        return HeapLayout.shallowBytes(this) + HeapLayout.shallowBytes(this.nodes) + HeapLayout.shallowBytes(this.positions);
+    }
+
+    /**
+     * Returns the finger closest to the specified position.
+     *
+     * @param position The position being looked up.
+     * @return The slot of the closest finger, or -1 if no finger is set.
+     */
+    int nearest(int position) {
+        int nearest = -1;
+        int distance = Integer.MAX_VALUE;
+        for (int slot = 0; slot < FINGERS; slot++) {
+            if (this.nodes[slot] != null && Math.abs(this.positions[slot] - position) < distance) {
+                distance = Math.abs(this.positions[slot] - position);
+                nearest = slot;
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Returns the node remembered by the specified finger.
+     *
+     * @param slot The slot of the finger.
+     * @return The remembered node.
+     */
+    SpiderWebNode<E> node(int slot) {
+        return this.nodes[slot];
+    }
+
+    /**
+     * Returns the position remembered by the specified finger.
+     *
+     * @param slot The slot of the finger.
+     * @return The remembered position.
+     */
+    int position(int slot) {
+        return this.positions[slot];
+    }
+
+    /**
+     * Remembers an access. A lookup that started from a finger moves that finger, so a scan keeps
+     * following one finger; any other lookup replaces the least recently set finger.
+     *
+     * @param slot     The slot of the finger the lookup started from, or -1.
+     * @param node     The node that was accessed.
+     * @param position The position of the node.
+     */
+    void remember(int slot, SpiderWebNode<E> node, int position) {
+        if (slot < 0) {
+            slot = this.next;
+            this.next = (this.next + 1) % FINGERS;
+        }
+        this.nodes[slot] = node;
+        this.positions[slot] = position;
+    }
+
+    @Override
+    public void nodeAddedFirst(SpiderWebNode<E> node) {
+        this.shift(0, 1);
+    }
+
+    @Override
+    public void nodeInserted(SpiderWebNode<E> node, int position) {
+        this.shift(position, 1);
+    }
+
+    @Override
+    public void nodeRemoved(SpiderWebNode<E> successor, int position, E value) {
+        for (int slot = 0; slot < FINGERS; slot++) {
+            if (this.nodes[slot] != null && this.positions[slot] == position) {
+                this.nodes[slot] = successor;
+                this.positions[slot] = position + 1;
+            }
+        }
+        this.shift(position + 1, -1);
+    }
+
+    @Override
+    public void firstRemoved(E value) {
+        for (int slot = 0; slot < FINGERS; slot++) {
+            if (this.nodes[slot] != null && this.positions[slot] == 0) {
+                this.nodes[slot] = null;
+            }
+        }
+        this.shift(1, -1);
+    }
+
+    @Override
+    public void firstRemoved(SpiderWebNode<E> head, int count) {
+        for (int slot = 0; slot < FINGERS; slot++) {
+            if (this.nodes[slot] != null && this.positions[slot] < count) {
+                this.nodes[slot] = null;
+            }
+        }
+        this.shift(count, -count);
+    }
+
+    @Override
+    public void lastRemoved(E value) {
+        for (int slot = 0; slot < FINGERS; slot++) {
+            if (this.nodes[slot] != null && this.positions[slot] >= this.web.size()) {
+                this.nodes[slot] = null;
+            }
+        }
+    }
+
+    @Override
+    public void nodesRemoved(int from) {
+        for (int slot = 0; slot < FINGERS; slot++) {
+            if (this.nodes[slot] != null && this.positions[slot] >= from) {
+                this.nodes[slot] = null;
+            }
+        }
+    }
+
+    @Override
+    public void cleared() {
+        for (int slot = 0; slot < FINGERS; slot++) {
+            this.nodes[slot] = null;
+        }
+    }
+
+    private void shift(int from, int delta) {
+        for (int slot = 0; slot < FINGERS; slot++) {
+            if (this.nodes[slot] != null && this.positions[slot] >= from) {
+                this.positions[slot] += delta;
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.spiderweb;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * The {@code HeapLayout} class estimates the heap size of objects from the object layout of the
+ * running JVM: the size of object and array headers, the size of a reference, which depends on
+ * whether compressed references are in use, and the alignment of objects. The layout is read from
+ * the HotSpot diagnostic options when they are available, and otherwise assumed from the maximum
+ * heap size. Estimates ignore field packing gaps and the sharing of objects between several owners.
+ *
+ * @author Milan Savic
+ * @version 1.0
+ * @since October 19, 2026
+ */
+final class HeapLayout {
+
+    /**
+     * The number of bytes in a reference.
+     */
+    static final int REFERENCE_BYTES;
+
+    /**
+     * The number of bytes in the header of an object.
+     */
+    static final int HEADER_BYTES;
+
+    /**
+     * The number of bytes in the header of an array, including its length.
+     */
+    static final int ARRAY_HEADER_BYTES;
+
+    /**
+     * The alignment of objects, in bytes.
+     */
+    static final int ALIGNMENT;
+
+    /**
+     * The number of fields of {@link SpiderWebNode} holding references: the value and the four links.
+     */
+    static final int NODE_REFERENCES = 5;
+
+    private static final ClassValue<Long> SHALLOW_BYTES = new ClassValue<>() {
+        @Override
+        protected Long computeValue(Class<?> type) {
+            long fields = 0;
+            for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        fields += fieldBytes(field.getType());
+                    }
+                }
+            }
+            return align(HEADER_BYTES + fields);
+        }
+    };
+
+    static {
+        final boolean compressedOops = option("UseCompressedOops", Runtime.getRuntime().maxMemory() < 32L << 30);
+        final boolean compressedClassPointers = option("UseCompressedClassPointers", true);
+        REFERENCE_BYTES = compressedOops ? 4 : 8;
+        HEADER_BYTES = compressedClassPointers ? 12 : 16;
+        ARRAY_HEADER_BYTES = compressedClassPointers ? 16 : 24;
+        ALIGNMENT = intOption("ObjectAlignmentInBytes", 8);
+    }
+
+    private HeapLayout() {
+    }
+
+    /**
+     * Returns the heap size of one SpiderWebNode: a header and five references, aligned.
+     *
+     * @return The size of a node in bytes.
+     */
+    static long nodeBytes() {
+        return align(HEADER_BYTES + (long) NODE_REFERENCES * REFERENCE_BYTES);
+    }
+
+    /**
+     * Returns the heap size of an array.
+     *
+     * @param length       The length of the array.
+     * @param elementBytes The size of each element in bytes.
+     * @return The size of the array in bytes.
+     */
+    static long arrayBytes(long length, int elementBytes) {
+        return align(ARRAY_HEADER_BYTES + length * elementBytes);
+    }
+
+    /**
+     * Returns the heap size of an object itself, not counting the objects it references.
+     *
+     * @param o The object, which must not be null.
+     * @return The shallow size of the object in bytes.
+     */
+    static long shallowBytes(Object o) {
+        final Class<?> type = o.getClass();
+        if (type.isArray()) {
+            return arrayBytes(java.lang.reflect.Array.getLength(o), fieldBytes(type.getComponentType()));
+        }
+        return SHALLOW_BYTES.get(type);
+    }
+
+    /**
+     * Returns the estimated heap size of a value held by a SpiderWeb: its shallow size, plus the
+     * character array of a string. Other objects referenced by the value are not counted.
+     *
+     * @param value The value, or null.
+     * @return The estimated size of the value in bytes, or 0 for null.
+     */
+    static long valueBytes(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        long bytes = shallowBytes(value);
+        if (value instanceof String) {
+            final String string = (String) value;
+            bytes += arrayBytes(string.length(), isLatin1(string) ? 1 : 2);
+        }
+        return bytes;
+    }
+
+    /**
+     * Rounds a size up to the object alignment.
+     *
+     * @param bytes The size in bytes.
+     * @return The aligned size in bytes.
+     */
+    static long align(long bytes) {
+        return (bytes + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+
+    private static boolean isLatin1(String string) {
+        for (int i = 0; i < string.length(); i++) {
+            if (string.charAt(i) > 0xFF) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int fieldBytes(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        if (type == byte.class || type == boolean.class) {
+            return 1;
+        }
+        return REFERENCE_BYTES;
+    }
+
+    private static boolean option(String name, boolean fallback) {
+        final String value = rawOption(name);
+        return value == null ? fallback : Boolean.parseBoolean(value);
+    }
+
+    private static int intOption(String name, int fallback) {
+        final String value = rawOption(name);
+        try {
+            return value == null ? fallback : Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+
+    private static String rawOption(String name) {
+        try {
+            return ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class).getVMOption(name).getValue();
+        } catch (RuntimeException | LinkageError e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,363 @@
+package com.spiderweb;
+
+import java.util.HashMap;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * LargeSpiderWeb is a SpiderWeb for more elements than an {@code int} can count. Its size and levels
+ * are {@code long}s, so a LargeSpiderWeb can hold billions of elements, and its levels stay
+ * addressable even with very few elements per level.
+ *
+ * <p>Instead of one node per element, the elements are stored in chunks of
+ * {@value #CHUNK_SIZE} contiguous slots, so each element costs one reference and no node.
+ * Chunks are allocated and released as elements are added and removed at either end. Elements are
+ * addressed by level and index exactly as in a {@link SpiderWeb}; the position of an element is
+ * {@code level * maxElementPerLevel + index}, and its slot is found with a shift and a mask.
+ *
+ * <p>Usage Example:
+ * <blockquote><pre>
+ * LargeSpiderWeb&lt;Event&gt; events = new LargeSpiderWeb&lt;&gt;(1);
+ * events.add(event);
+ * Event last = events.get(events.getLevel(), events.getIndex());
+ * </pre></blockquote>
+ *
+ * @param <E> the type of elements stored in the LargeSpiderWeb
+ *
+ * @author Milan Savic
+ * @version 1.0
+ * @since October 19, 2026
+ */
+public class LargeSpiderWeb<E> {
+
+    /**
+     * The number of slots in each chunk.
+     */
+    public static final int CHUNK_SIZE = 1 << 16;
+
+    private static final int CHUNK_SHIFT = 16;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private final int maxElementPerLevel;
+    private final LevelTable<Object[]> chunks = new LevelTable<>();
+    private int offset;
+    private long size;
+
+    /**
+     * Constructs a LargeSpiderWeb with the default number of elements per level (6).
+     */
+    public LargeSpiderWeb() {
+        this(6);
+    }
+
+    /**
+     * Constructs a LargeSpiderWeb with a specified maximum number of elements per level.
+     *
+     * @param maxElementPerLevel The maximum number of elements allowed in each level.
+     * @throws IllegalArgumentException If the number of elements per level is not positive.
+     */
+    public LargeSpiderWeb(int maxElementPerLevel) {
+        if (maxElementPerLevel <= 0) {
+            throw new IllegalArgumentException("Invalid maxElementPerLevel: " + maxElementPerLevel);
+        }
+        this.maxElementPerLevel = maxElementPerLevel;
+    }
+
+    /**
+     * Gets the maximum number of elements allowed in each level of the LargeSpiderWeb.
+     *
+     * @return The maximum number of elements per level.
+     */
+    public int getMaxElementPerLevel() {
+        return this.maxElementPerLevel;
+    }
+
+    /**
+     * Gets the last level of the LargeSpiderWeb.
+     *
+     * @return The last level of the LargeSpiderWeb, or -1 if it is empty.
+     */
+    public long getLevel() {
+        return this.size == 0 ? -1 : (this.size - 1) / this.maxElementPerLevel;
+    }
+
+    /**
+     * Gets the last index of the LargeSpiderWeb.
+     *
+     * @return The last index of the LargeSpiderWeb, or -1 if it is empty.
+     */
+    public int getIndex() {
+        return this.size == 0 ? -1 : (int) ((this.size - 1) % this.maxElementPerLevel);
+    }
+
+    /**
+     * Returns the number of elements in the LargeSpiderWeb.
+     *
+     * @return The number of elements in the LargeSpiderWeb.
+     */
+    public long size() {
+        return this.size;
+    }
+
+    /**
+     * Checks whether the LargeSpiderWeb is empty.
+     *
+     * @return True if the LargeSpiderWeb holds no elements, false otherwise.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Adds an element to the end of the LargeSpiderWeb.
+     *
+     * @param value The element to be added.
+     */
+    public void add(E value) {
+        final long slot = this.offset + this.size;
+        if (slot == (long) this.chunks.size() * CHUNK_SIZE) {
+            this.chunks.addLast(new Object[CHUNK_SIZE]);
+        }
+        this.chunks.get((int) (slot >>> CHUNK_SHIFT))[(int) (slot & CHUNK_MASK)] = value;
+        this.size++;
+    }
+
+    /**
+     * Adds an element to the beginning of the LargeSpiderWeb.
+     *
+     * @param value The element to be added.
+     */
+    public void addFirst(E value) {
+        if (this.offset == 0) {
+            this.chunks.addFirst(new Object[CHUNK_SIZE]);
+            this.offset = CHUNK_SIZE;
+        }
+        this.offset--;
+        this.chunks.get(0)[this.offset] = value;
+        this.size++;
+    }
+
+    /**
+     * Returns the element at the specified level and index in the LargeSpiderWeb.
+     *
+     * @param level The level of the desired element (non-negative).
+     * @param index The index of the desired element (non-negative).
+     * @return The element at the specified level and index.
+     * @throws IllegalArgumentException If the provided level or index is invalid.
+     */
+    @SuppressWarnings("unchecked")
+    public E get(long level, int index) {
+        final long slot = this.offset + this.toPosition(level, index);
+        return (E) this.chunks.get((int) (slot >>> CHUNK_SHIFT))[(int) (slot & CHUNK_MASK)];
+    }
+
+    /**
+     * Sets the element at the specified level and index, replacing the existing element.
+     *
+     * @param level   The level at which to set the element.
+     * @param index   The index within the specified level to set the element.
+     * @param element The new element.
+     * @return The previous element at the specified level and index.
+     * @throws IllegalArgumentException If the provided level or index is invalid.
+     */
+    @SuppressWarnings("unchecked")
+    public E set(long level, int index, E element) {
+        final long slot = this.offset + this.toPosition(level, index);
+        final Object[] chunk = this.chunks.get((int) (slot >>> CHUNK_SHIFT));
+        final E oldValue = (E) chunk[(int) (slot & CHUNK_MASK)];
+        chunk[(int) (slot & CHUNK_MASK)] = element;
+        return oldValue;
+    }
+
+    /**
+     * Returns the first element of the LargeSpiderWeb.
+     *
+     * @return The first element.
+     * @throws NoSuchElementException If the LargeSpiderWeb is empty.
+     */
+    public E getFirst() {
+        if (this.size == 0) {
+            throw new NoSuchElementException("LargeSpiderWeb is empty.");
+        }
+        return this.get(0, 0);
+    }
+
+    /**
+     * Returns the last element of the LargeSpiderWeb.
+     *
+     * @return The last element.
+     * @throws NoSuchElementException If the LargeSpiderWeb is empty.
+     */
+    public E getLast() {
+        if (this.size == 0) {
+            throw new NoSuchElementException("LargeSpiderWeb is empty.");
+        }
+        return this.get(this.getLevel(), this.getIndex());
+    }
+
+    /**
+     * Removes and returns the first element of the LargeSpiderWeb.
+     *
+     * @return The removed element.
+     * @throws NoSuchElementException If the LargeSpiderWeb is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public E removeFirst() {
+        if (this.size == 0) {
+            throw new NoSuchElementException("Cannot remove from an empty LargeSpiderWeb.");
+        }
+        final Object[] chunk = this.chunks.get(0);
+        final E value = (E) chunk[this.offset];
+        chunk[this.offset] = null;
+        this.offset++;
+        this.size--;
+        if (this.offset == CHUNK_SIZE || this.size == 0) {
+            this.chunks.removeFirst();
+            this.offset = 0;
+        }
+        return value;
+    }
+
+    /**
+     * Removes and returns the last element of the LargeSpiderWeb.
+     *
+     * @return The removed element.
+     * @throws NoSuchElementException If the LargeSpiderWeb is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public E removeLast() {
+        if (this.size == 0) {
+            throw new NoSuchElementException("Cannot remove from an empty LargeSpiderWeb.");
+        }
+        this.size--;
+        final long slot = this.offset + this.size;
+        final Object[] chunk = this.chunks.get((int) (slot >>> CHUNK_SHIFT));
+        final E value = (E) chunk[(int) (slot & CHUNK_MASK)];
+        chunk[(int) (slot & CHUNK_MASK)] = null;
+        if ((slot & CHUNK_MASK) == 0 || this.size == 0) {
+            this.chunks.removeLast();
+            if (this.size == 0) {
+                this.offset = 0;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Removes all elements from the LargeSpiderWeb and releases its chunks.
+     */
+    public void clear() {
+        this.chunks.clear();
+        this.offset = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Performs the given action for each element of the LargeSpiderWeb, in order, a chunk at a time.
+     *
+     * @param action The action to perform for each element.
+     * @throws IllegalArgumentException If the action is null.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        if (action == null) {
+            throw new IllegalArgumentException("Action cannot be null.");
+        }
+        for (int chunk = 0; chunk < this.chunks.size(); chunk++) {
+            final Object[] slots = this.chunks.get(chunk);
+            final int end = this.chunkEnd(chunk);
+            for (int slot = this.chunkStart(chunk); slot < end; slot++) {
+                action.accept((E) slots[slot]);
+            }
+        }
+    }
+
+    /**
+     * Searches for the first occurrence of the specified element and returns its level and index.
+     *
+     * @param e The element to search for.
+     * @return A HashMap containing the level and index of the element.
+     *         If the element is not found, an empty HashMap is returned.
+     */
+    public HashMap<String, Long> indexOf(E e) {
+        for (int chunk = 0; chunk < this.chunks.size(); chunk++) {
+            final Object[] slots = this.chunks.get(chunk);
+            final int end = this.chunkEnd(chunk);
+            for (int slot = this.chunkStart(chunk); slot < end; slot++) {
+                if (Objects.equals(slots[slot], e)) {
+                    return this.toLevelAndIndex(((long) chunk << CHUNK_SHIFT) + slot - this.offset);
+                }
+            }
+        }
+        return new HashMap<>();
+    }
+
+    /**
+     * Searches for the last occurrence of the specified element and returns its level and index.
+     *
+     * @param e The element to search for.
+     * @return A HashMap containing the level and index of the last occurrence of the element.
+     *         If the element is not found, an empty HashMap is returned.
+     */
+    public HashMap<String, Long> lastIndexOf(E e) {
+        for (int chunk = this.chunks.size() - 1; chunk >= 0; chunk--) {
+            final Object[] slots = this.chunks.get(chunk);
+            final int start = this.chunkStart(chunk);
+            for (int slot = this.chunkEnd(chunk) - 1; slot >= start; slot--) {
+                if (Objects.equals(slots[slot], e)) {
+                    return this.toLevelAndIndex(((long) chunk << CHUNK_SHIFT) + slot - this.offset);
+                }
+            }
+        }
+        return new HashMap<>();
+    }
+
+    /**
+     * Checks whether the LargeSpiderWeb contains the specified element.
+     *
+     * @param e The element to search for.
+     * @return True if at least one element equals the specified element, false otherwise.
+     */
+    public boolean contains(E e) {
+        return !this.indexOf(e).isEmpty();
+    }
+
+    /**
+     * Returns a string representation of the LargeSpiderWeb, including its current level, index, size, and maximum elements per level.
+     *
+     * @return A string representation of the LargeSpiderWeb.
+     */
+    @Override
+    public String toString() {
+        return "LargeSpiderWeb{" +
+                "level=" + this.getLevel() +
+                ", index=" + this.getIndex() +
+                ", size=" + this.size +
+                ", maxElementPerLevel=" + this.maxElementPerLevel +
+                '}';
+    }
+
+    private int chunkStart(int chunk) {
+        return chunk == 0 ? this.offset : 0;
+    }
+
+    private int chunkEnd(int chunk) {
+        return (int) Math.min(CHUNK_SIZE, this.offset + this.size - ((long) chunk << CHUNK_SHIFT));
+    }
+
+    private long toPosition(long level, int index) {
+        if (level < 0 || level > this.getLevel() || index < 0 || index >= this.maxElementPerLevel
+                || level * this.maxElementPerLevel + index >= this.size) {
+            throw new IllegalArgumentException("Invalid level or index. Level: " + level + ", Index: " + index);
+        }
+        return level * this.maxElementPerLevel + index;
+    }
+
+    private HashMap<String, Long> toLevelAndIndex(long position) {
+        HashMap<String, Long> hashMap = new HashMap<>();
+        hashMap.put("level", position / this.maxElementPerLevel);
+        hashMap.put("index", position % this.maxElementPerLevel);
+        return hashMap;
+    }
+}
@@ -0,0 +1,458 @@
+package com.spiderweb;
+
+import java.util.DoubleSummaryStatistics;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * The {@code LevelAggregates} class keeps count, sum, minimum and maximum summaries for every
+ * level of a SpiderWeb, plus a second tier of summaries covering groups of
+ * {@value #LEVELS_PER_GROUP} levels. Summaries are updated incrementally as the SpiderWeb changes.
+ *
+ * <p>Levels are tracked by their absolute slot, which does not move when elements are added or
+ * removed at the beginning of the SpiderWeb. A level of the SpiderWeb therefore spans at most two
+ * tracked slots, which keeps every update local to one slot and one group. An insertion between
+ * two elements, or a removal between them, moves every later element to another slot, so it only
+ * marks the summaries stale and they are rebuilt by the next query. The same happens when an
+ * adaptive SpiderWeb changes its level width and when values are replaced in bulk.
+ *
+ * <p>Null values are not summarized.
+ *
+ * @param <E> the type of elements stored in the SpiderWeb
+ *
+ * @author Milan Savic
+ * @version 1.0
+ * @since October 19, 2026
+ */
+final class LevelAggregates<E> implements SpiderWebListener<E> {
+
+    /**
+     * The number of levels covered by one second-tier summary.
+     */
+    static final int LEVELS_PER_GROUP = 32;
+
+    private final SpiderWeb<E> web;
+    private final ToDoubleFunction<? super E> mapper;
+    private int width;
+    private final LevelTable<Summary> levels = new LevelTable<>();
+    private final LevelTable<Summary> groups = new LevelTable<>();
+    private final Summary total = new Summary();
+    private long firstLevel;
+    private long firstGroup;
+    private long origin;
+    private boolean totalStale;
+    private boolean stale;
+
+    /**
+     * Constructs the summaries for the current contents of the specified SpiderWeb.
+     *
+     * @param web    The SpiderWeb to summarize.
+     * @param mapper The function mapping each non-null element to the summarized value.
+     */
+    LevelAggregates(SpiderWeb<E> web, ToDoubleFunction<? super E> mapper) {
+        this.web = web;
+        this.mapper = mapper;
+        this.rebuild();
+    }
+
+    /**
+     * Returns the function mapping elements to summarized values.
+     *
+     * @return The mapping function.
+     */
+    ToDoubleFunction<? super E> getMapper() {
+        return this.mapper;
+    }
+
+    /**
+     * Returns the estimated heap size of the summaries.
+     *
+     * @return The estimated size in bytes.
+     */
+    long estimateBytes() {
+        final long summaries = (long) this.levels.size() + this.groups.size() + 1;
+        return HeapLayout.shallowBytes(this) + this.levels.estimateBytes() + this.groups.estimateBytes()
+                + summaries * HeapLayout.shallowBytes(this.total);
+    }
+
+    /**
+     * Discards all summaries and recomputes them from the current contents of the SpiderWeb.
+     */
+    void rebuild() {
+        this.reset();
+        this.stale = false;
+        int position = 0;
+        for (SpiderWebNode<E> node = this.web.getFirstNode(); node != null; node = node.getNextNode()) {
+            this.include(this.slotOf(position++), node.getValue());
+        }
+    }
+
+    /**
+     * Returns the summary of all elements in the SpiderWeb.
+     *
+     * @return The summary of all elements.
+     */
+    DoubleSummaryStatistics total() {
+        if (this.stale) {
+            this.rebuild();
+        }
+        if (this.totalStale) {
+            this.total.clearExtremes();
+            for (int i = 0; i < this.groups.size(); i++) {
+                this.total.mergeExtremes(this.groups.get(i));
+            }
+            this.totalStale = false;
+        }
+        return this.total.toStatistics();
+    }
+
+    /**
+     * Returns the summary of the elements between two positions, both inclusive.
+     *
+     * @param from The position of the first summarized element.
+     * @param to   The position of the last summarized element.
+     * @return The summary of the elements in the range.
+     */
+    DoubleSummaryStatistics range(int from, int to) {
+        if (this.stale) {
+            this.rebuild();
+        }
+        final Summary result = new Summary();
+        final long fromSlot = this.slotOf(from);
+        final long toSlot = this.slotOf(to);
+        final long fromLevel = this.levelOf(fromSlot);
+        final long toLevel = this.levelOf(toSlot);
+
+        if (fromLevel == toLevel) {
+            this.scanForward(result, this.web.nodeAt(from), to - from + 1);
+            return result.toStatistics();
+        }
+
+        this.scanForward(result, this.web.nodeAt(from), (int) ((fromLevel + 1) * this.width - fromSlot));
+        this.scanBackward(result, this.web.nodeAt(to), (int) (toSlot - toLevel * this.width + 1));
+
+        long level = fromLevel + 1;
+        while (level < toLevel) {
+            if (Math.floorMod(level, LEVELS_PER_GROUP) == 0 && level + LEVELS_PER_GROUP <= toLevel) {
+                result.merge(this.groups.get((int) (Math.floorDiv(level, LEVELS_PER_GROUP) - this.firstGroup)));
+                level += LEVELS_PER_GROUP;
+            } else {
+                result.merge(this.levels.get((int) (level - this.firstLevel)));
+                level++;
+            }
+        }
+        return result.toStatistics();
+    }
+
+    @Override
+    public void nodeAdded(SpiderWebNode<E> node) {
+        if (this.stale) {
+            return;
+        }
+        this.include(this.slotOf(this.web.size() - 1), node.getValue());
+    }
+
+    @Override
+    public void nodeAddedFirst(SpiderWebNode<E> node) {
+        if (this.stale) {
+            return;
+        }
+        this.origin--;
+        this.include(this.origin, node.getValue());
+    }
+
+    @Override
+    public void nodeInserted(SpiderWebNode<E> node, int position) {
+        this.stale = true;
+    }
+
+    @Override
+    public void nodeRemoved(SpiderWebNode<E> successor, int position, E value) {
+        this.stale = true;
+    }
+
+    @Override
+    public void valueSet(SpiderWebNode<E> node, int position, E oldValue) {
+        if (this.stale) {
+            return;
+        }
+        final long slot = this.slotOf(position);
+        if (oldValue != null) {
+            this.exclude(slot, this.mapper.applyAsDouble(oldValue), node, slot);
+        }
+        this.include(slot, node.getValue());
+    }
+
+    @Override
+    public void firstRemoved(E value) {
+        if (this.stale) {
+            return;
+        }
+        final long slot = this.origin++;
+        if (value != null) {
+            this.exclude(slot, this.mapper.applyAsDouble(value), this.web.getFirstNode(), this.origin);
+        }
+        this.trim();
+    }
+
+    @Override
+    public void firstRemoved(SpiderWebNode<E> head, int count) {
+        this.stale = true;
+    }
+
+    @Override
+    public void lastRemoved(E value) {
+        if (this.stale) {
+            return;
+        }
+        final long slot = this.slotOf(this.web.size());
+        if (value != null) {
+            this.exclude(slot, this.mapper.applyAsDouble(value), this.web.getLastNode(), slot - 1);
+        }
+        this.trim();
+    }
+
+    @Override
+    public void nodesRemoved(int from) {
+        this.stale = true;
+    }
+
+    @Override
+    public void cleared() {
+        this.reset();
+        this.stale = false;
+    }
+
+    @Override
+    public void valuesReplaced() {
+        this.stale = true;
+    }
+
+    @Override
+    public void levelWidthChanged() {
+        this.stale = true;
+    }
+
+    private void reset() {
+        this.width = this.web.getMaxElementPerLevel();
+        this.levels.clear();
+        this.groups.clear();
+        this.total.clear();
+        this.origin = 0;
+        this.totalStale = false;
+    }
+
+    private long slotOf(int position) {
+        return this.origin + position;
+    }
+
+    private long levelOf(long slot) {
+        return Math.floorDiv(slot, this.width);
+    }
+
+    private Summary level(long level) {
+        if (this.levels.size() == 0) {
+            this.firstLevel = level;
+            this.levels.addLast(new Summary());
+        } else if (level < this.firstLevel) {
+            this.firstLevel--;
+            this.levels.addFirst(new Summary());
+        } else if (level >= this.firstLevel + this.levels.size()) {
+            this.levels.addLast(new Summary());
+        }
+        return this.levels.get((int) (level - this.firstLevel));
+    }
+
+    private Summary group(long group) {
+        if (this.groups.size() == 0) {
+            this.firstGroup = group;
+            this.groups.addLast(new Summary());
+        } else if (group < this.firstGroup) {
+            this.firstGroup--;
+            this.groups.addFirst(new Summary());
+        } else if (group >= this.firstGroup + this.groups.size()) {
+            this.groups.addLast(new Summary());
+        }
+        return this.groups.get((int) (group - this.firstGroup));
+    }
+
+    private void include(long slot, E value) {
+        final long level = this.levelOf(slot);
+        final Summary levelSummary = this.level(level);
+        final Summary groupSummary = this.group(Math.floorDiv(level, LEVELS_PER_GROUP));
+        if (value == null) {
+            return;
+        }
+        final double x = this.mapper.applyAsDouble(value);
+        levelSummary.add(x);
+        groupSummary.add(x);
+        this.total.add(x);
+    }
+
+    /**
+     * Removes a value from the summaries of a slot. When the value was an extreme of its level,
+     * the level is rescanned starting from {@code node}, which sits at {@code nodeSlot}.
+     */
+    private void exclude(long slot, double x, SpiderWebNode<E> node, long nodeSlot) {
+        final long level = this.levelOf(slot);
+        final long group = Math.floorDiv(level, LEVELS_PER_GROUP);
+        final Summary levelSummary = this.levels.get((int) (level - this.firstLevel));
+        final Summary groupSummary = this.groups.get((int) (group - this.firstGroup));
+        final boolean extreme = levelSummary.isExtreme(x);
+
+        levelSummary.remove(x);
+        if (extreme) {
+            this.rescanExtremes(levelSummary, level, node, nodeSlot);
+        }
+
+        groupSummary.remove(x);
+        if (extreme && groupSummary.isExtreme(x)) {
+            this.recomputeExtremes(groupSummary, group);
+        }
+
+        this.total.remove(x);
+        if (this.total.isExtreme(x)) {
+            this.totalStale = true;
+        }
+    }
+
+    private void rescanExtremes(Summary summary, long level, SpiderWebNode<E> node, long nodeSlot) {
+        summary.clearExtremes();
+        if (node == null || this.levelOf(nodeSlot) != level) {
+            return;
+        }
+        final long start = level * this.width;
+        final long end = start + this.width - 1;
+        SpiderWebNode<E> current = node;
+        for (long slot = nodeSlot; current != null && slot >= start; slot--) {
+            this.addExtremes(summary, current);
+            current = current.getPrevNode();
+        }
+        current = node.getNextNode();
+        for (long slot = nodeSlot + 1; current != null && slot <= end; slot++) {
+            this.addExtremes(summary, current);
+            current = current.getNextNode();
+        }
+    }
+
+    private void recomputeExtremes(Summary summary, long group) {
+        summary.clearExtremes();
+        final long start = Math.max(group * LEVELS_PER_GROUP, this.firstLevel);
+        final long end = Math.min((group + 1) * LEVELS_PER_GROUP, this.firstLevel + this.levels.size());
+        for (long level = start; level < end; level++) {
+            summary.mergeExtremes(this.levels.get((int) (level - this.firstLevel)));
+        }
+    }
+
+    /**
+     * Drops the level and group summaries that no longer cover any element.
+     */
+    private void trim() {
+        if (this.web.size() == 0) {
+            this.reset();
+            return;
+        }
+        final long headLevel = this.levelOf(this.origin);
+        final long tailLevel = this.levelOf(this.slotOf(this.web.size() - 1));
+        while (this.firstLevel < headLevel) {
+            this.levels.removeFirst();
+            this.firstLevel++;
+        }
+        while (this.firstLevel + this.levels.size() - 1 > tailLevel) {
+            this.levels.removeLast();
+        }
+        final long headGroup = Math.floorDiv(headLevel, LEVELS_PER_GROUP);
+        final long tailGroup = Math.floorDiv(tailLevel, LEVELS_PER_GROUP);
+        while (this.firstGroup < headGroup) {
+            this.groups.removeFirst();
+            this.firstGroup++;
+        }
+        while (this.firstGroup + this.groups.size() - 1 > tailGroup) {
+            this.groups.removeLast();
+        }
+    }
+
+    private void scanForward(Summary summary, SpiderWebNode<E> node, int count) {
+        for (int i = 0; i < count && node != null; i++) {
+            this.add(summary, node);
+            node = node.getNextNode();
+        }
+    }
+
+    private void scanBackward(Summary summary, SpiderWebNode<E> node, int count) {
+        for (int i = 0; i < count && node != null; i++) {
+            this.add(summary, node);
+            node = node.getPrevNode();
+        }
+    }
+
+    private void add(Summary summary, SpiderWebNode<E> node) {
+        if (node.getValue() != null) {
+            summary.add(this.mapper.applyAsDouble(node.getValue()));
+        }
+    }
+
+    private void addExtremes(Summary summary, SpiderWebNode<E> node) {
+        if (node.getValue() != null) {
+            summary.addExtremes(this.mapper.applyAsDouble(node.getValue()));
+        }
+    }
+
+    /**
+     * A mutable count, sum, minimum and maximum of summarized values.
+     */
+    private static final class Summary {
+        private long count;
+        private double sum;
+        private double min = Double.POSITIVE_INFINITY;
+        private double max = Double.NEGATIVE_INFINITY;
+
+        void add(double x) {
+            this.count++;
+            this.sum += x;
+            this.addExtremes(x);
+        }
+
+        void remove(double x) {
+            this.count--;
+            this.sum -= x;
+            if (this.count == 0) {
+                this.clear();
+            }
+        }
+
+        void merge(Summary other) {
+            this.count += other.count;
+            this.sum += other.sum;
+            this.mergeExtremes(other);
+        }
+
+        boolean isExtreme(double x) {
+            return this.count > 0 && (x <= this.min || x >= this.max);
+        }
+
+        void addExtremes(double x) {
+            this.min = Math.min(this.min, x);
+            this.max = Math.max(this.max, x);
+        }
+
+        void mergeExtremes(Summary other) {
+            this.min = Math.min(this.min, other.min);
+            this.max = Math.max(this.max, other.max);
+        }
+
+        void clearExtremes() {
+            this.min = Double.POSITIVE_INFINITY;
+            this.max = Double.NEGATIVE_INFINITY;
+        }
+
+        void clear() {
+            this.count = 0;
+            this.sum = 0;
+            this.clearExtremes();
+        }
+
+        DoubleSummaryStatistics toStatistics() {
+            return new DoubleSummaryStatistics(this.count, this.min, this.max, this.sum);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.spiderweb;
+
+/**
+ * The {@code LevelDirectory} class keeps a direct reference to every {@value #STRIDE}th node of a
+ * SpiderWeb, so that the node at any position is found by one table lookup followed by a walk of at
+ * most half a stride, whatever the size and the level width of the SpiderWeb.
+ *
+ * <p>Like {@link LevelAggregates}, the directory addresses elements by their absolute slot, which
+ * does not move when elements are added or removed at the beginning of the SpiderWeb. The table
+ * holds the node at every slot that is a multiple of the stride, so adding or removing an element at
+ * either end touches at most one entry. An insertion or a removal between two elements shifts the
+ * entries after it by one node each.
+ *
+ * @param <E> the type of elements stored in the SpiderWeb
+ *
+ * @author Milan Savic
+ * @version 1.0
+ * @since October 19, 2026
+ */
+final class LevelDirectory<E> implements SpiderWebListener<E> {
+
+    /**
+     * The number of slots between two referenced nodes.
+     */
+    static final int STRIDE = 8;
+
+    private final SpiderWeb<E> web;
+    private final LevelTable<SpiderWebNode<E>> heads = new LevelTable<>();
+    private long origin;
+    private long firstHead;
+
+    /**
+     * Constructs the directory for the current contents of the specified SpiderWeb.
+     *
+     * @param web The SpiderWeb to index.
+     */
+    LevelDirectory(SpiderWeb<E> web) {
+        this.web = web;
+        this.rebuild();
+    }
+
+    /**
+     * Returns the estimated heap size of the directory, not counting the nodes it references.
+     *
+     * @return The estimated size in bytes.
+     */
+    long estimateBytes() {
+        return HeapLayout.shallowBytes(this) + this.heads.estimateBytes();
+    }
+
+    /**
+     * Discards the directory and recomputes it from the current contents of the SpiderWeb.
+     */
+    void rebuild() {
+        this.reset();
+        long slot = 0;
+        for (SpiderWebNode<E> node = this.web.getFirstNode(); node != null; node = node.getNextNode()) {
+            this.addHeadIfAligned(slot++, node);
+        }
+    }
+
+    /**
+     * Returns the node at the specified position, counted from the first element.
+     *
+     * @param position The position of the node (between 0 and size - 1).
+     * @return The node at the specified position.
+     */
+    SpiderWebNode<E> nodeAt(int position) {
+        final long slot = this.origin + position;
+        final long head = Math.floorDiv(slot, STRIDE);
+        if (this.heads.size() == 0 || head < this.firstHead) {
+            SpiderWebNode<E> node = this.web.getFirstNode();
+            for (int i = 0; i < position; i++) {
+                node = node.getNextNode();
+            }
+            return node;
+        }
+
+        final int offset = (int) (slot - head * STRIDE);
+        final int next = (int) (head - this.firstHead + 1);
+        if (offset > STRIDE / 2 && next < this.heads.size()) {
+            SpiderWebNode<E> node = this.heads.get(next);
+            for (int i = offset; i < STRIDE; i++) {
+                node = node.getPrevNode();
+            }
+            return node;
+        }
+        SpiderWebNode<E> node = this.heads.get(next - 1);
+        for (int i = 0; i < offset; i++) {
+            node = node.getNextNode();
+        }
+        return node;
+    }
+
+    @Override
+    public void nodeAdded(SpiderWebNode<E> node) {
+        this.addHeadIfAligned(this.origin + this.web.size() - 1, node);
+    }
+
+    @Override
+    public void nodeAddedFirst(SpiderWebNode<E> node) {
+        this.origin--;
+        if (Math.floorMod(this.origin, STRIDE) == 0) {
+            this.heads.addFirst(node);
+            this.firstHead = Math.floorDiv(this.origin, STRIDE);
+        }
+    }
+
+    @Override
+    public void nodeInserted(SpiderWebNode<E> node, int position) {
+        // Every head at or after the inserted position is now held by the node before it.
+        final long slot = this.origin + position;
+        for (int i = this.heads.size() - 1; i >= 0 && (this.firstHead + i) * STRIDE >= slot; i--) {
+            this.heads.set(i, this.heads.get(i).getPrevNode());
+        }
+        this.addHeadIfAligned(this.origin + this.web.size() - 1, this.web.getLastNode());
+    }
+
+    @Override
+    public void nodeRemoved(SpiderWebNode<E> successor, int position, E value) {
+        if (this.heads.size() > 0 && Math.floorMod(this.origin + this.web.size(), STRIDE) == 0) {
+            this.heads.removeLast();
+        }
+        // Every head after the removed position is now held by the node after it.
+        final long slot = this.origin + position;
+        for (int i = this.heads.size() - 1; i >= 0 && (this.firstHead + i) * STRIDE >= slot; i--) {
+            final long headSlot = (this.firstHead + i) * STRIDE;
+            this.heads.set(i, headSlot == slot ? successor : this.heads.get(i).getNextNode());
+        }
+    }
+
+    @Override
+    public void firstRemoved(E value) {
+        if (Math.floorMod(this.origin, STRIDE) == 0) {
+            this.heads.removeFirst();
+            this.firstHead++;
+        }
+        this.origin++;
+    }
+
+    @Override
+    public void firstRemoved(SpiderWebNode<E> head, int count) {
+        final long removedHeads = Math.floorDiv(this.origin + count - 1, STRIDE) - Math.floorDiv(this.origin - 1, STRIDE);
+        for (long i = 0; i < removedHeads; i++) {
+            this.heads.removeFirst();
+            this.firstHead++;
+        }
+        this.origin += count;
+    }
+
+    @Override
+    public void lastRemoved(E value) {
+        if (Math.floorMod(this.origin + this.web.size(), STRIDE) == 0) {
+            this.heads.removeLast();
+        }
+    }
+
+    @Override
+    public void nodesRemoved(int from) {
+        // Heads at or after the first removed position are dropped and found again from the last kept one.
+        final long slot = this.origin + from;
+        while (this.heads.size() > 0 && (this.firstHead + this.heads.size() - 1) * STRIDE >= slot) {
+            this.heads.removeLast();
+        }
+        SpiderWebNode<E> node;
+        long nodeSlot;
+        if (this.heads.size() == 0) {
+            node = this.web.getFirstNode();
+            nodeSlot = this.origin;
+            this.addHeadIfAligned(nodeSlot, node);
+        } else {
+            node = this.heads.get(this.heads.size() - 1);
+            nodeSlot = (this.firstHead + this.heads.size() - 1) * STRIDE;
+        }
+        for (node = node.getNextNode(), nodeSlot++; node != null; node = node.getNextNode(), nodeSlot++) {
+            this.addHeadIfAligned(nodeSlot, node);
+        }
+    }
+
+    @Override
+    public void cleared() {
+        this.reset();
+    }
+
+    private void reset() {
+        this.heads.clear();
+        this.origin = 0;
+        this.firstHead = 0;
+    }
+
+    private void addHeadIfAligned(long slot, SpiderWebNode<E> node) {
+        if (Math.floorMod(slot, STRIDE) != 0) {
+            return;
+        }
+        if (this.heads.size() == 0) {
+            this.firstHead = Math.floorDiv(slot, STRIDE);
+        }
+        this.heads.addLast(node);
+    }
+}
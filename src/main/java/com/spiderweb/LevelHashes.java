@@ -0,0 +1,280 @@
+package com.spiderweb;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The {@code LevelHashes} class keeps a 64-bit content hash for every level of a SpiderWeb, a second
+ * tier of hashes covering groups of {@value #LEVELS_PER_GROUP} levels, and a root hash over the
+ * groups, in the manner of a Merkle tree. Two SpiderWebs with the same level width whose level
+ * hashes match hold, with overwhelming probability, the same elements in those levels.
+ *
+ * <p>The hash of a level is the sum of a mixed hash of every element combined with its index in the
+ * level, and the hash of a group is a weighted sum of the hashes of its levels. Both are therefore
+ * updated in constant time when an element is appended, replaced or removed from the end. A change
+ * that moves elements to other positions, such as an insertion, a removal between two elements or a
+ * change at the beginning of the SpiderWeb, marks every level from the affected one onwards stale,
+ * and they are rehashed by the next query. Only the root is recomputed on every query after a change,
+ * from the group hashes.
+ *
+ * @param <E> the type of elements stored in the SpiderWeb
+ *
+ * @author Milan Savic
+ * @version 1.0
+ * @since October 19, 2026
+ */
+final class LevelHashes<E> implements SpiderWebListener<E> {
+
+    /**
+     * The number of levels covered by one group hash.
+     */
+    static final int LEVELS_PER_GROUP = 32;
+
+    private static final long[] WEIGHTS = new long[LEVELS_PER_GROUP];
+
+    static {
+        for (int i = 0; i < LEVELS_PER_GROUP; i++) {
+            WEIGHTS[i] = mix(i + 1) | 1;
+        }
+    }
+
+    private final SpiderWeb<E> web;
+    private int width;
+    private long[] levels = new long[8];
+    private long[] groups = new long[1];
+    private int dirtyFrom;
+    private long root;
+    private boolean rootStale;
+
+    /**
+     * Constructs the hashes for the current contents of the specified SpiderWeb.
+     *
+     * @param web The SpiderWeb to hash.
+     */
+    LevelHashes(SpiderWeb<E> web) {
+        this.web = web;
+        this.width = web.getMaxElementPerLevel();
+        this.dirtyFrom = 0;
+        this.refresh();
+    }
+
+    /**
+     * Returns the estimated heap size of the hashes.
+     *
+     * @return The estimated size in bytes.
+     */
+    long estimateBytes() {
+        return HeapLayout.shallowBytes(this) + HeapLayout.shallowBytes(this.levels) + HeapLayout.shallowBytes(this.groups);
+    }
+
+    /**
+     * Returns the level width the hashes were computed for.
+     *
+     * @return The level width.
+     */
+    int width() {
+        this.refresh();
+        return this.width;
+    }
+
+    /**
+     * Returns the root hash, covering the level width, the size and every element of the SpiderWeb.
+     *
+     * @return The root hash.
+     */
+    long root() {
+        this.refresh();
+        if (this.rootStale) {
+            long hash = mix(((long) this.width << 32) ^ this.web.size());
+            final int groupCount = this.groupCount();
+            for (int group = 0; group < groupCount; group++) {
+                hash = mix(hash ^ this.groups[group]) + group;
+            }
+            this.root = mix(hash);
+            this.rootStale = false;
+        }
+        return this.root;
+    }
+
+    /**
+     * Returns the hash of the specified level.
+     *
+     * @param level The level, which must exist in the SpiderWeb.
+     * @return The hash of the level.
+     */
+    long level(int level) {
+        this.refresh();
+        return this.levels[level];
+    }
+
+    /**
+     * Returns the hash of the specified group of levels.
+     *
+     * @param group The group, which must cover at least one level of the SpiderWeb.
+     * @return The hash of the group.
+     */
+    long group(int group) {
+        this.refresh();
+        return this.groups[group];
+    }
+
+    /**
+     * Returns the number of levels of the SpiderWeb.
+     *
+     * @return The number of levels.
+     */
+    int levelCount() {
+        this.refresh();
+        return (this.web.size() + this.width - 1) / this.width;
+    }
+
+    /**
+     * Returns the number of groups of levels of the SpiderWeb.
+     *
+     * @return The number of groups.
+     */
+    int groupCount() {
+        return (this.levelCount() + LEVELS_PER_GROUP - 1) / LEVELS_PER_GROUP;
+    }
+
+    @Override
+    public void nodeAdded(SpiderWebNode<E> node) {
+        final int position = this.web.size() - 1;
+        this.update(position, elementHash(node.getValue(), position % this.width));
+    }
+
+    @Override
+    public void nodeAddedFirst(SpiderWebNode<E> node) {
+        this.invalidate(0);
+    }
+
+    @Override
+    public void nodeInserted(SpiderWebNode<E> node, int position) {
+        this.invalidate(position);
+    }
+
+    @Override
+    public void nodeRemoved(SpiderWebNode<E> successor, int position, E value) {
+        this.invalidate(position);
+    }
+
+    @Override
+    public void valueSet(SpiderWebNode<E> node, int position, E oldValue) {
+        final int index = position % this.width;
+        this.update(position, elementHash(node.getValue(), index) - elementHash(oldValue, index));
+    }
+
+    @Override
+    public void firstRemoved(E value) {
+        this.invalidate(0);
+    }
+
+    @Override
+    public void firstRemoved(SpiderWebNode<E> head, int count) {
+        this.invalidate(0);
+    }
+
+    @Override
+    public void lastRemoved(E value) {
+        final int position = this.web.size();
+        this.update(position, -elementHash(value, position % this.width));
+    }
+
+    @Override
+    public void nodesRemoved(int from) {
+        this.invalidate(from);
+    }
+
+    @Override
+    public void cleared() {
+        this.width = this.web.getMaxElementPerLevel();
+        Arrays.fill(this.levels, 0);
+        Arrays.fill(this.groups, 0);
+        this.dirtyFrom = Integer.MAX_VALUE;
+        this.rootStale = true;
+    }
+
+    @Override
+    public void valuesReplaced() {
+        this.invalidate(0);
+    }
+
+    @Override
+    public void levelWidthChanged() {
+        this.invalidate(0);
+    }
+
+    /**
+     * Adds {@code delta} to the hash of the level holding {@code position} and to the hash of its
+     * group, unless the level is already stale.
+     */
+    private void update(int position, long delta) {
+        this.rootStale = true;
+        final int level = position / this.width;
+        if (level >= this.dirtyFrom) {
+            return;
+        }
+        this.ensureCapacity(level);
+        this.levels[level] += delta;
+        this.groups[level / LEVELS_PER_GROUP] += delta * WEIGHTS[level % LEVELS_PER_GROUP];
+    }
+
+    private void invalidate(int position) {
+        this.rootStale = true;
+        this.dirtyFrom = Math.min(this.dirtyFrom, position / this.width);
+    }
+
+    /**
+     * Rehashes every stale level from the elements of the SpiderWeb.
+     */
+    private void refresh() {
+        if (this.dirtyFrom == Integer.MAX_VALUE) {
+            return;
+        }
+        if (this.dirtyFrom == 0) {
+            this.width = this.web.getMaxElementPerLevel();
+        }
+        final int from = this.dirtyFrom;
+        this.ensureCapacity(from);
+        final int firstGroup = from / LEVELS_PER_GROUP;
+        Arrays.fill(this.levels, from, this.levels.length, 0);
+        Arrays.fill(this.groups, firstGroup, this.groups.length, 0);
+        for (int level = firstGroup * LEVELS_PER_GROUP; level < from; level++) {
+            this.groups[firstGroup] += this.levels[level] * WEIGHTS[level % LEVELS_PER_GROUP];
+        }
+        this.dirtyFrom = Integer.MAX_VALUE;
+        this.rootStale = true;
+
+        int position = from * this.width;
+        if (position >= this.web.size()) {
+            return;
+        }
+        SpiderWebNode<E> node = from == 0 ? this.web.getFirstNode() : this.web.nodeAt(position);
+        for (; node != null; node = node.getNextNode(), position++) {
+            this.update(position, elementHash(node.getValue(), position % this.width));
+        }
+    }
+
+    private void ensureCapacity(int level) {
+        if (level >= this.levels.length) {
+            this.levels = Arrays.copyOf(this.levels, Math.max(level + 1, this.levels.length * 2));
+        }
+        final int group = level / LEVELS_PER_GROUP;
+        if (group >= this.groups.length) {
+            this.groups = Arrays.copyOf(this.groups, Math.max(group + 1, this.groups.length * 2));
+        }
+    }
+
+    private static long elementHash(Object value, int index) {
+        return mix(((long) Objects.hashCode(value) << 32) ^ index);
+    }
+
+    /**
+     * The 64-bit finalizer of SplitMix64, spreading every input bit over the whole result.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,137 @@
+package com.spiderweb;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntBinaryOperator;
+import java.util.function.ToIntFunction;
+
+/**
+ * The {@code LevelSegments} class splits a SpiderWeb into runs of whole levels and processes the
+ * runs on a {@link ForkJoinPool}. The runs are found by following the level links from the first
+ * node, so splitting costs one step per level rather than one per element, and every run is then
+ * scanned through its {@code nextNode} chain by a single worker.
+ *
+ * @author Milan Savic
+ * @version 1.0
+ * @since October 19, 2026
+ */
+final class LevelSegments {
+
+    /**
+     * The smallest number of elements given to one worker.
+     */
+    static final int MIN_SEGMENT_SIZE = 1 << 12;
+
+    /**
+     * The number of segments created per worker thread, so that uneven segments balance out.
+     */
+    static final int SEGMENTS_PER_THREAD = 4;
+
+    private LevelSegments() {
+    }
+
+    /**
+     * A run of consecutive elements starting at a level head.
+     *
+     * @param <E> the type of elements stored in the SpiderWeb
+     */
+    static final class Segment<E> {
+        final SpiderWebNode<E> start;
+        final int position;
+        final int length;
+
+        Segment(SpiderWebNode<E> start, int position, int length) {
+            this.start = start;
+            this.position = position;
+            this.length = length;
+        }
+    }
+
+    /**
+     * Splits the specified SpiderWeb into segments of whole levels, sealing it first if it is being
+     * bulk-loaded.
+     *
+     * @param web  The SpiderWeb to split.
+     * @param pool The pool the segments will be processed on.
+     * @param <E>  The type of elements stored in the SpiderWeb.
+     * @return The segments in position order, covering every element exactly once.
+     */
+    static <E> List<Segment<E>> split(SpiderWeb<E> web, ForkJoinPool pool) {
+        web.seal();
+        final int size = web.size();
+        final int target = Math.max(MIN_SEGMENT_SIZE,
+                (int) Math.ceil((double) size / (pool.getParallelism() * SEGMENTS_PER_THREAD)));
+        final List<Segment<E>> segments = new ArrayList<>();
+        SpiderWebNode<E> node = web.getFirstNode();
+        int position = 0;
+        while (node != null) {
+            final SpiderWebNode<E> start = node;
+            final int startPosition = position;
+            while (node != null && position - startPosition < target) {
+                final int stride = web.levelStride(position);
+                node = node.getNextLevelNode();
+                position += stride;
+            }
+            final int end = node == null ? size : position;
+            segments.add(new Segment<>(start, startPosition, end - startPosition));
+        }
+        return segments;
+    }
+
+    /**
+     * Visits every segment of the SpiderWeb on the specified pool and combines the results.
+     *
+     * @param web      The SpiderWeb to process.
+     * @param pool     The pool to process the segments on.
+     * @param visitor  The function processing one segment.
+     * @param combiner The function combining the results of two groups of segments.
+     * @param identity The result for a SpiderWeb without elements.
+     * @param <E>      The type of elements stored in the SpiderWeb.
+     * @return The combined result of all segments.
+     */
+    static <E> int process(SpiderWeb<E> web, ForkJoinPool pool, ToIntFunction<Segment<E>> visitor,
+                           IntBinaryOperator combiner, int identity) {
+        final List<Segment<E>> segments = split(web, pool);
+        if (segments.isEmpty()) {
+            return identity;
+        }
+        if (segments.size() == 1) {
+            return visitor.applyAsInt(segments.get(0));
+        }
+        return pool.invoke(new SegmentTask<>(segments, 0, segments.size(), visitor, combiner));
+    }
+
+    private static final class SegmentTask<E> extends RecursiveTask<Integer> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Segment<E>> segments;
+        private final int from;
+        private final int to;
+        private final ToIntFunction<Segment<E>> visitor;
+        private final IntBinaryOperator combiner;
+
+        SegmentTask(List<Segment<E>> segments, int from, int to,
+                    ToIntFunction<Segment<E>> visitor, IntBinaryOperator combiner) {
+            this.segments = segments;
+            this.from = from;
+            this.to = to;
+            this.visitor = visitor;
+            this.combiner = combiner;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (this.to - this.from == 1) {
+                return this.visitor.applyAsInt(this.segments.get(this.from));
+            }
+            final int middle = (this.from + this.to) >>> 1;
+            final SegmentTask<E> left = new SegmentTask<>(this.segments, this.from, middle, this.visitor, this.combiner);
+            final SegmentTask<E> right = new SegmentTask<>(this.segments, middle, this.to, this.visitor, this.combiner);
+            left.fork();
+            final int rightResult = right.compute();
+            return this.combiner.applyAsInt(left.join(), rightResult);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.spiderweb;
+
+import java.util.NoSuchElementException;
+
+/**
+ * The {@code LevelTable} class is a growable circular array used to keep per-level
+ * bookkeeping for a SpiderWeb. Entries can be added and removed at both ends in constant
+ * amortized time and are addressed by their offset from the first entry.
+ *
+ * @param <T> the type of entries stored in the table
+ *
+ * @author Milan Savic
+ * @version 1.0
+ * @since October 19, 2026
+ */
+final class LevelTable<T> {
+
+    /**
+     * The initial capacity of the backing array.
+     */
+    private static final int INITIAL_CAPACITY = 8;
+
+    private Object[] entries = new Object[INITIAL_CAPACITY];
+    private int head;
+    private int size;
+
+    /**
+     * Returns the number of entries in the table.
+     *
+     * @return The number of entries in the table.
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the estimated heap size of the table and its backing array, not counting the entries.
+     *
+     * @return The estimated size in bytes.
+     */
+    long estimateBytes() {
+        return HeapLayout.shallowBytes(this) + HeapLayout.shallowBytes(this.entries);
+    }
+
+    /**
+     * Returns the entry at the specified offset from the first entry.
+     *
+     * @param offset The offset of the entry.
+     * @return The entry at the specified offset.
+     * @throws IndexOutOfBoundsException If the offset is outside the table.
+     */
+    @SuppressWarnings("unchecked")
+    T get(int offset) {
+        this.checkOffset(offset);
+        return (T) this.entries[this.slot(offset)];
+    }
+
+    /**
+     * Replaces the entry at the specified offset from the first entry.
+     *
+     * @param offset The offset of the entry.
+     * @param entry  The new entry.
+     * @throws IndexOutOfBoundsException If the offset is outside the table.
+     */
+    void set(int offset, T entry) {
+        this.checkOffset(offset);
+        this.entries[this.slot(offset)] = entry;
+    }
+
+    /**
+     * Inserts an entry before the first entry.
+     *
+     * @param entry The entry to insert.
+     */
+    void addFirst(T entry) {
+        this.ensureCapacity();
+        this.head = (this.head - 1 + this.entries.length) % this.entries.length;
+        this.entries[this.head] = entry;
+        this.size++;
+    }
+
+    /**
+     * Appends an entry after the last entry.
+     *
+     * @param entry The entry to append.
+     */
+    void addLast(T entry) {
+        this.ensureCapacity();
+        this.entries[this.slot(this.size)] = entry;
+        this.size++;
+    }
+
+    /**
+     * Removes and returns the first entry.
+     *
+     * @return The removed entry.
+     * @throws NoSuchElementException If the table is empty.
+     */
+    @SuppressWarnings("unchecked")
+    T removeFirst() {
+        if (this.size == 0) {
+            throw new NoSuchElementException("Cannot remove from an empty LevelTable.");
+        }
+        final T entry = (T) this.entries[this.head];
+        this.entries[this.head] = null;
+        this.head = (this.head + 1) % this.entries.length;
+        this.size--;
+        return entry;
+    }
+
+    /**
+     * Removes and returns the last entry.
+     *
+     * @return The removed entry.
+     * @throws NoSuchElementException If the table is empty.
+     */
+    @SuppressWarnings("unchecked")
+    T removeLast() {
+        if (this.size == 0) {
+            throw new NoSuchElementException("Cannot remove from an empty LevelTable.");
+        }
+        final int slot = this.slot(this.size - 1);
+        final T entry = (T) this.entries[slot];
+        this.entries[slot] = null;
+        this.size--;
+        return entry;
+    }
+
+    /**
+     * Removes all entries from the table.
+     */
+    void clear() {
+        this.entries = new Object[INITIAL_CAPACITY];
+        this.head = 0;
+        this.size = 0;
+    }
+
+    private int slot(int offset) {
+        return (this.head + offset) % this.entries.length;
+    }
+
+    private void checkOffset(int offset) {
+        if (offset < 0 || offset >= this.size) {
+            throw new IndexOutOfBoundsException("Offset: " + offset + ", Size: " + this.size);
+        }
+    }
+
+    private void ensureCapacity() {
+        if (this.size < this.entries.length) {
+            return;
+        }
+        final Object[] grown = new Object[this.entries.length * 2];
+        for (int i = 0; i < this.size; i++) {
+            grown[i] = this.entries[this.slot(i)];
+        }
+        this.entries = grown;
+        this.head = 0;
+    }
+}
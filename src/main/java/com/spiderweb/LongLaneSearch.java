@@ -0,0 +1,62 @@
+package com.spiderweb;
+
+/**
+ * The {@code LongLaneSearch} interface scans a contiguous range of a {@code long} array for a key.
+ * The implementation returned by {@link #create()} compares a whole vector lane of values at a time
+ * when the {@code jdk.incubator.vector} module is available, and falls back to a scalar loop
+ * otherwise.
+ *
+ * @author Milan Savic
+ * @version 1.0
+ * @since October 19, 2026
+ */
+interface LongLaneSearch {
+
+    /**
+     * Returns the first offset in [from, to) holding the key.
+     *
+     * @param values The values to scan.
+     * @param from   The first offset to scan, inclusive.
+     * @param to     The last offset to scan, exclusive.
+     * @param key    The value to search for.
+     * @return The first offset holding the key, or -1 if there is none.
+     */
+    int indexOf(long[] values, int from, int to, long key);
+
+    /**
+     * Returns the last offset in [from, to) holding the key.
+     *
+     * @param values The values to scan.
+     * @param from   The first offset to scan, inclusive.
+     * @param to     The last offset to scan, exclusive.
+     * @param key    The value to search for.
+     * @return The last offset holding the key, or -1 if there is none.
+     */
+    int lastIndexOf(long[] values, int from, int to, long key);
+
+    /**
+     * Counts the offsets in [from, to) holding the key.
+     *
+     * @param values The values to scan.
+     * @param from   The first offset to scan, inclusive.
+     * @param to     The last offset to scan, exclusive.
+     * @param key    The value to count.
+     * @return The number of offsets holding the key.
+     */
+    int count(long[] values, int from, int to, long key);
+
+    /**
+     * Returns the vectorized search if the {@code jdk.incubator.vector} module has been added to the
+     * running JVM, and the scalar search otherwise.
+     *
+     * @return The fastest search available.
+     */
+    static LongLaneSearch create() {
+        try {
+            return (LongLaneSearch) Class.forName("com.spiderweb.VectorLongLaneSearch")
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return new ScalarLongLaneSearch();
+        }
+    }
+}
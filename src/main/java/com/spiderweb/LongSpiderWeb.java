@@ -0,0 +1,314 @@
+package com.spiderweb;
+
+import java.util.HashMap;
+import java.util.NoSuchElementException;
+
+/**
+ * LongSpiderWeb is a SpiderWeb of primitive {@code long} values. Instead of one node per element,
+ * the values are stored in blocks of {@code maxElementPerLevel} contiguous slots, so elements are
+ * addressed by level and index exactly as in a {@link SpiderWeb} but without boxing and without
+ * per-element node overhead.
+ *
+ * <p>Searches ({@code indexOf}, {@code lastIndexOf}, {@code count} and {@code contains}) sweep the
+ * blocks with the Vector API, comparing a whole lane of values at a time, when the JVM has been
+ * started with {@code --add-modules jdk.incubator.vector}. Otherwise a scalar loop is used. Integer
+ * values can be stored without loss, as every {@code int} widens exactly to a {@code long}.
+ *
+ * <p>Usage Example:
+ * <blockquote><pre>
+ * LongSpiderWeb timestamps = new LongSpiderWeb();
+ * timestamps.add(1700000000000L);
+ * boolean seen = timestamps.contains(1700000000000L);
+ * </pre></blockquote>
+ *
+ * @author Milan Savic
+ * @version 1.0
+ * @since October 19, 2026
+ */
+public class LongSpiderWeb {
+
+    /**
+     * The default number of elements per level. Levels are wider than in a {@link SpiderWeb}
+     * because every level is one contiguous array that is scanned a lane at a time.
+     */
+    public static final int DEFAULT_ELEMENTS_PER_LEVEL = 256;
+
+    private static final LongLaneSearch SEARCH = LongLaneSearch.create();
+
+    private final int maxElementPerLevel;
+    private final LevelTable<long[]> blocks = new LevelTable<>();
+    private int offset;
+    private int size;
+
+    /**
+     * Constructs a LongSpiderWeb with the default number of elements per level
+     * ({@value #DEFAULT_ELEMENTS_PER_LEVEL}).
+     */
+    public LongSpiderWeb() {
+        this(DEFAULT_ELEMENTS_PER_LEVEL);
+    }
+
+    /**
+     * Constructs a LongSpiderWeb with a specified maximum number of elements per level.
+     *
+     * @param maxElementPerLevel The maximum number of elements allowed in each level.
+     * @throws IllegalArgumentException If the number of elements per level is not positive.
+     */
+    public LongSpiderWeb(int maxElementPerLevel) {
+        if (maxElementPerLevel <= 0) {
+            throw new IllegalArgumentException("Invalid maxElementPerLevel: " + maxElementPerLevel);
+        }
+        this.maxElementPerLevel = maxElementPerLevel;
+    }
+
+    /**
+     * Returns whether searches are running on the Vector API rather than the scalar fallback.
+     *
+     * @return True if searches compare a vector lane of values at a time, false otherwise.
+     */
+    public static boolean isVectorized() {
+        return !(SEARCH instanceof ScalarLongLaneSearch);
+    }
+
+    /**
+     * Gets the maximum number of elements allowed in each level of the LongSpiderWeb.
+     *
+     * @return The maximum number of elements per level.
+     */
+    public int getMaxElementPerLevel() {
+        return this.maxElementPerLevel;
+    }
+
+    /**
+     * Gets the last level of the LongSpiderWeb.
+     *
+     * @return The last level of the LongSpiderWeb, or -1 if it is empty.
+     */
+    public int getLevel() {
+        return this.size == 0 ? -1 : (this.size - 1) / this.maxElementPerLevel;
+    }
+
+    /**
+     * Gets the last index of the LongSpiderWeb.
+     *
+     * @return The last index of the LongSpiderWeb, or -1 if it is empty.
+     */
+    public int getIndex() {
+        return this.size == 0 ? -1 : (this.size - 1) % this.maxElementPerLevel;
+    }
+
+    /**
+     * Returns the number of elements in the LongSpiderWeb.
+     *
+     * @return The number of elements in the LongSpiderWeb.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Adds a value to the end of the LongSpiderWeb.
+     *
+     * @param value The value to be added.
+     */
+    public void add(long value) {
+        final int slot = this.offset + this.size;
+        if (slot == this.blocks.size() * this.maxElementPerLevel) {
+            this.blocks.addLast(new long[this.maxElementPerLevel]);
+        }
+        this.blocks.get(slot / this.maxElementPerLevel)[slot % this.maxElementPerLevel] = value;
+        this.size++;
+    }
+
+    /**
+     * Adds a value to the beginning of the LongSpiderWeb.
+     *
+     * @param value The value to be added.
+     */
+    public void addFirst(long value) {
+        if (this.offset == 0) {
+            this.blocks.addFirst(new long[this.maxElementPerLevel]);
+            this.offset = this.maxElementPerLevel;
+        }
+        this.offset--;
+        this.blocks.get(0)[this.offset] = value;
+        this.size++;
+    }
+
+    /**
+     * Returns the value at the specified level and index in the LongSpiderWeb.
+     *
+     * @param level The level of the desired value (non-negative).
+     * @param index The index of the desired value (non-negative).
+     * @return The value at the specified level and index.
+     * @throws IllegalArgumentException If the provided level or index is invalid.
+     */
+    public long get(int level, int index) {
+        final int slot = this.offset + this.toPosition(level, index);
+        return this.blocks.get(slot / this.maxElementPerLevel)[slot % this.maxElementPerLevel];
+    }
+
+    /**
+     * Sets the value at the specified level and index, replacing the existing value.
+     *
+     * @param level The level at which to set the value.
+     * @param index The index within the specified level to set the value.
+     * @param value The new value.
+     * @return The previous value at the specified level and index.
+     * @throws IllegalArgumentException If the provided level or index is invalid.
+     */
+    public long set(int level, int index, long value) {
+        final int slot = this.offset + this.toPosition(level, index);
+        final long[] block = this.blocks.get(slot / this.maxElementPerLevel);
+        final long oldValue = block[slot % this.maxElementPerLevel];
+        block[slot % this.maxElementPerLevel] = value;
+        return oldValue;
+    }
+
+    /**
+     * Removes and returns the first value of the LongSpiderWeb.
+     *
+     * @return The removed value.
+     * @throws NoSuchElementException If the LongSpiderWeb is empty.
+     */
+    public long removeFirst() {
+        if (this.size == 0) {
+            throw new NoSuchElementException("Cannot remove from an empty LongSpiderWeb.");
+        }
+        final long value = this.blocks.get(0)[this.offset];
+        this.offset++;
+        this.size--;
+        if (this.offset == this.maxElementPerLevel || this.size == 0) {
+            this.blocks.removeFirst();
+            this.offset = 0;
+        }
+        return value;
+    }
+
+    /**
+     * Removes and returns the last value of the LongSpiderWeb.
+     *
+     * @return The removed value.
+     * @throws NoSuchElementException If the LongSpiderWeb is empty.
+     */
+    public long removeLast() {
+        if (this.size == 0) {
+            throw new NoSuchElementException("Cannot remove from an empty LongSpiderWeb.");
+        }
+        this.size--;
+        final int slot = this.offset + this.size;
+        final long value = this.blocks.get(slot / this.maxElementPerLevel)[slot % this.maxElementPerLevel];
+        if (slot % this.maxElementPerLevel == 0 || this.size == 0) {
+            this.blocks.removeLast();
+            if (this.size == 0) {
+                this.offset = 0;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Removes all values from the LongSpiderWeb.
+     */
+    public void clear() {
+        this.blocks.clear();
+        this.offset = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Searches for the first occurrence of the specified value and returns its level and index.
+     *
+     * @param value The value to search for.
+     * @return A HashMap containing the level and index of the value.
+     *         If the value is not found, an empty HashMap is returned.
+     */
+    public HashMap<String, Integer> indexOf(long value) {
+        for (int block = 0; block < this.blocks.size(); block++) {
+            final int found = SEARCH.indexOf(this.blocks.get(block), this.blockStart(block), this.blockEnd(block), value);
+            if (found >= 0) {
+                return this.toLevelAndIndex(block * this.maxElementPerLevel + found - this.offset);
+            }
+        }
+        return new HashMap<>();
+    }
+
+    /**
+     * Searches for the last occurrence of the specified value and returns its level and index.
+     *
+     * @param value The value to search for.
+     * @return A HashMap containing the level and index of the last occurrence of the value.
+     *         If the value is not found, an empty HashMap is returned.
+     */
+    public HashMap<String, Integer> lastIndexOf(long value) {
+        for (int block = this.blocks.size() - 1; block >= 0; block--) {
+            final int found = SEARCH.lastIndexOf(this.blocks.get(block), this.blockStart(block), this.blockEnd(block), value);
+            if (found >= 0) {
+                return this.toLevelAndIndex(block * this.maxElementPerLevel + found - this.offset);
+            }
+        }
+        return new HashMap<>();
+    }
+
+    /**
+     * Counts the occurrences of the specified value.
+     *
+     * @param value The value to count.
+     * @return The number of elements equal to the value.
+     */
+    public int count(long value) {
+        int count = 0;
+        for (int block = 0; block < this.blocks.size(); block++) {
+            count += SEARCH.count(this.blocks.get(block), this.blockStart(block), this.blockEnd(block), value);
+        }
+        return count;
+    }
+
+    /**
+     * Checks whether the LongSpiderWeb contains the specified value.
+     *
+     * @param value The value to search for.
+     * @return True if at least one element equals the value, false otherwise.
+     */
+    public boolean contains(long value) {
+        return !this.indexOf(value).isEmpty();
+    }
+
+    /**
+     * Returns a string representation of the LongSpiderWeb, including its current level, index, size, and maximum elements per level.
+     *
+     * @return A string representation of the LongSpiderWeb.
+     */
+    @Override
+    public String toString() {
+        return "LongSpiderWeb{" +
+                "level=" + this.getLevel() +
+                ", index=" + this.getIndex() +
+                ", size=" + this.size +
+                ", maxElementPerLevel=" + this.maxElementPerLevel +
+                '}';
+    }
+
+    private int blockStart(int block) {
+        return block == 0 ? this.offset : 0;
+    }
+
+    private int blockEnd(int block) {
+        return Math.min(this.maxElementPerLevel, this.offset + this.size - block * this.maxElementPerLevel);
+    }
+
+    private int toPosition(int level, int index) {
+        if (level < 0 || level > this.getLevel() || index < 0 || index >= this.maxElementPerLevel
+                || level * this.maxElementPerLevel + index >= this.size) {
+            throw new IllegalArgumentException("Invalid level or index. Level: " + level + ", Index: " + index);
+        }
+        return level * this.maxElementPerLevel + index;
+    }
+
+    private HashMap<String, Integer> toLevelAndIndex(int position) {
+        HashMap<String, Integer> hashMap = new HashMap<>();
+        hashMap.put("level", position / this.maxElementPerLevel);
+        hashMap.put("index", position % this.maxElementPerLevel);
+        return hashMap;
+    }
+}
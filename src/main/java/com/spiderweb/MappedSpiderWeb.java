@@ -0,0 +1,601 @@
+package com.spiderweb;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * MappedSpiderWeb is a SpiderWeb of fixed-width records kept in a memory-mapped file. The file
+ * starts with a header, followed by a level directory holding the file offset of every level, and
+ * the levels themselves, each a block of {@code maxElementPerLevel} record slots. Elements are encoded
+ * into their slots by a {@link SpiderWebCodec}.
+ *
+ * <p>Nothing is loaded onto the heap: opening an existing file reads only its header, and the file
+ * is mapped lazily, {@value #REGION_BYTES} bytes at a time, as its regions are first accessed. So
+ * opening takes the same time whatever the size of the SpiderWeb, and {@code get(level, index)} is one
+ * directory read and one record read from mapped memory.
+ *
+ * <p>Changes are written to mapped memory and reach the file when the operating system flushes it, or
+ * when {@link #force()} or {@link #close()} is called. A MappedSpiderWeb is not crash-atomic: after a
+ * crash without {@code force}, the file may hold a mix of old and new contents. Use a
+ * {@link DurableSpiderWeb} where every change must survive a crash.
+ *
+ * <p>A level block emptied from either end of the SpiderWeb is put on a free list kept in the file,
+ * and is reused for the next level added before the file is extended, so a SpiderWeb used as a
+ * bounded queue keeps a bounded file. A block at the very end of the file is returned to the end
+ * instead. The directory is compacted in place while at most half of it is in use, and only grows
+ * to the end of the file when it is fuller. {@link #clear()} moves the directory back behind the
+ * header and reclaims everything after it.
+ *
+ * <p>Usage Example:
+ * <blockquote><pre>
+ * try (MappedSpiderWeb&lt;Long&gt; ticks = new MappedSpiderWeb&lt;&gt;(Path.of("ticks.web"), Long.BYTES, SpiderWebCodec.longs(), 1024)) {
+ *     ticks.add(1700000000000L);
+ *     long first = ticks.get(0, 0);
+ * }
+ * </pre></blockquote>
+ *
+ * @param <E> the type of elements stored in the MappedSpiderWeb
+ *
+ * @author Milan Savic
+ * @version 1.0
+ * @since October 19, 2026
+ */
+public class MappedSpiderWeb<E> implements Closeable {
+
+    /**
+     * The number of bytes mapped at a time. A level never spans two regions, so a level may take at
+     * most this many bytes.
+     */
+    public static final int REGION_BYTES = 1 << 24;
+
+    private static final int REGION_SHIFT = 24;
+    private static final long REGION_MASK = REGION_BYTES - 1;
+    private static final int MAGIC = 0x53574D46;
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 72;
+    private static final int INITIAL_DIRECTORY_CAPACITY = 64;
+
+    // Header field offsets
+    private static final int RECORD_SIZE_OFFSET = 8;
+    private static final int WIDTH_OFFSET = 12;
+    private static final int SIZE_OFFSET = 16;
+    private static final int HEAD_OFFSET = 24;
+    private static final int DIRECTORY_OFFSET = 32;
+    private static final int DIRECTORY_CAPACITY_OFFSET = 40;
+    private static final int FIRST_ENTRY_OFFSET = 48;
+    private static final int FILE_END_OFFSET = 56;
+    private static final int FREE_BLOCK_OFFSET = 64;
+
+    private final FileChannel channel;
+    private final RecordCodec<E> records;
+    private final int recordSize;
+    private final int maxElementPerLevel;
+    private final int levelBytes;
+    private final int blockBytes;
+    private final List<MappedByteBuffer> regions = new ArrayList<>();
+    private long size;
+    private long head;
+    private long directory;
+    private long directoryCapacity;
+    private long firstEntry;
+    private long fileEnd;
+    private long freeBlock;
+    private boolean closed;
+
+    /**
+     * Opens the MappedSpiderWeb stored in the specified file, creating the file if it does not exist
+     * or is empty. Only the header of an existing file is read.
+     *
+     * @param path               The file holding the MappedSpiderWeb.
+     * @param recordSize         The number of bytes each encoded element may take.
+     * @param codec              The codec encoding elements into records.
+     * @param maxElementPerLevel The maximum number of elements allowed in each level.
+     * @throws IOException              If the file cannot be opened or mapped, or holds a SpiderWeb of
+     *                                  another record size or level width.
+     * @throws IllegalArgumentException If the path or codec is null, the record size or number of
+     *                                  elements per level is not positive, or a level exceeds a region.
+     */
+    public MappedSpiderWeb(Path path, int recordSize, SpiderWebCodec<E> codec, int maxElementPerLevel) throws IOException {
+        if (path == null || codec == null) {
+            throw new IllegalArgumentException("Path and codec cannot be null.");
+        }
+        if (recordSize <= 0 || maxElementPerLevel <= 0) {
+            throw new IllegalArgumentException("Invalid recordSize: " + recordSize + " or maxElementPerLevel: " + maxElementPerLevel);
+        }
+        if ((long) recordSize * maxElementPerLevel > REGION_BYTES) {
+            throw new IllegalArgumentException("A level of " + maxElementPerLevel + " records of " + recordSize
+                    + " bytes exceeds a region of " + REGION_BYTES + " bytes.");
+        }
+        this.recordSize = recordSize;
+        this.maxElementPerLevel = maxElementPerLevel;
+        this.levelBytes = recordSize * maxElementPerLevel;
+        // A free block holds the offset of the next free block, so it is at least one long.
+        this.blockBytes = Math.max(this.levelBytes, Long.BYTES);
+        this.records = new RecordCodec<>(codec, recordSize);
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (this.channel.size() == 0) {
+                this.create();
+            } else {
+                this.load();
+            }
+        } catch (IOException | RuntimeException e) {
+            this.channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the number of bytes each encoded element may take.
+     *
+     * @return The record size in bytes.
+     */
+    public int getRecordSize() {
+        return this.recordSize;
+    }
+
+    /**
+     * Gets the maximum number of elements allowed in each level of the MappedSpiderWeb.
+     *
+     * @return The maximum number of elements per level.
+     */
+    public int getMaxElementPerLevel() {
+        return this.maxElementPerLevel;
+    }
+
+    /**
+     * Gets the last level of the MappedSpiderWeb.
+     *
+     * @return The last level of the MappedSpiderWeb, or -1 if it is empty.
+     */
+    public long getLevel() {
+        return this.size == 0 ? -1 : (this.size - 1) / this.maxElementPerLevel;
+    }
+
+    /**
+     * Gets the last index of the MappedSpiderWeb.
+     *
+     * @return The last index of the MappedSpiderWeb, or -1 if it is empty.
+     */
+    public int getIndex() {
+        return this.size == 0 ? -1 : (int) ((this.size - 1) % this.maxElementPerLevel);
+    }
+
+    /**
+     * Returns the number of elements in the MappedSpiderWeb.
+     *
+     * @return The number of elements in the MappedSpiderWeb.
+     */
+    public long size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of bytes of the file allocated to the header, the directory and the level
+     * blocks, including free blocks waiting to be reused. The file itself may be longer, as it is
+     * mapped in whole regions.
+     *
+     * @return The number of allocated bytes.
+     */
+    public long getAllocatedBytes() {
+        return this.fileEnd;
+    }
+
+    /**
+     * Checks whether the MappedSpiderWeb is empty.
+     *
+     * @return True if the MappedSpiderWeb holds no elements, false otherwise.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Adds an element to the end of the MappedSpiderWeb, allocating a new level block at the end of
+     * the file when the last level is full.
+     *
+     * @param value The element to be added.
+     * @throws IllegalArgumentException If the element is null or its encoding exceeds the record size.
+     * @throws IllegalStateException    If the MappedSpiderWeb is closed or a region cannot be mapped.
+     */
+    public void add(E value) {
+        this.checkOpen();
+        this.records.encode(value);
+        final long slot = this.head + this.size;
+        final long entry = slot / this.maxElementPerLevel;
+        if (slot % this.maxElementPerLevel == 0) {
+            this.appendLevel(entry);
+        }
+        this.writeRecord(this.recordOffset(slot));
+        this.size++;
+        this.putHeaderLong(SIZE_OFFSET, this.size);
+    }
+
+    /**
+     * Returns a copy of the element at the specified level and index, decoded from its mapped record.
+     *
+     * @param level The level of the desired element (non-negative).
+     * @param index The index of the desired element (non-negative).
+     * @return The element at the specified level and index.
+     * @throws IllegalArgumentException If the provided level or index is invalid.
+     * @throws IllegalStateException    If the MappedSpiderWeb is closed, a region cannot be mapped or
+     *                                  the record cannot be decoded.
+     */
+    public E get(long level, int index) {
+        this.checkOpen();
+        return this.readRecord(this.recordOffset(this.head + this.toPosition(level, index)));
+    }
+
+    /**
+     * Sets the element at the specified level and index, replacing the existing element.
+     *
+     * @param level   The level at which to set the element.
+     * @param index   The index within the specified level to set the element.
+     * @param element The new element.
+     * @return The previous element at the specified level and index.
+     * @throws IllegalArgumentException If the level or index is invalid, the element is null or its
+     *                                  encoding exceeds the record size.
+     * @throws IllegalStateException    If the MappedSpiderWeb is closed, a region cannot be mapped or
+     *                                  the record cannot be decoded.
+     */
+    public E set(long level, int index, E element) {
+        this.checkOpen();
+        final long offset = this.recordOffset(this.head + this.toPosition(level, index));
+        final E oldValue = this.readRecord(offset);
+        this.records.encode(element);
+        this.writeRecord(offset);
+        return oldValue;
+    }
+
+    /**
+     * Removes and returns the first element of the MappedSpiderWeb.
+     *
+     * @return The removed element.
+     * @throws NoSuchElementException If the MappedSpiderWeb is empty.
+     * @throws IllegalStateException  If the MappedSpiderWeb is closed.
+     */
+    public E removeFirst() {
+        this.checkOpen();
+        if (this.size == 0) {
+            throw new NoSuchElementException("Cannot remove from an empty MappedSpiderWeb.");
+        }
+        final E value = this.readRecord(this.recordOffset(this.head));
+        this.size--;
+        if (this.size == 0) {
+            this.reset();
+            return value;
+        }
+        this.head++;
+        if (this.head == this.maxElementPerLevel) {
+            this.freeLevel(this.levelOffset(0));
+            this.head = 0;
+            this.firstEntry++;
+            this.putHeaderLong(FIRST_ENTRY_OFFSET, this.firstEntry);
+        }
+        this.putHeaderLong(HEAD_OFFSET, this.head);
+        this.putHeaderLong(SIZE_OFFSET, this.size);
+        return value;
+    }
+
+    /**
+     * Removes and returns the last element of the MappedSpiderWeb. The block of the last level is
+     * freed once it holds no more elements.
+     *
+     * @return The removed element.
+     * @throws NoSuchElementException If the MappedSpiderWeb is empty.
+     * @throws IllegalStateException  If the MappedSpiderWeb is closed.
+     */
+    public E removeLast() {
+        this.checkOpen();
+        if (this.size == 0) {
+            throw new NoSuchElementException("Cannot remove from an empty MappedSpiderWeb.");
+        }
+        final long slot = this.head + this.size - 1;
+        final E value = this.readRecord(this.recordOffset(slot));
+        this.size--;
+        if (this.size == 0) {
+            this.reset();
+            return value;
+        }
+        if (slot % this.maxElementPerLevel == 0) {
+            this.freeLevel(this.levelOffset(slot / this.maxElementPerLevel));
+        }
+        this.putHeaderLong(SIZE_OFFSET, this.size);
+        return value;
+    }
+
+    /**
+     * Removes all elements from the MappedSpiderWeb, moves the directory back behind the header and
+     * reclaims the space of all levels. The file keeps its length and is overwritten by later additions.
+     *
+     * @throws IllegalStateException If the MappedSpiderWeb is closed.
+     */
+    public void clear() {
+        this.checkOpen();
+        this.reset();
+    }
+
+    /**
+     * Performs the given action for a copy of each element of the MappedSpiderWeb, in order.
+     *
+     * @param action The action to perform for each element.
+     * @throws IllegalArgumentException If the action is null.
+     * @throws IllegalStateException    If the MappedSpiderWeb is closed or a record cannot be decoded.
+     */
+    public void forEach(Consumer<? super E> action) {
+        if (action == null) {
+            throw new IllegalArgumentException("Action cannot be null.");
+        }
+        this.checkOpen();
+        for (long slot = this.head; slot < this.head + this.size; slot++) {
+            action.accept(this.readRecord(this.recordOffset(slot)));
+        }
+    }
+
+    /**
+     * Searches for the first occurrence of the specified element and returns its level and index.
+     * The element is encoded once and compared against the mapped records byte by byte.
+     *
+     * @param e The element to search for.
+     * @return A HashMap containing the level and index of the element.
+     *         If the element is not found, an empty HashMap is returned.
+     * @throws IllegalArgumentException If the element is null or its encoding exceeds the record size.
+     * @throws IllegalStateException    If the MappedSpiderWeb is closed.
+     */
+    public HashMap<String, Long> indexOf(E e) {
+        this.checkOpen();
+        final byte[] wanted = this.records.encode(e).clone();
+        final byte[] candidate = new byte[this.recordSize];
+        for (long slot = this.head; slot < this.head + this.size; slot++) {
+            final long offset = this.recordOffset(slot);
+            this.region(offset).get((int) (offset & REGION_MASK), candidate);
+            if (Arrays.equals(wanted, candidate)) {
+                final long position = slot - this.head;
+                HashMap<String, Long> hashMap = new HashMap<>();
+                hashMap.put("level", position / this.maxElementPerLevel);
+                hashMap.put("index", position % this.maxElementPerLevel);
+                return hashMap;
+            }
+        }
+        return new HashMap<>();
+    }
+
+    /**
+     * Writes all changes made to mapped memory through to the file.
+     *
+     * @throws IllegalStateException If the MappedSpiderWeb is closed.
+     */
+    public void force() {
+        this.checkOpen();
+        for (MappedByteBuffer region : this.regions) {
+            if (region != null) {
+                region.force();
+            }
+        }
+    }
+
+    /**
+     * Writes all changes through to the file, unmaps it and closes it. The MappedSpiderWeb cannot be
+     * used afterwards. Closing an already closed MappedSpiderWeb has no effect.
+     *
+     * @throws IOException If the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        this.force();
+        this.closed = true;
+        for (MappedByteBuffer region : this.regions) {
+            DirectBuffers.release(region);
+        }
+        this.regions.clear();
+        this.channel.close();
+    }
+
+    /**
+     * Returns a string representation of the MappedSpiderWeb, including its current level, index, size, and maximum elements per level.
+     *
+     * @return A string representation of the MappedSpiderWeb.
+     */
+    @Override
+    public String toString() {
+        return "MappedSpiderWeb{" +
+                "level=" + this.getLevel() +
+                ", index=" + this.getIndex() +
+                ", size=" + this.size +
+                ", maxElementPerLevel=" + this.maxElementPerLevel +
+                ", recordSize=" + this.recordSize +
+                '}';
+    }
+
+    private void create() {
+        final MappedByteBuffer header = this.region(0);
+        header.putInt(0, MAGIC);
+        header.putInt(4, VERSION);
+        header.putInt(RECORD_SIZE_OFFSET, this.recordSize);
+        header.putInt(WIDTH_OFFSET, this.maxElementPerLevel);
+        this.reset();
+    }
+
+    private void load() throws IOException {
+        final MappedByteBuffer header = this.region(0);
+        if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+            throw new IOException("Not a MappedSpiderWeb file.");
+        }
+        if (header.getInt(RECORD_SIZE_OFFSET) != this.recordSize || header.getInt(WIDTH_OFFSET) != this.maxElementPerLevel) {
+            throw new IOException("File holds records of " + header.getInt(RECORD_SIZE_OFFSET) + " bytes in levels of "
+                    + header.getInt(WIDTH_OFFSET) + ", not " + this.recordSize + " bytes in levels of " + this.maxElementPerLevel + ".");
+        }
+        this.size = header.getLong(SIZE_OFFSET);
+        this.head = header.getLong(HEAD_OFFSET);
+        this.directory = header.getLong(DIRECTORY_OFFSET);
+        this.directoryCapacity = header.getLong(DIRECTORY_CAPACITY_OFFSET);
+        this.firstEntry = header.getLong(FIRST_ENTRY_OFFSET);
+        this.fileEnd = header.getLong(FILE_END_OFFSET);
+        this.freeBlock = header.getLong(FREE_BLOCK_OFFSET);
+    }
+
+    /**
+     * Empties the SpiderWeb, moving an initial directory back behind the header and reclaiming
+     * everything after it.
+     */
+    private void reset() {
+        this.size = 0;
+        this.head = 0;
+        this.firstEntry = 0;
+        this.directory = HEADER_BYTES;
+        this.directoryCapacity = INITIAL_DIRECTORY_CAPACITY;
+        this.fileEnd = this.directory + this.directoryCapacity * Long.BYTES;
+        this.freeBlock = 0;
+        this.putHeaderLong(DIRECTORY_OFFSET, this.directory);
+        this.putHeaderLong(DIRECTORY_CAPACITY_OFFSET, this.directoryCapacity);
+        this.putHeaderLong(FREE_BLOCK_OFFSET, this.freeBlock);
+        this.putHeaderLong(SIZE_OFFSET, this.size);
+        this.putHeaderLong(HEAD_OFFSET, this.head);
+        this.putHeaderLong(FIRST_ENTRY_OFFSET, this.firstEntry);
+        this.putHeaderLong(FILE_END_OFFSET, this.fileEnd);
+    }
+
+    /**
+     * Takes a level block from the free list, or allocates one at the end of the file, starting a new
+     * region if the block would otherwise span two, and records it in the directory as the specified
+     * entry.
+     */
+    private void appendLevel(long entry) {
+        if (this.firstEntry + entry == this.directoryCapacity) {
+            this.growDirectory(entry);
+        }
+        long block = this.freeBlock;
+        if (block != 0) {
+            this.freeBlock = this.getLong(block);
+            this.putHeaderLong(FREE_BLOCK_OFFSET, this.freeBlock);
+        } else {
+            block = this.fileEnd;
+            if ((block & REGION_MASK) + this.blockBytes > REGION_BYTES) {
+                block = (block >>> REGION_SHIFT) + 1 << REGION_SHIFT;
+            }
+            this.fileEnd = block + this.blockBytes;
+            this.putHeaderLong(FILE_END_OFFSET, this.fileEnd);
+        }
+        this.putLong(this.directory + (this.firstEntry + entry) * Long.BYTES, block);
+    }
+
+    /**
+     * Returns an emptied level block to the end of the file if it is the last block, and puts it on
+     * the free list otherwise.
+     */
+    private void freeLevel(long block) {
+        if (block + this.blockBytes == this.fileEnd) {
+            this.fileEnd = block;
+            this.putHeaderLong(FILE_END_OFFSET, this.fileEnd);
+            return;
+        }
+        this.putLong(block, this.freeBlock);
+        this.freeBlock = block;
+        this.putHeaderLong(FREE_BLOCK_OFFSET, this.freeBlock);
+    }
+
+    /**
+     * Makes room for one more directory entry, dropping the entries of levels removed from the
+     * beginning. The entries in use are moved to the start of the directory if they fill at most half
+     * of it, and to a new directory of twice their number at the end of the file otherwise.
+     */
+    private void growDirectory(long entries) {
+        if (entries * 2 <= this.directoryCapacity) {
+            for (long entry = 0; entry < entries; entry++) {
+                this.putLong(this.directory + entry * Long.BYTES, this.getLong(this.directory + (this.firstEntry + entry) * Long.BYTES));
+            }
+            this.firstEntry = 0;
+            this.putHeaderLong(FIRST_ENTRY_OFFSET, this.firstEntry);
+            return;
+        }
+        final long capacity = Math.max(INITIAL_DIRECTORY_CAPACITY, entries * 2);
+        final long moved = (this.fileEnd + Long.BYTES - 1) / Long.BYTES * Long.BYTES;
+        for (long entry = 0; entry < entries; entry++) {
+            this.putLong(moved + entry * Long.BYTES, this.getLong(this.directory + (this.firstEntry + entry) * Long.BYTES));
+        }
+        this.directory = moved;
+        this.directoryCapacity = capacity;
+        this.firstEntry = 0;
+        this.fileEnd = moved + capacity * Long.BYTES;
+        this.putHeaderLong(DIRECTORY_OFFSET, this.directory);
+        this.putHeaderLong(DIRECTORY_CAPACITY_OFFSET, this.directoryCapacity);
+        this.putHeaderLong(FIRST_ENTRY_OFFSET, this.firstEntry);
+        this.putHeaderLong(FILE_END_OFFSET, this.fileEnd);
+    }
+
+    private long levelOffset(long entry) {
+        return this.getLong(this.directory + (this.firstEntry + entry) * Long.BYTES);
+    }
+
+    private long recordOffset(long slot) {
+        return this.levelOffset(slot / this.maxElementPerLevel) + slot % this.maxElementPerLevel * this.recordSize;
+    }
+
+    private void writeRecord(long offset) {
+        this.region(offset).put((int) (offset & REGION_MASK), this.records.record());
+    }
+
+    private E readRecord(long offset) {
+        this.region(offset).get((int) (offset & REGION_MASK), this.records.record());
+        return this.records.decode();
+    }
+
+    private long getLong(long offset) {
+        return this.region(offset).getLong((int) (offset & REGION_MASK));
+    }
+
+    private void putLong(long offset, long value) {
+        this.region(offset).putLong((int) (offset & REGION_MASK), value);
+    }
+
+    private void putHeaderLong(int offset, long value) {
+        this.region(0).putLong(offset, value);
+    }
+
+    /**
+     * Returns the mapped region holding the specified file offset, mapping it on first access.
+     */
+    private MappedByteBuffer region(long offset) {
+        final int region = (int) (offset >>> REGION_SHIFT);
+        while (this.regions.size() <= region) {
+            this.regions.add(null);
+        }
+        MappedByteBuffer mapped = this.regions.get(region);
+        if (mapped == null) {
+            try {
+                mapped = this.channel.map(FileChannel.MapMode.READ_WRITE, (long) region << REGION_SHIFT, REGION_BYTES);
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot map region " + region + " of the MappedSpiderWeb file.", e);
+            }
+            this.regions.set(region, mapped);
+        }
+        return mapped;
+    }
+
+    private void checkOpen() {
+        if (this.closed) {
+            throw new IllegalStateException("MappedSpiderWeb is closed.");
+        }
+    }
+
+    private long toPosition(long level, int index) {
+        if (level < 0 || level > this.getLevel() || index < 0 || index >= this.maxElementPerLevel
+                || level * this.maxElementPerLevel + index >= this.size) {
+            throw new IllegalArgumentException("Invalid level or index. Level: " + level + ", Index: " + index);
+        }
+        return level * this.maxElementPerLevel + index;
+    }
+}
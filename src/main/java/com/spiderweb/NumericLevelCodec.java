@@ -0,0 +1,304 @@
+package com.spiderweb;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * NumericLevelCodec writes numeric SpiderWebs in a compact form, one level at a time. Every level
+ * is stored as its first value followed by the differences between neighbouring values. The
+ * differences are zigzag-encoded, so small negative differences stay small, and then written either
+ * as variable-length integers or bit-packed at the width of the largest difference in the level.
+ * Values that are close together within a level, such as timestamps or counters, shrink to one or
+ * two bytes each.
+ *
+ * <p>Reading streams the data level by level, so a SpiderWeb can be restored, or processed without
+ * being restored, while holding only one level of values at a time.
+ *
+ * <p>Usage Example:
+ * <blockquote><pre>
+ * NumericLevelCodec.write(timestamps, out, true);
+ * LongSpiderWeb restored = NumericLevelCodec.readLongSpiderWeb(in);
+ * </pre></blockquote>
+ *
+ * @author Milan Savic
+ * @version 1.0
+ * @since October 19, 2026
+ */
+public final class NumericLevelCodec {
+
+    private static final int MAGIC = 0x53574E43;
+    private static final int VARINT = 0;
+    private static final int BIT_PACKED = 1;
+
+    private NumericLevelCodec() {
+    }
+
+    /**
+     * Writes a LongSpiderWeb.
+     *
+     * @param web     The LongSpiderWeb to write.
+     * @param out     The stream to write to. It is not closed.
+     * @param bitPack True to bit-pack the differences within each level, false to write them as variable-length integers.
+     * @throws IOException If the stream cannot be written.
+     * @throws IllegalArgumentException If the LongSpiderWeb or stream is null.
+     */
+    public static void write(LongSpiderWeb web, OutputStream out, boolean bitPack) throws IOException {
+        if (web == null || out == null) {
+            throw new IllegalArgumentException("LongSpiderWeb and stream cannot be null.");
+        }
+        final int width = web.getMaxElementPerLevel();
+        final long[] level = new long[width];
+        writeHeader(out, width, web.size(), bitPack);
+        for (int position = 0; position < web.size(); position += width) {
+            final int count = Math.min(width, web.size() - position);
+            for (int index = 0; index < count; index++) {
+                level[index] = web.get(position / width, index);
+            }
+            writeLevel(out, level, count, bitPack);
+        }
+    }
+
+    /**
+     * Writes a SpiderWeb of integral numbers. Every element must be a {@link Byte}, {@link Short},
+     * {@link Integer} or {@link Long}, and is written as its {@code long} value. The elements are
+     * checked before anything is written, so a SpiderWeb holding null or non-integral elements, such
+     * as doubles, is rejected without writing to the stream.
+     *
+     * @param web     The SpiderWeb to write.
+     * @param out     The stream to write to. It is not closed.
+     * @param bitPack True to bit-pack the differences within each level, false to write them as variable-length integers.
+     * @param <N>     The type of numbers stored in the SpiderWeb.
+     * @throws IOException If the stream cannot be written.
+     * @throws IllegalArgumentException If the SpiderWeb or stream is null, or the SpiderWeb holds a null or non-integral element.
+     */
+    public static <N extends Number> void write(SpiderWeb<N> web, OutputStream out, boolean bitPack) throws IOException {
+        if (web == null || out == null) {
+            throw new IllegalArgumentException("SpiderWeb and stream cannot be null.");
+        }
+        web.seal();
+        for (SpiderWebNode<N> node = web.getFirstNode(); node != null; node = node.getNextNode()) {
+            final N value = node.getValue();
+            if (!(value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte)) {
+                throw new IllegalArgumentException("Cannot write element " + value + ": only non-null Byte, Short, Integer and Long elements are supported.");
+            }
+        }
+        final int width = web.getMaxElementPerLevel();
+        final long[] level = new long[width];
+        writeHeader(out, width, web.size(), bitPack);
+        int count = 0;
+        for (SpiderWebNode<N> node = web.getFirstNode(); node != null; node = node.getNextNode()) {
+            level[count++] = node.getValue().longValue();
+            if (count == width) {
+                writeLevel(out, level, count, bitPack);
+                count = 0;
+            }
+        }
+        if (count > 0) {
+            writeLevel(out, level, count, bitPack);
+        }
+    }
+
+    /**
+     * Reads a LongSpiderWeb written by this codec.
+     *
+     * @param in The stream to read from. It is not closed.
+     * @return The LongSpiderWeb, with the number of elements per level it was written with.
+     * @throws IOException If the stream cannot be read, ends early or was not written by this codec.
+     * @throws IllegalArgumentException If the stream is null.
+     */
+    public static LongSpiderWeb readLongSpiderWeb(InputStream in) throws IOException {
+        return readLevels(in, LongSpiderWeb::new, (web, level) -> {
+            for (long value : level) {
+                web.add(value);
+            }
+        });
+    }
+
+    /**
+     * Reads a SpiderWeb of longs written by this codec.
+     *
+     * @param in The stream to read from. It is not closed.
+     * @return The SpiderWeb, with the number of elements per level it was written with.
+     * @throws IOException If the stream cannot be read, ends early or was not written by this codec.
+     * @throws IllegalArgumentException If the stream is null.
+     */
+    public static SpiderWeb<Long> readSpiderWeb(InputStream in) throws IOException {
+        final SpiderWeb<Long> web = readLevels(in, width -> {
+            final SpiderWeb<Long> created = new SpiderWeb<>(width);
+            created.beginBulkLoad();
+            return created;
+        }, (created, level) -> {
+            for (long value : level) {
+                created.add(value);
+            }
+        });
+        web.seal();
+        return web;
+    }
+
+    /**
+     * Reads the data written by this codec one level at a time, without building a SpiderWeb.
+     *
+     * @param in       The stream to read from. It is not closed.
+     * @param consumer The consumer receiving the values of each level, in order.
+     * @return The number of elements per level the data was written with.
+     * @throws IOException If the stream cannot be read, ends early or was not written by this codec.
+     * @throws IllegalArgumentException If the stream or consumer is null.
+     */
+    public static int forEachLevel(InputStream in, Consumer<long[]> consumer) throws IOException {
+        if (consumer == null) {
+            throw new IllegalArgumentException("Consumer cannot be null.");
+        }
+        return readLevels(in, width -> width, (width, level) -> consumer.accept(level));
+    }
+
+    private static void writeHeader(OutputStream out, int width, int size, boolean bitPack) throws IOException {
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            out.write(MAGIC >>> shift);
+        }
+        out.write(bitPack ? BIT_PACKED : VARINT);
+        writeVarLong(out, width);
+        writeVarLong(out, size);
+    }
+
+    /**
+     * Writes the first value of a level followed by the zigzag-encoded differences between
+     * neighbouring values.
+     */
+    private static void writeLevel(OutputStream out, long[] level, int count, boolean bitPack) throws IOException {
+        writeVarLong(out, zigzag(level[0]));
+        if (!bitPack) {
+            for (int i = 1; i < count; i++) {
+                writeVarLong(out, zigzag(level[i] - level[i - 1]));
+            }
+            return;
+        }
+        long widest = 0;
+        for (int i = 1; i < count; i++) {
+            widest |= zigzag(level[i] - level[i - 1]);
+        }
+        final int bits = 64 - Long.numberOfLeadingZeros(widest);
+        out.write(bits);
+        int current = 0;
+        int used = 0;
+        for (int i = 1; i < count; i++) {
+            long delta = zigzag(level[i] - level[i - 1]);
+            for (int remaining = bits; remaining > 0; ) {
+                final int take = Math.min(8 - used, remaining);
+                current |= (int) (delta & ((1L << take) - 1)) << used;
+                delta >>>= take;
+                used += take;
+                remaining -= take;
+                if (used == 8) {
+                    out.write(current);
+                    current = 0;
+                    used = 0;
+                }
+            }
+        }
+        if (used > 0) {
+            out.write(current);
+        }
+    }
+
+    /**
+     * Reads the header, creates the target for the level width it records and hands every level to
+     * the consumer together with that target.
+     */
+    private static <T> T readLevels(InputStream in, IntFunction<T> factory, BiConsumer<T, long[]> consumer) throws IOException {
+        if (in == null) {
+            throw new IllegalArgumentException("Stream cannot be null.");
+        }
+        int magic = 0;
+        for (int i = 0; i < 4; i++) {
+            magic = magic << 8 | readByte(in);
+        }
+        final int mode = readByte(in);
+        if (magic != MAGIC || (mode != VARINT && mode != BIT_PACKED)) {
+            throw new IOException("Not written by NumericLevelCodec.");
+        }
+        final long width = readVarLong(in);
+        final long size = readVarLong(in);
+        if (width <= 0 || width > Integer.MAX_VALUE || size < 0 || size > Integer.MAX_VALUE) {
+            throw new IOException("Invalid level width: " + width + " or size: " + size);
+        }
+        final T target = factory.apply((int) width);
+        for (long remaining = size; remaining > 0; remaining -= width) {
+            final long[] level = new long[(int) Math.min(width, remaining)];
+            readLevel(in, level, mode == BIT_PACKED);
+            consumer.accept(target, level);
+        }
+        return target;
+    }
+
+    private static void readLevel(InputStream in, long[] level, boolean bitPacked) throws IOException {
+        level[0] = unzigzag(readVarLong(in));
+        if (!bitPacked) {
+            for (int i = 1; i < level.length; i++) {
+                level[i] = level[i - 1] + unzigzag(readVarLong(in));
+            }
+            return;
+        }
+        final int bits = readByte(in);
+        if (bits > 64) {
+            throw new IOException("Invalid bit width: " + bits);
+        }
+        int current = 0;
+        int available = 0;
+        for (int i = 1; i < level.length; i++) {
+            long delta = 0;
+            for (int read = 0; read < bits; ) {
+                if (available == 0) {
+                    current = readByte(in);
+                    available = 8;
+                }
+                final int take = Math.min(available, bits - read);
+                delta |= (long) ((current >>> (8 - available)) & ((1 << take) - 1)) << read;
+                available -= take;
+                read += take;
+            }
+            level[i] = level[i - 1] + unzigzag(delta);
+        }
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final int b = readByte(in);
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer.");
+    }
+
+    private static int readByte(InputStream in) throws IOException {
+        final int b = in.read();
+        if (b < 0) {
+            throw new EOFException("Unexpected end of NumericLevelCodec data.");
+        }
+        return b;
+    }
+}
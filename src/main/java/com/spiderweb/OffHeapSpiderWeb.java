@@ -0,0 +1,426 @@
+package com.spiderweb;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * OffHeapSpiderWeb is a SpiderWeb of fixed-width records stored outside the Java heap. Every element
+ * is encoded by a {@link SpiderWebCodec} into a slot of {@code recordSize} bytes, and the slots are
+ * laid out level after level in direct {@link ByteBuffer} chunks of about a megabyte. The heap holds
+ * only one reference per chunk, so even a very large OffHeapSpiderWeb adds almost nothing for the
+ * garbage collector to trace or copy.
+ *
+ * <p>Elements are addressed by level and index exactly as in a {@link SpiderWeb}, with {@code long}
+ * levels and sizes as in a {@link LargeSpiderWeb}. Chunks are allocated as elements are added and
+ * released as soon as the elements they hold are removed. {@link #clear()} and {@link #close()}
+ * release the memory of every chunk immediately, rather than when the garbage collector notices the
+ * chunks are unreachable.
+ *
+ * <p>Each get decodes a new element from its record, so elements are copies: changing an element
+ * after reading it does not change the OffHeapSpiderWeb. Null elements cannot be stored.
+ *
+ * <p>Usage Example:
+ * <blockquote><pre>
+ * try (OffHeapSpiderWeb&lt;Long&gt; ticks = new OffHeapSpiderWeb&lt;&gt;(Long.BYTES, SpiderWebCodec.longs())) {
+ *     ticks.add(1700000000000L);
+ *     long first = ticks.get(0, 0);
+ * }
+ * </pre></blockquote>
+ *
+ * @param <E> the type of elements stored in the OffHeapSpiderWeb
+ *
+ * @author Milan Savic
+ * @version 1.0
+ * @since October 19, 2026
+ */
+public class OffHeapSpiderWeb<E> implements Closeable {
+
+    /**
+     * The approximate number of bytes in each chunk. A chunk always holds whole levels, and at least one.
+     */
+    public static final int CHUNK_BYTES = 1 << 20;
+
+    private final int recordSize;
+    private final int maxElementPerLevel;
+    private final int slotsPerChunk;
+    private final LevelTable<ByteBuffer> chunks = new LevelTable<>();
+    private final RecordCodec<E> records;
+    private int offset;
+    private long size;
+    private boolean closed;
+
+    /**
+     * Constructs an OffHeapSpiderWeb with the default number of elements per level (6).
+     *
+     * @param recordSize The number of bytes each encoded element may take.
+     * @param codec      The codec encoding elements into records.
+     * @throws IllegalArgumentException If the record size is not positive or the codec is null.
+     */
+    public OffHeapSpiderWeb(int recordSize, SpiderWebCodec<E> codec) {
+        this(recordSize, codec, 6);
+    }
+
+    /**
+     * Constructs an OffHeapSpiderWeb with a specified maximum number of elements per level.
+     *
+     * @param recordSize         The number of bytes each encoded element may take.
+     * @param codec              The codec encoding elements into records.
+     * @param maxElementPerLevel The maximum number of elements allowed in each level.
+     * @throws IllegalArgumentException If the record size or number of elements per level is not
+     *                                  positive, a level does not fit in a chunk, or the codec is null.
+     */
+    public OffHeapSpiderWeb(int recordSize, SpiderWebCodec<E> codec, int maxElementPerLevel) {
+        if (recordSize <= 0 || maxElementPerLevel <= 0) {
+            throw new IllegalArgumentException("Invalid recordSize: " + recordSize + " or maxElementPerLevel: " + maxElementPerLevel);
+        }
+        if ((long) recordSize * maxElementPerLevel > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("A level of " + maxElementPerLevel + " records of " + recordSize + " bytes is too large.");
+        }
+        if (codec == null) {
+            throw new IllegalArgumentException("Codec cannot be null.");
+        }
+        this.recordSize = recordSize;
+        this.maxElementPerLevel = maxElementPerLevel;
+        final int levelBytes = recordSize * maxElementPerLevel;
+        this.slotsPerChunk = Math.max(1, CHUNK_BYTES / levelBytes) * maxElementPerLevel;
+        this.records = new RecordCodec<>(codec, recordSize);
+    }
+
+    /**
+     * Gets the number of bytes each encoded element may take.
+     *
+     * @return The record size in bytes.
+     */
+    public int getRecordSize() {
+        return this.recordSize;
+    }
+
+    /**
+     * Gets the maximum number of elements allowed in each level of the OffHeapSpiderWeb.
+     *
+     * @return The maximum number of elements per level.
+     */
+    public int getMaxElementPerLevel() {
+        return this.maxElementPerLevel;
+    }
+
+    /**
+     * Gets the last level of the OffHeapSpiderWeb.
+     *
+     * @return The last level of the OffHeapSpiderWeb, or -1 if it is empty.
+     */
+    public long getLevel() {
+        return this.size == 0 ? -1 : (this.size - 1) / this.maxElementPerLevel;
+    }
+
+    /**
+     * Gets the last index of the OffHeapSpiderWeb.
+     *
+     * @return The last index of the OffHeapSpiderWeb, or -1 if it is empty.
+     */
+    public int getIndex() {
+        return this.size == 0 ? -1 : (int) ((this.size - 1) % this.maxElementPerLevel);
+    }
+
+    /**
+     * Returns the number of elements in the OffHeapSpiderWeb.
+     *
+     * @return The number of elements in the OffHeapSpiderWeb.
+     */
+    public long size() {
+        return this.size;
+    }
+
+    /**
+     * Checks whether the OffHeapSpiderWeb is empty.
+     *
+     * @return True if the OffHeapSpiderWeb holds no elements, false otherwise.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Returns the number of bytes of off-heap memory currently allocated for the chunks.
+     *
+     * @return The number of allocated off-heap bytes.
+     */
+    public long getAllocatedBytes() {
+        return (long) this.chunks.size() * this.slotsPerChunk * this.recordSize;
+    }
+
+    /**
+     * Adds an element to the end of the OffHeapSpiderWeb.
+     *
+     * @param value The element to be added.
+     * @throws IllegalArgumentException If the element is null or its encoding exceeds the record size.
+     * @throws IllegalStateException    If the OffHeapSpiderWeb is closed.
+     */
+    public void add(E value) {
+        this.checkOpen();
+        this.records.encode(value);
+        final long slot = this.offset + this.size;
+        if (slot == (long) this.chunks.size() * this.slotsPerChunk) {
+            this.chunks.addLast(ByteBuffer.allocateDirect(this.slotsPerChunk * this.recordSize));
+        }
+        this.write(slot);
+        this.size++;
+    }
+
+    /**
+     * Adds an element to the beginning of the OffHeapSpiderWeb.
+     *
+     * @param value The element to be added.
+     * @throws IllegalArgumentException If the element is null or its encoding exceeds the record size.
+     * @throws IllegalStateException    If the OffHeapSpiderWeb is closed.
+     */
+    public void addFirst(E value) {
+        this.checkOpen();
+        this.records.encode(value);
+        if (this.offset == 0) {
+            this.chunks.addFirst(ByteBuffer.allocateDirect(this.slotsPerChunk * this.recordSize));
+            this.offset = this.slotsPerChunk;
+        }
+        this.offset--;
+        this.write(this.offset);
+        this.size++;
+    }
+
+    /**
+     * Returns a copy of the element at the specified level and index, decoded from its record.
+     *
+     * @param level The level of the desired element (non-negative).
+     * @param index The index of the desired element (non-negative).
+     * @return The element at the specified level and index.
+     * @throws IllegalArgumentException If the provided level or index is invalid.
+     * @throws IllegalStateException    If the OffHeapSpiderWeb is closed or the record cannot be decoded.
+     */
+    public E get(long level, int index) {
+        this.checkOpen();
+        return this.read(this.offset + this.toPosition(level, index));
+    }
+
+    /**
+     * Sets the element at the specified level and index, replacing the existing element.
+     *
+     * @param level   The level at which to set the element.
+     * @param index   The index within the specified level to set the element.
+     * @param element The new element.
+     * @return The previous element at the specified level and index.
+     * @throws IllegalArgumentException If the level or index is invalid, the element is null or its
+     *                                  encoding exceeds the record size.
+     * @throws IllegalStateException    If the OffHeapSpiderWeb is closed or the record cannot be decoded.
+     */
+    public E set(long level, int index, E element) {
+        this.checkOpen();
+        final long slot = this.offset + this.toPosition(level, index);
+        final E oldValue = this.read(slot);
+        this.records.encode(element);
+        this.write(slot);
+        return oldValue;
+    }
+
+    /**
+     * Returns a copy of the first element of the OffHeapSpiderWeb.
+     *
+     * @return The first element.
+     * @throws NoSuchElementException If the OffHeapSpiderWeb is empty.
+     * @throws IllegalStateException  If the OffHeapSpiderWeb is closed.
+     */
+    public E getFirst() {
+        this.checkOpen();
+        if (this.size == 0) {
+            throw new NoSuchElementException("OffHeapSpiderWeb is empty.");
+        }
+        return this.read(this.offset);
+    }
+
+    /**
+     * Returns a copy of the last element of the OffHeapSpiderWeb.
+     *
+     * @return The last element.
+     * @throws NoSuchElementException If the OffHeapSpiderWeb is empty.
+     * @throws IllegalStateException  If the OffHeapSpiderWeb is closed.
+     */
+    public E getLast() {
+        this.checkOpen();
+        if (this.size == 0) {
+            throw new NoSuchElementException("OffHeapSpiderWeb is empty.");
+        }
+        return this.read(this.offset + this.size - 1);
+    }
+
+    /**
+     * Removes and returns the first element of the OffHeapSpiderWeb. The chunk holding it is released
+     * once it holds no more elements.
+     *
+     * @return The removed element.
+     * @throws NoSuchElementException If the OffHeapSpiderWeb is empty.
+     * @throws IllegalStateException  If the OffHeapSpiderWeb is closed.
+     */
+    public E removeFirst() {
+        final E value = this.getFirst();
+        this.offset++;
+        this.size--;
+        if (this.size == 0) {
+            this.releaseAll();
+        } else if (this.offset == this.slotsPerChunk) {
+            DirectBuffers.release(this.chunks.removeFirst());
+            this.offset = 0;
+        }
+        return value;
+    }
+
+    /**
+     * Removes and returns the last element of the OffHeapSpiderWeb. The chunk holding it is released
+     * once it holds no more elements.
+     *
+     * @return The removed element.
+     * @throws NoSuchElementException If the OffHeapSpiderWeb is empty.
+     * @throws IllegalStateException  If the OffHeapSpiderWeb is closed.
+     */
+    public E removeLast() {
+        final E value = this.getLast();
+        this.size--;
+        if (this.size == 0) {
+            this.releaseAll();
+        } else if ((this.offset + this.size) % this.slotsPerChunk == 0) {
+            DirectBuffers.release(this.chunks.removeLast());
+        }
+        return value;
+    }
+
+    /**
+     * Removes all elements from the OffHeapSpiderWeb and releases the memory of every chunk.
+     *
+     * @throws IllegalStateException If the OffHeapSpiderWeb is closed.
+     */
+    public void clear() {
+        this.checkOpen();
+        this.releaseAll();
+    }
+
+    /**
+     * Performs the given action for a copy of each element of the OffHeapSpiderWeb, in order.
+     *
+     * @param action The action to perform for each element.
+     * @throws IllegalArgumentException If the action is null.
+     * @throws IllegalStateException    If the OffHeapSpiderWeb is closed or a record cannot be decoded.
+     */
+    public void forEach(Consumer<? super E> action) {
+        if (action == null) {
+            throw new IllegalArgumentException("Action cannot be null.");
+        }
+        this.checkOpen();
+        for (long slot = this.offset; slot < this.offset + this.size; slot++) {
+            action.accept(this.read(slot));
+        }
+    }
+
+    /**
+     * Searches for the first occurrence of the specified element and returns its level and index.
+     * The element is encoded once and compared against the records byte by byte, so no element is
+     * decoded during the search.
+     *
+     * @param e The element to search for.
+     * @return A HashMap containing the level and index of the element.
+     *         If the element is not found, an empty HashMap is returned.
+     * @throws IllegalArgumentException If the element is null or its encoding exceeds the record size.
+     * @throws IllegalStateException    If the OffHeapSpiderWeb is closed.
+     */
+    public HashMap<String, Long> indexOf(E e) {
+        this.checkOpen();
+        final byte[] wanted = this.records.encode(e).clone();
+        final byte[] candidate = new byte[this.recordSize];
+        for (long slot = this.offset; slot < this.offset + this.size; slot++) {
+            final ByteBuffer chunk = this.chunks.get((int) (slot / this.slotsPerChunk));
+            chunk.get((int) (slot % this.slotsPerChunk) * this.recordSize, candidate);
+            if (Arrays.equals(wanted, candidate)) {
+                final long position = slot - this.offset;
+                HashMap<String, Long> hashMap = new HashMap<>();
+                hashMap.put("level", position / this.maxElementPerLevel);
+                hashMap.put("index", position % this.maxElementPerLevel);
+                return hashMap;
+            }
+        }
+        return new HashMap<>();
+    }
+
+    /**
+     * Checks whether the OffHeapSpiderWeb contains the specified element.
+     *
+     * @param e The element to search for.
+     * @return True if a record equal to the encoding of the element is found, false otherwise.
+     * @throws IllegalArgumentException If the element is null or its encoding exceeds the record size.
+     * @throws IllegalStateException    If the OffHeapSpiderWeb is closed.
+     */
+    public boolean contains(E e) {
+        return !this.indexOf(e).isEmpty();
+    }
+
+    /**
+     * Releases the memory of every chunk. The OffHeapSpiderWeb cannot be used afterwards. Closing an
+     * already closed OffHeapSpiderWeb has no effect.
+     */
+    @Override
+    public void close() {
+        if (!this.closed) {
+            this.releaseAll();
+            this.closed = true;
+        }
+    }
+
+    /**
+     * Returns a string representation of the OffHeapSpiderWeb, including its current level, index, size, and maximum elements per level.
+     *
+     * @return A string representation of the OffHeapSpiderWeb.
+     */
+    @Override
+    public String toString() {
+        return "OffHeapSpiderWeb{" +
+                "level=" + this.getLevel() +
+                ", index=" + this.getIndex() +
+                ", size=" + this.size +
+                ", maxElementPerLevel=" + this.maxElementPerLevel +
+                ", recordSize=" + this.recordSize +
+                '}';
+    }
+
+    private void write(long slot) {
+        final ByteBuffer chunk = this.chunks.get((int) (slot / this.slotsPerChunk));
+        chunk.put((int) (slot % this.slotsPerChunk) * this.recordSize, this.records.record());
+    }
+
+    private E read(long slot) {
+        final ByteBuffer chunk = this.chunks.get((int) (slot / this.slotsPerChunk));
+        chunk.get((int) (slot % this.slotsPerChunk) * this.recordSize, this.records.record());
+        return this.records.decode();
+    }
+
+    private void releaseAll() {
+        while (this.chunks.size() > 0) {
+            DirectBuffers.release(this.chunks.removeLast());
+        }
+        this.chunks.clear();
+        this.offset = 0;
+        this.size = 0;
+    }
+
+    private void checkOpen() {
+        if (this.closed) {
+            throw new IllegalStateException("OffHeapSpiderWeb is closed.");
+        }
+    }
+
+    private long toPosition(long level, int index) {
+        if (level < 0 || level > this.getLevel() || index < 0 || index >= this.maxElementPerLevel
+                || level * this.maxElementPerLevel + index >= this.size) {
+            throw new IllegalArgumentException("Invalid level or index. Level: " + level + ", Index: " + index);
+        }
+        return level * this.maxElementPerLevel + index;
+    }
+}
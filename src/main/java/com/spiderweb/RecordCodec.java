@@ -0,0 +1,111 @@
+package com.spiderweb;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * The {@code RecordCodec} class adapts a {@link SpiderWebCodec} to fixed-width records. Values are
+ * encoded into a reusable array of {@code recordSize} bytes, zero-padded when the encoding is
+ * shorter, and decoded from that same array. The array is shared by every call, so a RecordCodec is
+ * not thread-safe.
+ *
+ * @param <E> the type of elements converted by the codec
+ *
+ * @author Milan Savic
+ * @version 1.0
+ * @since October 19, 2026
+ */
+final class RecordCodec<E> {
+
+    private final SpiderWebCodec<E> codec;
+    private final byte[] record;
+    private final RecordOutput recordOutput;
+    private final DataOutputStream out;
+    private final ByteArrayInputStream recordInput;
+    private final DataInputStream in;
+
+    /**
+     * Constructs a RecordCodec for records of the specified size.
+     *
+     * @param codec      The codec encoding values.
+     * @param recordSize The number of bytes in each record.
+     */
+    RecordCodec(SpiderWebCodec<E> codec, int recordSize) {
+        this.codec = codec;
+        this.record = new byte[recordSize];
+        this.recordOutput = new RecordOutput(this.record);
+        this.out = new DataOutputStream(this.recordOutput);
+        this.recordInput = new ByteArrayInputStream(this.record);
+        this.in = new DataInputStream(this.recordInput);
+    }
+
+    /**
+     * Returns the record array, which holds the last encoded value or the record to be decoded next.
+     *
+     * @return The record array.
+     */
+    byte[] record() {
+        return this.record;
+    }
+
+    /**
+     * Encodes a value into the record array, zero-padding the rest of the record.
+     *
+     * @param value The value to encode.
+     * @return The record array.
+     * @throws IllegalArgumentException If the value is null or its encoding exceeds the record size.
+     */
+    byte[] encode(E value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Null elements cannot be encoded as records.");
+        }
+        this.recordOutput.count = 0;
+        try {
+            this.codec.encode(value, this.out);
+            this.out.flush();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot encode " + value + " in " + this.record.length + " bytes.", e);
+        }
+        Arrays.fill(this.record, this.recordOutput.count, this.record.length, (byte) 0);
+        return this.record;
+    }
+
+    /**
+     * Decodes the value held in the record array.
+     *
+     * @return The decoded value.
+     * @throws IllegalStateException If the record cannot be decoded.
+     */
+    E decode() {
+        this.recordInput.reset();
+        try {
+            return this.codec.decode(this.in);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot decode a record of " + this.record.length + " bytes.", e);
+        }
+    }
+
+    /**
+     * An output stream writing into the record array, failing once the record is full.
+     */
+    private static final class RecordOutput extends OutputStream {
+        private final byte[] bytes;
+        private int count;
+
+        RecordOutput(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (this.count == this.bytes.length) {
+                throw new IOException("Record size of " + this.bytes.length + " bytes exceeded.");
+            }
+            this.bytes[this.count++] = (byte) b;
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package com.spiderweb;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * ReferenceSpiderWeb is a SpiderWeb whose elements are held through {@link SoftReference}s or
+ * {@link WeakReference}s, for caches of data that can be recomputed. The garbage collector may clear
+ * softly held elements when memory runs low and weakly held elements as soon as nothing else
+ * references them, so a cache built on a ReferenceSpiderWeb shrinks under memory pressure instead of
+ * running out of memory.
+ *
+ * <p>Cleared elements are reported through a {@link ReferenceQueue}. Their nodes are reclaimed lazily,
+ * at the start of the next operation, by one pass over the SpiderWeb that unlinks every cleared node,
+ * so elements after them move towards the first element and levels and indices always refer to the
+ * elements present after the last pass. An element cleared after that pass, but not yet reported, is
+ * still counted and read as {@code null} at its position until the next pass reclaims it.
+ *
+ * <p>Null elements cannot be stored, as {@code null} stands for a cleared element.
+ *
+ * <p>Usage Example:
+ * <blockquote><pre>
+ * ReferenceSpiderWeb&lt;Image&gt; thumbnails = new ReferenceSpiderWeb&lt;&gt;(ReferenceSpiderWeb.Strength.SOFT);
+ * thumbnails.add(render(page));
+ * Image cached = thumbnails.get(0, 0);
+ * if (cached == null) {
+ *     cached = render(page);
+ * }
+ * </pre></blockquote>
+ *
+ * @param <E> the type of elements stored in the ReferenceSpiderWeb
+ *
+ * @author Milan Savic
+ * @version 1.0
+ * @since October 19, 2026
+ */
+public class ReferenceSpiderWeb<E> {
+
+    /**
+     * The strength of the references holding the elements.
+     */
+    public enum Strength {
+        /**
+         * Elements are cleared when the JVM runs low on memory, oldest and least recently read first.
+         */
+        SOFT,
+        /**
+         * Elements are cleared as soon as nothing else references them strongly or softly.
+         */
+        WEAK
+    }
+
+    private final SpiderWeb<Reference<E>> spiderWeb;
+    private final Strength strength;
+    private final ReferenceQueue<E> queue = new ReferenceQueue<>();
+    private long reclaimed;
+
+    /**
+     * Constructs a ReferenceSpiderWeb with the default number of elements per level (6).
+     *
+     * @param strength The strength of the references holding the elements.
+     * @throws IllegalArgumentException If the strength is null.
+     */
+    public ReferenceSpiderWeb(Strength strength) {
+        this(strength, 6);
+    }
+
+    /**
+     * Constructs a ReferenceSpiderWeb with a specified maximum number of elements per level.
+     *
+     * @param strength           The strength of the references holding the elements.
+     * @param maxElementPerLevel The maximum number of elements allowed in each level.
+     * @throws IllegalArgumentException If the strength is null or the number of elements per level is not positive.
+     */
+    public ReferenceSpiderWeb(Strength strength, int maxElementPerLevel) {
+        if (strength == null) {
+            throw new IllegalArgumentException("Strength cannot be null.");
+        }
+        this.spiderWeb = new SpiderWeb<>(maxElementPerLevel);
+        this.strength = strength;
+    }
+
+    /**
+     * Gets the strength of the references holding the elements.
+     *
+     * @return The reference strength.
+     */
+    public Strength getStrength() {
+        return this.strength;
+    }
+
+    /**
+     * Gets the maximum number of elements allowed in each level of the ReferenceSpiderWeb.
+     *
+     * @return The maximum number of elements per level.
+     */
+    public int getMaxElementPerLevel() {
+        return this.spiderWeb.getMaxElementPerLevel();
+    }
+
+    /**
+     * Gets the last level of the ReferenceSpiderWeb, after reclaiming cleared elements.
+     *
+     * @return The last level of the ReferenceSpiderWeb, or -1 if it is empty.
+     */
+    public int getLevel() {
+        this.expunge();
+        return this.spiderWeb.size() == 0 ? -1 : (this.spiderWeb.size() - 1) / this.spiderWeb.getMaxElementPerLevel();
+    }
+
+    /**
+     * Gets the last index of the ReferenceSpiderWeb, after reclaiming cleared elements.
+     *
+     * @return The last index of the ReferenceSpiderWeb, or -1 if it is empty.
+     */
+    public int getIndex() {
+        this.expunge();
+        return this.spiderWeb.size() == 0 ? -1 : (this.spiderWeb.size() - 1) % this.spiderWeb.getMaxElementPerLevel();
+    }
+
+    /**
+     * Returns the number of elements in the ReferenceSpiderWeb, after reclaiming cleared elements.
+     *
+     * @return The number of elements in the ReferenceSpiderWeb.
+     */
+    public int size() {
+        this.expunge();
+        return this.spiderWeb.size();
+    }
+
+    /**
+     * Returns the total number of cleared elements whose nodes have been reclaimed.
+     *
+     * @return The number of reclaimed elements.
+     */
+    public long getReclaimedCount() {
+        return this.reclaimed;
+    }
+
+    /**
+     * Adds an element to the end of the ReferenceSpiderWeb.
+     *
+     * @param value The element to be added.
+     * @throws IllegalArgumentException If the element is null.
+     */
+    public void add(E value) {
+        this.expunge();
+        this.spiderWeb.add(this.reference(value));
+    }
+
+    /**
+     * Adds an element to the beginning of the ReferenceSpiderWeb.
+     *
+     * @param value The element to be added.
+     * @throws IllegalArgumentException If the element is null.
+     */
+    public void addFirst(E value) {
+        this.expunge();
+        this.spiderWeb.addFirst(this.reference(value));
+    }
+
+    /**
+     * Returns the element at the specified level and index, after reclaiming cleared elements.
+     *
+     * @param level The level of the desired element (non-negative).
+     * @param index The index of the desired element (non-negative).
+     * @return The element at the specified level and index, or null if it has been cleared since.
+     * @throws IllegalArgumentException If the provided level or index is invalid.
+     */
+    public E get(int level, int index) {
+        this.expunge();
+        return this.spiderWeb.get(level, index).get();
+    }
+
+    /**
+     * Sets the element at the specified level and index, replacing the existing element.
+     *
+     * @param level   The level at which to set the element.
+     * @param index   The index within the specified level to set the element.
+     * @param element The new element.
+     * @return The previous element, or null if it had been cleared.
+     * @throws IllegalArgumentException If the provided level or index is invalid, or the element is null.
+     */
+    public E set(int level, int index, E element) {
+        this.expunge();
+        final Reference<E> reference = this.reference(element);
+        return release(this.spiderWeb.set(level, index, reference));
+    }
+
+    /**
+     * Removes and returns the first element of the ReferenceSpiderWeb.
+     *
+     * @return The removed element, or null if it has been cleared since the last reclaiming pass.
+     * @throws NoSuchElementException If the ReferenceSpiderWeb is empty.
+     */
+    public E removeFirst() {
+        this.expunge();
+        return release(this.spiderWeb.removeFirst());
+    }
+
+    /**
+     * Removes and returns the last element of the ReferenceSpiderWeb.
+     *
+     * @return The removed element, or null if it has been cleared since the last reclaiming pass.
+     * @throws NoSuchElementException If the ReferenceSpiderWeb is empty.
+     */
+    public E removeLast() {
+        this.expunge();
+        return release(this.spiderWeb.removeLast());
+    }
+
+    /**
+     * Removes all elements from the ReferenceSpiderWeb.
+     */
+    public void clear() {
+        for (SpiderWebNode<Reference<E>> node = this.spiderWeb.getFirstNode(); node != null; node = node.getNextNode()) {
+            node.getValue().clear();
+        }
+        this.spiderWeb.clear();
+        while (this.queue.poll() != null) {
+            // References of removed elements need no reclaiming.
+        }
+    }
+
+    /**
+     * Performs the given action for each element of the ReferenceSpiderWeb that has not been cleared,
+     * in order, after reclaiming cleared elements.
+     *
+     * @param action The action to perform for each element.
+     * @throws IllegalArgumentException If the action is null.
+     */
+    public void forEach(Consumer<? super E> action) {
+        if (action == null) {
+            throw new IllegalArgumentException("Action cannot be null.");
+        }
+        this.expunge();
+        for (SpiderWebNode<Reference<E>> node = this.spiderWeb.getFirstNode(); node != null; node = node.getNextNode()) {
+            final E value = node.getValue().get();
+            if (value != null) {
+                action.accept(value);
+            }
+        }
+    }
+
+    /**
+     * Reclaims the nodes of every cleared element now, whether or not the garbage collector has
+     * reported them yet.
+     *
+     * @return The number of nodes reclaimed.
+     */
+    public int compact() {
+        while (this.queue.poll() != null) {
+            // Every cleared reference is found by the pass below.
+        }
+        return this.reclaim();
+    }
+
+    /**
+     * Returns a string representation of the ReferenceSpiderWeb, including its strength, size, and maximum elements per level.
+     *
+     * @return A string representation of the ReferenceSpiderWeb.
+     */
+    @Override
+    public String toString() {
+        return "ReferenceSpiderWeb{" +
+                "strength=" + this.strength +
+                ", size=" + this.spiderWeb.size() +
+                ", maxElementPerLevel=" + this.spiderWeb.getMaxElementPerLevel() +
+                '}';
+    }
+
+    private Reference<E> reference(E value) {
+        if (value == null) {
+            throw new IllegalArgumentException("ReferenceSpiderWeb cannot store null elements.");
+        }
+        return this.strength == Strength.SOFT ? new SoftReference<>(value, this.queue) : new WeakReference<>(value, this.queue);
+    }
+
+    /**
+     * Clears the reference of an element leaving the SpiderWeb, so the garbage collector never
+     * reports it and triggers a reclaiming pass that would find nothing to reclaim.
+     */
+    private static <E> E release(Reference<E> reference) {
+        final E value = reference.get();
+        reference.clear();
+        return value;
+    }
+
+    /**
+     * Reclaims cleared elements if the garbage collector has reported any since the last pass.
+     */
+    private void expunge() {
+        boolean cleared = false;
+        while (this.queue.poll() != null) {
+            cleared = true;
+        }
+        if (cleared) {
+            this.reclaim();
+        }
+    }
+
+    /**
+     * Removes every node whose reference has been cleared, in one pass from the first node.
+     */
+    private int reclaim() {
+        final int size = this.spiderWeb.size();
+        this.spiderWeb.removeIf(reference -> reference.refersTo(null));
+        final int count = size - this.spiderWeb.size();
+        this.reclaimed += count;
+        return count;
+    }
+}
@@ -0,0 +1,43 @@
+package com.spiderweb;
+
+/**
+ * The {@code ScalarLongLaneSearch} class scans {@code long} arrays one value at a time. It is used
+ * when the {@code jdk.incubator.vector} module is not available.
+ *
+ * @author Milan Savic
+ * @version 1.0
+ * @since October 19, 2026
+ */
+final class ScalarLongLaneSearch implements LongLaneSearch {
+
+    @Override
+    public int indexOf(long[] values, int from, int to, long key) {
+        for (int i = from; i < to; i++) {
+            if (values[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(long[] values, int from, int to, long key) {
+        for (int i = to - 1; i >= from; i--) {
+            if (values[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int count(long[] values, int from, int to, long key) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (values[i] == key) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
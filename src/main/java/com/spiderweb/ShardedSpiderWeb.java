@@ -0,0 +1,324 @@
+package com.spiderweb;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * ShardedSpiderWeb spreads its elements across a fixed number of independent SpiderWebs, each
+ * guarded by its own lock, so that concurrent writers do not all contend for the same last node,
+ * level link and size. A writer adds to the shard its thread maps to, and moves on to the next shard
+ * if that one is busy, so with as many shards as writing threads adds proceed without waiting.
+ *
+ * <p>Elements are addressed by shard, level and index. The global order is by shard: every element
+ * of shard 0 in order, then every element of shard 1, and so on. Elements added by one thread keep
+ * their relative order only while that thread keeps getting its own shard.
+ *
+ * <p>Usage Example:
+ * <blockquote><pre>
+ * ShardedSpiderWeb&lt;Event&gt; events = new ShardedSpiderWeb&lt;&gt;(8);
+ * events.add(event);
+ * HashMap&lt;String, Integer&gt; found = events.parallelIndexOf(e -&gt; e.id() == id);
+ * </pre></blockquote>
+ *
+ * @param <E> the type of elements stored in the ShardedSpiderWeb
+ *
+ * @author Milan Savic
+ * @version 1.0
+ * @since October 19, 2026
+ */
+public class ShardedSpiderWeb<E> {
+
+    private final SpiderWeb<E>[] shards;
+    private final ReentrantLock[] locks;
+
+    /**
+     * Constructs a ShardedSpiderWeb with one shard per available processor and the default number of
+     * elements per level (6) in each shard.
+     */
+    public ShardedSpiderWeb() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a ShardedSpiderWeb with the specified number of shards and the default number of
+     * elements per level (6) in each shard.
+     *
+     * @param shardCount The number of shards.
+     * @throws IllegalArgumentException If the number of shards is not positive.
+     */
+    public ShardedSpiderWeb(int shardCount) {
+        this(shardCount, 6);
+    }
+
+    /**
+     * Constructs a ShardedSpiderWeb with the specified number of shards and elements per level.
+     *
+     * @param shardCount         The number of shards.
+     * @param maxElementPerLevel The maximum number of elements allowed in each level of a shard.
+     * @throws IllegalArgumentException If the number of shards or elements per level is not positive.
+     */
+    public ShardedSpiderWeb(int shardCount, int maxElementPerLevel) {
+        if (shardCount <= 0 || maxElementPerLevel <= 0) {
+            throw new IllegalArgumentException("Invalid shardCount: " + shardCount + " or maxElementPerLevel: " + maxElementPerLevel);
+        }
+        @SuppressWarnings("unchecked")
+        final SpiderWeb<E>[] shards = (SpiderWeb<E>[]) new SpiderWeb<?>[shardCount];
+        this.shards = shards;
+        this.locks = new ReentrantLock[shardCount];
+        for (int shard = 0; shard < shardCount; shard++) {
+            this.shards[shard] = new SpiderWeb<>(maxElementPerLevel);
+            this.locks[shard] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Gets the number of shards.
+     *
+     * @return The number of shards.
+     */
+    public int getShardCount() {
+        return this.shards.length;
+    }
+
+    /**
+     * Gets the maximum number of elements allowed in each level of a shard.
+     *
+     * @return The maximum number of elements per level.
+     */
+    public int getMaxElementPerLevel() {
+        return this.shards[0].getMaxElementPerLevel();
+    }
+
+    /**
+     * Adds an element to the end of the shard of the calling thread, or of the next shard that is not
+     * locked by another writer.
+     *
+     * @param value The element to be added.
+     * @return The shard the element was added to.
+     */
+    public int add(E value) {
+        final int home = this.homeShard();
+        for (int i = 0; i < this.shards.length; i++) {
+            final int shard = (home + i) % this.shards.length;
+            if (this.locks[shard].tryLock()) {
+                try {
+                    this.shards[shard].add(value);
+                } finally {
+                    this.locks[shard].unlock();
+                }
+                return shard;
+            }
+        }
+        this.locks[home].lock();
+        try {
+            this.shards[home].add(value);
+        } finally {
+            this.locks[home].unlock();
+        }
+        return home;
+    }
+
+    /**
+     * Returns the element at the specified shard, level and index.
+     *
+     * @param shard The shard of the desired element.
+     * @param level The level of the desired element within the shard (non-negative).
+     * @param index The index of the desired element within the level (non-negative).
+     * @return The element at the specified shard, level and index.
+     * @throws IllegalArgumentException If the provided shard, level or index is invalid.
+     */
+    public E get(int shard, int level, int index) {
+        this.checkShard(shard);
+        this.locks[shard].lock();
+        try {
+            return this.shards[shard].get(level, index);
+        } finally {
+            this.locks[shard].unlock();
+        }
+    }
+
+    /**
+     * Returns the number of elements in the specified shard.
+     *
+     * @param shard The shard to count.
+     * @return The number of elements in the shard.
+     * @throws IllegalArgumentException If the shard is invalid.
+     */
+    public int size(int shard) {
+        this.checkShard(shard);
+        this.locks[shard].lock();
+        try {
+            return this.shards[shard].size();
+        } finally {
+            this.locks[shard].unlock();
+        }
+    }
+
+    /**
+     * Returns the number of elements in all shards. Shards are counted one after another, so the
+     * result may miss elements added concurrently.
+     *
+     * @return The total number of elements.
+     */
+    public int size() {
+        int size = 0;
+        for (int shard = 0; shard < this.shards.length; shard++) {
+            size += this.size(shard);
+        }
+        return size;
+    }
+
+    /**
+     * Removes all elements from all shards.
+     */
+    public void clear() {
+        for (int shard = 0; shard < this.shards.length; shard++) {
+            this.locks[shard].lock();
+            try {
+                this.shards[shard].clear();
+            } finally {
+                this.locks[shard].unlock();
+            }
+        }
+    }
+
+    /**
+     * Performs the action for every element in global order, shard by shard. Each shard is locked
+     * while its elements are visited.
+     *
+     * @param action The action to perform.
+     * @throws IllegalArgumentException If the action is null.
+     */
+    public void forEach(Consumer<? super E> action) {
+        if (action == null) {
+            throw new IllegalArgumentException("Action cannot be null.");
+        }
+        for (int shard = 0; shard < this.shards.length; shard++) {
+            this.locks[shard].lock();
+            try {
+                for (SpiderWebNode<E> node = this.shards[shard].getFirstNode(); node != null; node = node.getNextNode()) {
+                    action.accept(node.getValue());
+                }
+            } finally {
+                this.locks[shard].unlock();
+            }
+        }
+    }
+
+    /**
+     * Searches for the first occurrence of the specified element in global order.
+     *
+     * @param e The element to search for.
+     * @return A HashMap containing the shard, level and index of the element.
+     *         If the element is not found, an empty HashMap is returned.
+     */
+    public HashMap<String, Integer> indexOf(E e) {
+        final AtomicInteger found = new AtomicInteger(Integer.MAX_VALUE);
+        for (int shard = 0; shard < this.shards.length; shard++) {
+            final HashMap<String, Integer> hashMap = this.search(shard, value -> Objects.equals(value, e), found);
+            if (!hashMap.isEmpty()) {
+                return hashMap;
+            }
+        }
+        return new HashMap<>();
+    }
+
+    /**
+     * Searches all shards at once, on the common {@link ForkJoinPool}, for the first element in global
+     * order equal to the specified element.
+     *
+     * @param e The element to search for.
+     * @return A HashMap containing the shard, level and index of the element.
+     *         If the element is not found, an empty HashMap is returned.
+     */
+    public HashMap<String, Integer> parallelIndexOf(E e) {
+        return this.parallelIndexOf(value -> Objects.equals(value, e));
+    }
+
+    /**
+     * Searches all shards at once, on the common {@link ForkJoinPool}, for the first element in global
+     * order matching the predicate. A shard stops searching once an earlier shard has found a match.
+     *
+     * @param predicate The predicate to match elements against.
+     * @return A HashMap containing the shard, level and index of the first matching element.
+     *         If no element matches, an empty HashMap is returned.
+     * @throws IllegalArgumentException If the predicate is null.
+     */
+    public HashMap<String, Integer> parallelIndexOf(Predicate<? super E> predicate) {
+        if (predicate == null) {
+            throw new IllegalArgumentException("Predicate cannot be null.");
+        }
+        final AtomicInteger found = new AtomicInteger(Integer.MAX_VALUE);
+        final List<ForkJoinTask<HashMap<String, Integer>>> searches = new ArrayList<>();
+        for (int shard = 0; shard < this.shards.length; shard++) {
+            final int searched = shard;
+            searches.add(ForkJoinPool.commonPool().submit(() -> this.search(searched, predicate, found)));
+        }
+        HashMap<String, Integer> first = new HashMap<>();
+        for (ForkJoinTask<HashMap<String, Integer>> search : searches) {
+            final HashMap<String, Integer> hashMap = search.join();
+            if (first.isEmpty() && !hashMap.isEmpty()) {
+                first = hashMap;
+            }
+        }
+        return first;
+    }
+
+    /**
+     * Returns a string representation of the ShardedSpiderWeb, including its number of shards, size, and maximum elements per level.
+     *
+     * @return A string representation of the ShardedSpiderWeb.
+     */
+    @Override
+    public String toString() {
+        return "ShardedSpiderWeb{" +
+                "shards=" + this.shards.length +
+                ", size=" + this.size() +
+                ", maxElementPerLevel=" + this.getMaxElementPerLevel() +
+                '}';
+    }
+
+    /**
+     * Searches one shard, giving up once a shard earlier in global order has recorded a match.
+     */
+    private HashMap<String, Integer> search(int shard, Predicate<? super E> predicate, AtomicInteger found) {
+        final HashMap<String, Integer> hashMap = new HashMap<>();
+        this.locks[shard].lock();
+        try {
+            final SpiderWeb<E> web = this.shards[shard];
+            int position = 0;
+            for (SpiderWebNode<E> node = web.getFirstNode(); node != null && found.get() > shard; node = node.getNextNode()) {
+                if (predicate.test(node.getValue())) {
+                    found.accumulateAndGet(shard, Math::min);
+                    hashMap.put("shard", shard);
+                    hashMap.put("level", position / web.getMaxElementPerLevel());
+                    hashMap.put("index", position % web.getMaxElementPerLevel());
+                    break;
+                }
+                position++;
+            }
+        } finally {
+            this.locks[shard].unlock();
+        }
+        return hashMap;
+    }
+
+    private int homeShard() {
+        final long mixed = Thread.currentThread().getId() * 0x9E3779B97F4A7C15L;
+        return (int) Math.floorMod(mixed >>> 32, (long) this.shards.length);
+    }
+
+    private void checkShard(int shard) {
+        if (shard < 0 || shard >= this.shards.length) {
+            throw new IllegalArgumentException("Invalid shard: " + shard);
+        }
+    }
+}
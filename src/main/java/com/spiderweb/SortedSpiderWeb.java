@@ -0,0 +1,358 @@
+package com.spiderweb;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * SortedSpiderWeb is a SpiderWeb that keeps its elements in ascending order, either by their
+ * natural ordering or by a {@link Comparator} provided at construction time. Elements that compare
+ * equal keep their insertion order.
+ *
+ * <p>Searches use the level links as express lanes, in the manner of a skip list: the heads of the
+ * levels are visited first to find the level that holds the searched element, and only that level
+ * is then scanned node by node. A search therefore costs O(size / maxElementPerLevel +
+ * maxElementPerLevel) comparisons, and inserting an element costs one search plus the relinking of
+ * a single level. This is only sub-linear while the level width grows with the size, so the
+ * constructors without a level width enable {@linkplain #enableAdaptiveLevelWidth() adaptive level
+ * width}, which keeps it near sqrt(size) and searches and inserts at O(sqrt(size)). The constructors
+ * taking a level width keep it fixed: a search then costs about size / maxElementPerLevel
+ * comparisons, which is linear unless the width is chosen near the square root of the expected size
+ * or adaptive level width is enabled afterwards.
+ *
+ * <p>Usage Example:
+ * <blockquote><pre>
+ * SortedSpiderWeb&lt;Integer&gt; prices = new SortedSpiderWeb&lt;&gt;();
+ * prices.add(42);
+ * prices.add(7);
+ * prices.add(19);
+ * Integer ceiling = prices.ceiling(10); // 19
+ * int rank = prices.rank(42);           // 2
+ * </pre></blockquote>
+ *
+ * @param <E> the type of elements stored in the SortedSpiderWeb
+ *
+ * @author Milan Savic
+ * @version 1.0
+ * @since October 19, 2026
+ */
+public class SortedSpiderWeb<E> extends SpiderWeb<E> {
+
+    private final Comparator<? super E> comparator;
+    private int searchPosition;
+
+    /**
+     * Constructs a SortedSpiderWeb ordered by the natural ordering of its elements, with an adaptive
+     * number of elements per level of at least 6.
+     */
+    public SortedSpiderWeb() {
+        this.comparator = null;
+        this.enableAdaptiveLevelWidth();
+    }
+
+    /**
+     * Constructs a SortedSpiderWeb ordered by the natural ordering of its elements, with a specified
+     * maximum number of elements per level.
+     *
+     * @param maxElementPerLevel The maximum number of elements allowed in each level.
+     */
+    public SortedSpiderWeb(int maxElementPerLevel) {
+        super(maxElementPerLevel);
+        this.comparator = null;
+    }
+
+    /**
+     * Constructs a SortedSpiderWeb ordered by the specified comparator, with an adaptive number of
+     * elements per level of at least 6.
+     *
+     * @param comparator The comparator used to order the elements, or {@code null} for natural ordering.
+     */
+    public SortedSpiderWeb(Comparator<? super E> comparator) {
+        this.comparator = comparator;
+        this.enableAdaptiveLevelWidth();
+    }
+
+    /**
+     * Constructs a SortedSpiderWeb ordered by the specified comparator, with a specified maximum
+     * number of elements per level.
+     *
+     * @param maxElementPerLevel The maximum number of elements allowed in each level.
+     * @param comparator         The comparator used to order the elements, or {@code null} for natural ordering.
+     */
+    public SortedSpiderWeb(int maxElementPerLevel, Comparator<? super E> comparator) {
+        super(maxElementPerLevel);
+        this.comparator = comparator;
+    }
+
+    /**
+     * Returns the comparator used to order the elements.
+     *
+     * @return The comparator, or {@code null} if the elements use their natural ordering.
+     */
+    public Comparator<? super E> comparator() {
+        return this.comparator;
+    }
+
+    /**
+     * Inserts the specified element at its position in the sort order. Elements equal to it stay
+     * in front of it.
+     *
+     * @param value The value to be inserted.
+     */
+    @Override
+    public void add(E value) {
+        this.insert(new SpiderWebNode<>(value, null, null));
+    }
+
+    /**
+     * Inserts a SpiderWebNode at the position of its value in the sort order.
+     *
+     * @param newNode The SpiderWebNode to be inserted.
+     */
+    @Override
+    public void add(SpiderWebNode<E> newNode) {
+        this.insert(newNode);
+    }
+
+    /**
+     * Not supported, because the position of an element is determined by the sort order.
+     *
+     * @param value The value that would be added.
+     * @throws UnsupportedOperationException Always.
+     */
+    @Override
+    public void addFirst(E value) {
+        throw new UnsupportedOperationException("Cannot add to the beginning of a SortedSpiderWeb.");
+    }
+
+    /**
+     * Not supported, because the position of an element is determined by the sort order.
+     *
+     * @param newNode The SpiderWebNode that would be added.
+     * @throws UnsupportedOperationException Always.
+     */
+    @Override
+    public void addFirst(SpiderWebNode<E> newNode) {
+        throw new UnsupportedOperationException("Cannot add to the beginning of a SortedSpiderWeb.");
+    }
+
+    /**
+     * Not supported, because replacing an element in place could break the sort order.
+     *
+     * @param level   The level at which the element would be set.
+     * @param index   The index at which the element would be set.
+     * @param element The element that would be set.
+     * @return Never returns normally.
+     * @throws UnsupportedOperationException Always.
+     */
+    @Override
+    public E set(int level, int index, E element) {
+        throw new UnsupportedOperationException("Cannot set an element of a SortedSpiderWeb.");
+    }
+
+    /**
+     * Not supported, because replacing an element in place could break the sort order. This also
+     * applies to {@link SpiderWebCursor#set}.
+     *
+     * @param node     The node whose value would be replaced.
+     * @param position The position of the node.
+     * @param element  The element that would be set.
+     * @return Never returns normally.
+     * @throws UnsupportedOperationException Always.
+     */
+    @Override
+    E setNode(SpiderWebNode<E> node, int position, E element) {
+        throw new UnsupportedOperationException("Cannot set an element of a SortedSpiderWeb.");
+    }
+
+    /**
+     * Not supported, because replacing elements in place could break the sort order.
+     *
+     * @param positions The positions at which the elements would be set.
+     * @param values    The values that would be set.
+     * @return Never returns normally.
+     * @throws UnsupportedOperationException Always.
+     */
+    @Override
+    public List<E> setAll(long[] positions, List<? extends E> values) {
+        throw new UnsupportedOperationException("Cannot set an element of a SortedSpiderWeb.");
+    }
+
+    /**
+     * Not supported, because replacing elements in place could break the sort order.
+     *
+     * @param operator The operator that would be applied to each element.
+     * @throws UnsupportedOperationException Always.
+     */
+    @Override
+    public void parallelReplaceAll(UnaryOperator<E> operator) {
+        throw new UnsupportedOperationException("Cannot set an element of a SortedSpiderWeb.");
+    }
+
+    /**
+     * Returns the least element greater than or equal to the specified element.
+     *
+     * @param e The element to compare against.
+     * @return The least element greater than or equal to {@code e}, or {@code null} if there is none.
+     */
+    public E ceiling(E e) {
+        final SpiderWebNode<E> node = this.successorOf(this.lastBefore(e, false));
+        return node == null ? null : node.getValue();
+    }
+
+    /**
+     * Returns the greatest element less than or equal to the specified element.
+     *
+     * @param e The element to compare against.
+     * @return The greatest element less than or equal to {@code e}, or {@code null} if there is none.
+     */
+    public E floor(E e) {
+        final SpiderWebNode<E> node = this.lastBefore(e, true);
+        return node == null ? null : node.getValue();
+    }
+
+    /**
+     * Returns the least element strictly greater than the specified element.
+     *
+     * @param e The element to compare against.
+     * @return The least element greater than {@code e}, or {@code null} if there is none.
+     */
+    public E higher(E e) {
+        final SpiderWebNode<E> node = this.successorOf(this.lastBefore(e, true));
+        return node == null ? null : node.getValue();
+    }
+
+    /**
+     * Returns the greatest element strictly less than the specified element.
+     *
+     * @param e The element to compare against.
+     * @return The greatest element less than {@code e}, or {@code null} if there is none.
+     */
+    public E lower(E e) {
+        final SpiderWebNode<E> node = this.lastBefore(e, false);
+        return node == null ? null : node.getValue();
+    }
+
+    /**
+     * Returns the number of elements strictly less than the specified element, which is also the
+     * position at which the first occurrence of the element is or would be stored.
+     *
+     * @param e The element to rank.
+     * @return The number of elements less than {@code e}.
+     */
+    public int rank(E e) {
+        this.lastBefore(e, false);
+        return this.searchPosition + 1;
+    }
+
+    /**
+     * Returns whether the SortedSpiderWeb contains an element that compares equal to the specified element.
+     *
+     * @param e The element to search for.
+     * @return {@code true} if an equal element is present, {@code false} otherwise.
+     */
+    public boolean contains(E e) {
+        final SpiderWebNode<E> node = this.successorOf(this.lastBefore(e, false));
+        return node != null && this.compare(node.getValue(), e) == 0;
+    }
+
+    /**
+     * Searches for the specified element and returns its level and index in the SortedSpiderWeb.
+     * The search skips to the first element that compares equal before checking for equality.
+     *
+     * @param e The element to search for in the SortedSpiderWeb.
+     * @return A HashMap containing the level and index of the specified element.
+     */
+    @Override
+    public HashMap<String, Integer> indexOf(E e) {
+        SpiderWebNode<E> node = this.successorOf(this.lastBefore(e, false));
+        int position = this.searchPosition + 1;
+        for (; node != null && this.compare(node.getValue(), e) == 0; node = node.getNextNode(), position++) {
+            if (node.getValue().equals(e)) {
+                return this.toLevelAndIndex(position);
+            }
+        }
+        return new HashMap<>();
+    }
+
+    /**
+     * Searches for the last occurrence of the specified element and returns its level and index in
+     * the SortedSpiderWeb. The search skips to the last element that compares equal before checking
+     * for equality.
+     *
+     * @param e The element to search for in the SortedSpiderWeb.
+     * @return A HashMap containing the level and index of the last occurrence of the specified element.
+     */
+    @Override
+    public HashMap<String, Integer> lastIndexOf(E e) {
+        SpiderWebNode<E> node = this.lastBefore(e, true);
+        int position = this.searchPosition;
+        for (; node != null && this.compare(node.getValue(), e) == 0; node = node.getPrevNode(), position--) {
+            if (node.getValue().equals(e)) {
+                return this.toLevelAndIndex(position);
+            }
+        }
+        return new HashMap<>();
+    }
+
+    private void insert(SpiderWebNode<E> newNode) {
+        final SpiderWebNode<E> last = this.getLastNode();
+        if (last == null || this.compare(last.getValue(), newNode.getValue()) <= 0) {
+            super.add(newNode);
+            return;
+        }
+        final SpiderWebNode<E> predecessor = this.lastBefore(newNode.getValue(), true);
+        this.insertBefore(this.successorOf(predecessor), this.searchPosition + 1, newNode);
+    }
+
+    /**
+     * Finds the last node whose value is less than, or with {@code inclusive} less than or equal to,
+     * the specified key. The level heads are followed first, then the nodes of a single level. The
+     * position of the returned node is left in {@code searchPosition}, which is -1 when no node matches.
+     */
+    private SpiderWebNode<E> lastBefore(E key, boolean inclusive) {
+        this.seal();
+        SpiderWebNode<E> node = this.getFirstNode();
+        if (node == null || !this.isBefore(node.getValue(), key, inclusive)) {
+            this.searchPosition = -1;
+            return null;
+        }
+        int position = 0;
+        for (SpiderWebNode<E> next = node.getNextLevelNode();
+             next != null && this.isBefore(next.getValue(), key, inclusive);
+             next = node.getNextLevelNode()) {
+            node = next;
+            position += this.levelStride(position);
+        }
+        for (SpiderWebNode<E> next = node.getNextNode();
+             next != null && this.isBefore(next.getValue(), key, inclusive);
+             next = node.getNextNode()) {
+            node = next;
+            position++;
+        }
+        this.searchPosition = position;
+        return node;
+    }
+
+    private SpiderWebNode<E> successorOf(SpiderWebNode<E> node) {
+        return node == null ? this.getFirstNode() : node.getNextNode();
+    }
+
+    private boolean isBefore(E value, E key, boolean inclusive) {
+        final int comparison = this.compare(value, key);
+        return inclusive ? comparison <= 0 : comparison < 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(E a, E b) {
+        return this.comparator == null ? ((Comparable<? super E>) a).compareTo(b) : this.comparator.compare(a, b);
+    }
+
+    private HashMap<String, Integer> toLevelAndIndex(int position) {
+        final HashMap<String, Integer> hashMap = new HashMap<>();
+        hashMap.put("level", position / this.getMaxElementPerLevel());
+        hashMap.put("index", position % this.getMaxElementPerLevel());
+        return hashMap;
+    }
+}
@@ -1,7 +1,22 @@
 package com.spiderweb;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.DoubleSummaryStatistics;
 import java.util.HashMap;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
 
 
 /**
@@ -26,6 +41,16 @@ import java.util.NoSuchElementException;
  * @since November 24, 2023
  */
 public class SpiderWeb<E> implements Cloneable{
+    /**
+     * The number of level links re-pointed by each mutation while an adaptive SpiderWeb re-levels.
+     */
+    static final int RELEVEL_STEPS_PER_MUTATION = 4;
+
+    /**
+     * The number of elements whose sizes are measured by {@link #estimateRetainedBytes()}.
+     */
+    public static final int DEFAULT_SIZE_SAMPLES = 64;
+
     // Private fields for managing the spider web structure
 
     private SpiderWebNode<E> first;
@@ -36,13 +61,29 @@ public class SpiderWeb<E> implements Cloneable{
     private int tmpLevel;
     private int tmpIndex;
     private int size;
-    private final int maxElementPerLevel;
+    private int modCount;
+    private int maxElementPerLevel;
+    private final int minElementPerLevel;
+    private boolean adaptive;
+    private int pendingElementPerLevel;
+    private boolean bulkLoading;
+    private SpiderWebNode<E> bulkLinkFrom;
+    private int relinkPosition;
+    private SpiderWebNode<E> relinkNode;
+    private SpiderWebNode<E> relinkTarget;
+    private SpiderWebNode<E> pendingPrevLevel;
+    private List<SpiderWebListener<E>> listeners = new ArrayList<>();
+    private LevelAggregates<E> aggregates;
+    private LevelDirectory<E> directory;
+    private LevelHashes<E> hashes;
+    private FingerCache<E> fingers = this.newFingerCache();
 
     /**
      * Constructs a SpiderWeb with a default maximum number of elements per level (6).
      */
     public SpiderWeb() {
         this.maxElementPerLevel = 6;
+        this.minElementPerLevel = 6;
     }
 
     /**
@@ -52,6 +93,7 @@ public class SpiderWeb<E> implements Cloneable{
      */
     public SpiderWeb(int maxElementPerLevel) {
         this.maxElementPerLevel = maxElementPerLevel;
+        this.minElementPerLevel = maxElementPerLevel;
     }
 
     // Getter methods for accessing SpiderWeb properties
@@ -89,6 +131,7 @@ public class SpiderWeb<E> implements Cloneable{
      * @return The last level of the SpiderWeb.
      */
     public int getLevel() {
+        this.seal();
         if (this.first == null) {
             return -1;
         }
@@ -104,6 +147,7 @@ public class SpiderWeb<E> implements Cloneable{
      * @return The last index of the SpiderWeb.
      */
     public int getIndex() {
+        this.seal();
         if (this.first == null) {
             return -1;
         }
@@ -113,13 +157,131 @@ public class SpiderWeb<E> implements Cloneable{
         return index - 1;
     }
 
+    /**
+     * Gets the maximum number of elements allowed in each level of the SpiderWeb.
+     *
+     * @return The maximum number of elements per level.
+     */
+    public int getMaxElementPerLevel() {
+        return this.maxElementPerLevel;
+    }
+
+    /**
+     * Enables adaptive level width. The SpiderWeb then keeps the number of elements per level near
+     * the square root of its size, never going below the width it was constructed with, so level
+     * jumps stay short as the SpiderWeb grows and shrinks. Once the width has drifted by a factor of
+     * two, the level links are re-pointed incrementally: every following mutation re-links
+     * {@value #RELEVEL_STEPS_PER_MUTATION} nodes, so no single operation pays for a full rebuild.
+     * Levels and indices keep referring to the current width until re-leveling completes.
+     */
+    public void enableAdaptiveLevelWidth() {
+        this.adaptive = true;
+        this.adaptLevelWidth();
+    }
+
+    /**
+     * Disables adaptive level width. A re-leveling that is in progress is completed first, so the
+     * SpiderWeb keeps whatever level width it has reached.
+     */
+    public void disableAdaptiveLevelWidth() {
+        this.completeRelevel();
+        this.adaptive = false;
+    }
+
+    /**
+     * Enters bulk-load mode. Elements appended with {@code add} are then linked only to their
+     * neighbours, and the level links are built in a single linear pass when the SpiderWeb is sealed.
+     * Sealing happens explicitly through {@link #seal()}, or implicitly before the first operation
+     * that relies on level links or on the level width, such as a positional lookup, {@code getLevel},
+     * {@code addFirst} or a removal, so levels and indices are always resolved at the sealed width.
+     * Level links read directly from the nodes are incomplete until the SpiderWeb is sealed.
+     */
+    public void beginBulkLoad() {
+        if (this.bulkLoading) {
+            return;
+        }
+        this.completeRelevel();
+        this.bulkLoading = true;
+        this.bulkLinkFrom = this.prevLevel;
+    }
+
+    /**
+     * Leaves bulk-load mode and builds the level links of every element appended since it was entered,
+     * in one pass over those elements. An adaptive SpiderWeb also switches straight to its target
+     * level width, relinking all elements in the same pass. Has no effect outside bulk-load mode.
+     */
+    public void seal() {
+        if (!this.bulkLoading) {
+            return;
+        }
+        this.bulkLoading = false;
+        final int targetWidth = this.targetLevelWidth();
+        final boolean relevel = targetWidth != this.maxElementPerLevel;
+        SpiderWebNode<E> source = this.bulkLinkFrom;
+        this.bulkLinkFrom = null;
+        if (relevel || source == null) {
+            this.maxElementPerLevel = targetWidth;
+            source = this.first;
+            SpiderWebNode<E> node = this.first;
+            for (int i = 0; i < targetWidth && node != null; i++) {
+                node.setPrevLevelNode(null);
+                node = node.getNextNode();
+            }
+        }
+
+        SpiderWebNode<E> target = source;
+        for (int i = 0; i < this.maxElementPerLevel && target != null; i++) {
+            target = target.getNextNode();
+        }
+        for (; target != null; target = target.getNextNode()) {
+            source.setNextLevelNode(target);
+            target.setPrevLevelNode(source);
+            source = source.getNextNode();
+        }
+        this.prevLevel = this.size >= this.maxElementPerLevel ? source : null;
+        for (; source != null; source = source.getNextNode()) {
+            source.setNextLevelNode(null);
+        }
+
+        if (relevel) {
+            this.level = this.size / this.maxElementPerLevel;
+            this.index = this.size % this.maxElementPerLevel;
+            this.modCount++;
+            this.fireLevelWidthChanged();
+        }
+    }
+
+    /**
+     * Checks whether the SpiderWeb is in bulk-load mode.
+     *
+     * @return True if level links are deferred until the SpiderWeb is sealed, false otherwise.
+     */
+    public boolean isBulkLoading() {
+        return this.bulkLoading;
+    }
+
+    /**
+     * Checks whether the SpiderWeb adapts its level width to its size.
+     *
+     * @return True if adaptive level width is enabled, false otherwise.
+     */
+    public boolean isAdaptiveLevelWidth() {
+        return this.adaptive;
+    }
+
     // Private helper methods for managing temporary variables
 
     private void resetSpiderWeb() {
         this.resetPointers();
+        this.resetRelevel();
+        this.bulkLinkFrom = null;
+        if (this.adaptive) {
+            this.maxElementPerLevel = this.minElementPerLevel;
+        }
         this.level = 0;
         this.index = 0;
         this.size = 0;
+        this.modCount++;
     }
 
     private void resetPointers() {
@@ -179,17 +341,277 @@ public class SpiderWeb<E> implements Cloneable{
 
     private void incrementSize() {
         this.size++;
+        this.modCount++;
     }
 
     private void decrementSize() {
         this.size--;
+        this.modCount++;
     }
 
     private boolean isValidLevelAndIndex(int level, int index) {
         return (level >= 0 && level <= this.getLevel()) && (index >= 0 && index <= this.getMaximumIndexForLevel(level));
     }
 
+    private int toPosition(int level, int index) {
+        return level * this.maxElementPerLevel + index;
+    }
+
+    private void checkLevelAndIndex(int level, int index) {
+        if (!this.isValidLevelAndIndex(level, index)) {
+            throw new IllegalArgumentException("Invalid level or index. Level: " + level + ", Index: " + index);
+        }
+    }
+
+    /**
+     * Returns the node at the specified position, counted from the first element. With a level
+     * directory the node is reached from the nearest referenced node. Otherwise the walk starts from
+     * whichever is closest of the first node, the last node and the recently accessed nodes remembered
+     * by the finger cache, jumping whole levels and then stepping within the level.
+     *
+     * @param position The position of the node (between 0 and size - 1).
+     * @return The node at the specified position.
+     */
+    SpiderWebNode<E> nodeAt(int position) {
+        this.seal();
+        if (this.directory != null) {
+            return this.directory.nodeAt(position);
+        }
+        SpiderWebNode<E> node = this.first;
+        int current = 0;
+        if (this.size - 1 - position < position) {
+            node = this.last;
+            current = this.size - 1;
+        }
+        final int finger = this.fingers.nearest(position);
+        if (finger >= 0 && Math.abs(this.fingers.position(finger) - position) < Math.abs(current - position)) {
+            node = this.fingers.node(finger);
+            current = this.fingers.position(finger);
+        }
+
+        for (int stride = this.levelStride(current); current + stride <= position; stride = this.levelStride(current)) {
+            node = node.getNextLevelNode();
+            current += stride;
+        }
+        for (int stride = this.prevLevelStride(current); current - stride >= position; stride = this.prevLevelStride(current)) {
+            node = node.getPrevLevelNode();
+            current -= stride;
+        }
+        for (; current < position; current++) {
+            node = node.getNextNode();
+        }
+        for (; current > position; current--) {
+            node = node.getPrevNode();
+        }
+        this.fingers.remember(finger, node, position);
+        return node;
+    }
+
+    private FingerCache<E> newFingerCache() {
+        final FingerCache<E> fingerCache = new FingerCache<>(this);
+        this.listeners.add(fingerCache);
+        return fingerCache;
+    }
+
+    /**
+     * Returns the distance covered by the next level link of the node at the specified position.
+     * While an adaptive SpiderWeb re-levels, nodes before the re-linking cursor already link at the
+     * pending width and the remaining nodes still link at the current width.
+     *
+     * @param position The position of the node.
+     * @return The number of positions between the node and its next level node.
+     */
+    int levelStride(int position) {
+        if (this.pendingElementPerLevel != 0 && position < this.relinkPosition) {
+            return this.pendingElementPerLevel;
+        }
+        return this.maxElementPerLevel;
+    }
+
+    /**
+     * Returns the distance covered by the previous level link of the node at the specified position.
+     *
+     * @param position The position of the node.
+     * @return The number of positions between the node and its previous level node.
+     */
+    int prevLevelStride(int position) {
+        if (this.pendingElementPerLevel != 0 && position - this.pendingElementPerLevel < this.relinkPosition) {
+            return this.pendingElementPerLevel;
+        }
+        return this.maxElementPerLevel;
+    }
+
+    /**
+     * Re-points the level links of the sources in [fromSource, toSource] and the previous level links
+     * of the targets in [fromTarget, toTarget] to the nodes they should reach for their position.
+     * The nodes involved are collected by walking from {@code anchor}, so the links being repaired
+     * are never followed.
+     */
+    private void repairLevelLinks(SpiderWebNode<E> anchor, int anchorPosition,
+                                  int fromSource, int toSource, int fromTarget, int toTarget) {
+        final int maxStride = Math.max(this.maxElementPerLevel, this.pendingElementPerLevel);
+        final int sourceStart = Math.max(0, fromSource);
+        final int sourceEnd = Math.min(this.size - 1, toSource);
+        final int targetStart = Math.max(0, fromTarget);
+        final int targetEnd = Math.min(this.size - 1, toTarget);
+        final int low = Math.min(sourceStart, Math.max(0, targetStart - maxStride));
+        final int high = Math.max(Math.min(this.size - 1, sourceEnd + maxStride), targetEnd);
+
+        SpiderWebNode<E> node = anchor;
+        for (int position = anchorPosition; position > low; position--) {
+            node = node.getPrevNode();
+        }
+        final List<SpiderWebNode<E>> window = new ArrayList<>(high - low + 1);
+        for (int position = low; position <= high; position++) {
+            window.add(node);
+            node = node.getNextNode();
+        }
+
+        for (int position = sourceStart; position <= sourceEnd; position++) {
+            final int target = position + this.levelStride(position);
+            window.get(position - low).setNextLevelNode(target < this.size ? window.get(target - low) : null);
+        }
+        for (int position = targetStart; position <= targetEnd; position++) {
+            final int source = position - this.prevLevelStride(position);
+            window.get(position - low).setPrevLevelNode(source >= 0 ? window.get(source - low) : null);
+        }
+    }
+
+    /**
+     * Registers a listener that is notified after every mutation of the SpiderWeb.
+     *
+     * @param listener The listener to register.
+     */
+    void addListener(SpiderWebListener<E> listener) {
+        this.listeners.add(listener);
+    }
+
+    /**
+     * Unregisters a previously registered listener.
+     *
+     * @param listener The listener to unregister.
+     */
+    void removeListener(SpiderWebListener<E> listener) {
+        this.listeners.remove(listener);
+    }
+
+    private void fireNodeAdded(SpiderWebNode<E> node) {
+        for (int i = 0; i < this.listeners.size(); i++) {
+            this.listeners.get(i).nodeAdded(node);
+        }
+    }
+
+    private void fireNodeAddedFirst(SpiderWebNode<E> node) {
+        for (int i = 0; i < this.listeners.size(); i++) {
+            this.listeners.get(i).nodeAddedFirst(node);
+        }
+    }
+
+    private void fireNodeInserted(SpiderWebNode<E> node, int position) {
+        for (int i = 0; i < this.listeners.size(); i++) {
+            this.listeners.get(i).nodeInserted(node, position);
+        }
+    }
+
+    private void fireValueSet(SpiderWebNode<E> node, int position, E oldValue) {
+        for (int i = 0; i < this.listeners.size(); i++) {
+            this.listeners.get(i).valueSet(node, position, oldValue);
+        }
+    }
+
+    private void fireFirstRemoved(E value) {
+        for (int i = 0; i < this.listeners.size(); i++) {
+            this.listeners.get(i).firstRemoved(value);
+        }
+    }
+
+    private void fireFirstRemoved(SpiderWebNode<E> head, int count) {
+        for (int i = 0; i < this.listeners.size(); i++) {
+            this.listeners.get(i).firstRemoved(head, count);
+        }
+    }
+
+    private void fireLastRemoved(E value) {
+        for (int i = 0; i < this.listeners.size(); i++) {
+            this.listeners.get(i).lastRemoved(value);
+        }
+    }
+
+    private void fireNodeRemoved(SpiderWebNode<E> successor, int position, E value) {
+        for (int i = 0; i < this.listeners.size(); i++) {
+            this.listeners.get(i).nodeRemoved(successor, position, value);
+        }
+    }
+
+    private void fireNodesRemoved(int from) {
+        for (int i = 0; i < this.listeners.size(); i++) {
+            this.listeners.get(i).nodesRemoved(from);
+        }
+    }
+
+    private void fireCleared() {
+        for (int i = 0; i < this.listeners.size(); i++) {
+            this.listeners.get(i).cleared();
+        }
+    }
+
+    private void fireValuesReplaced() {
+        for (int i = 0; i < this.listeners.size(); i++) {
+            this.listeners.get(i).valuesReplaced();
+        }
+    }
+
+    private void fireLevelWidthChanged() {
+        for (int i = 0; i < this.listeners.size(); i++) {
+            this.listeners.get(i).levelWidthChanged();
+        }
+    }
+
+    private LevelHashes<E> checkHashes() {
+        if (this.hashes == null) {
+            throw new IllegalStateException("Content hashes are not enabled on this SpiderWeb.");
+        }
+        return this.hashes;
+    }
+
+    /**
+     * Compares the elements of this and another SpiderWeb between two positions, the second exclusive,
+     * and appends the ranges of differing positions, extending the last range when it ends just before
+     * the first differing position.
+     */
+    private void diffRange(SpiderWeb<E> other, int from, int to, List<HashMap<String, Integer>> ranges) {
+        SpiderWebNode<E> mine = from < this.size ? this.nodeAt(from) : null;
+        SpiderWebNode<E> theirs = from < other.size ? other.nodeAt(from) : null;
+        for (int position = from; position < to; position++) {
+            final boolean differs = mine == null || theirs == null || !Objects.equals(mine.getValue(), theirs.getValue());
+            if (differs) {
+                final HashMap<String, Integer> last = ranges.isEmpty() ? null : ranges.get(ranges.size() - 1);
+                if (last != null && this.toPosition(last.get("toLevel"), last.get("toIndex")) == position - 1) {
+                    last.put("toLevel", position / this.maxElementPerLevel);
+                    last.put("toIndex", position % this.maxElementPerLevel);
+                } else {
+                    final HashMap<String, Integer> range = new HashMap<>();
+                    range.put("fromLevel", position / this.maxElementPerLevel);
+                    range.put("fromIndex", position % this.maxElementPerLevel);
+                    range.put("toLevel", position / this.maxElementPerLevel);
+                    range.put("toIndex", position % this.maxElementPerLevel);
+                    ranges.add(range);
+                }
+            }
+            mine = mine == null ? null : mine.getNextNode();
+            theirs = theirs == null ? null : theirs.getNextNode();
+        }
+    }
+
+    private LevelAggregates<E> checkAggregates() {
+        if (this.aggregates == null) {
+            throw new IllegalStateException("Aggregates are not enabled on this SpiderWeb.");
+        }
+        return this.aggregates;
+    }
+
     private void addFirstNode(SpiderWebNode<E> newNode) {
+        this.seal();
         if (this.first == null) {
             this.first = newNode;
             this.last = newNode;
@@ -197,7 +619,12 @@ public class SpiderWeb<E> implements Cloneable{
             this.first.setPrevNode(newNode);
             newNode.setNextNode(this.first);
             this.first = newNode;
-            if (this.size >= this.maxElementPerLevel) {
+            if (this.pendingElementPerLevel != 0) {
+                this.relinkPosition++;
+                if (this.pendingPrevLevel == null && this.size + 1 == this.pendingElementPerLevel) {
+                    this.pendingPrevLevel = newNode;
+                }
+            } else if (this.size >= this.maxElementPerLevel) {
                 SpiderWebNode<E> tmpPointer = this.first;
                 for (int i = 0; i < this.maxElementPerLevel; i++) {
                     tmpPointer = tmpPointer.getNextNode();
@@ -209,6 +636,11 @@ public class SpiderWeb<E> implements Cloneable{
 
         this.incrementIndex();
         this.incrementSize();
+        if (this.pendingElementPerLevel != 0) {
+            this.repairLevelLinks(newNode, 0, 0, 0, 0, Math.max(this.maxElementPerLevel, this.pendingElementPerLevel));
+        }
+        this.fireNodeAddedFirst(newNode);
+        this.adaptLevelWidth();
     }
 
     private void addLastNode(SpiderWebNode<E> newNode) {
@@ -218,7 +650,11 @@ public class SpiderWeb<E> implements Cloneable{
         } else {
             this.last.setNextNode(newNode);
             this.last = newNode;
-            if (this.prevLevel != null) {
+            if (this.bulkLoading) {
+                newNode.setPrevLevelNode(null);
+            } else if (this.pendingElementPerLevel != 0) {
+                this.linkAppendedNode(newNode);
+            } else if (this.prevLevel != null) {
                 this.prevLevel.setNextLevelNode(newNode);
                 this.prevLevel = this.prevLevel.getNextNode();
             }
@@ -226,105 +662,468 @@ public class SpiderWeb<E> implements Cloneable{
 
         this.incrementIndex();
         this.incrementSize();
+        this.fireNodeAdded(newNode);
+        this.adaptLevelWidth();
     }
 
-    @SuppressWarnings("unchecked")
-    private SpiderWeb<E> superClone() {
-        try {
-            return (SpiderWeb<E>) super.clone();
-        } catch (CloneNotSupportedException e) {
-            throw new InternalError(e);
-        }
-    }
-
-    // Other public methods...
-
     /**
-     * Gets the maximum index for a specified level in the SpiderWeb.
-     *
-     * @param level The level for which to retrieve the maximum index.
-     * @return The maximum index for the specified level.
-     * @throws IllegalArgumentException If the specified level is negative or exceeds the maximum level in the SpiderWeb.
-     * @throws IllegalStateException If the SpiderWeb is empty, and the maximum index cannot be determined.
+     * Links a node appended while the SpiderWeb re-levels. The node is reached from the node one
+     * pending width back if that node has already been re-linked, and from the node one current
+     * width back otherwise.
      */
-    public int getMaximumIndexForLevel(int level) throws IllegalArgumentException, IllegalStateException {
-        if (level < 0) {
-            throw new IllegalArgumentException("Invalid level: Level cannot be negative.");
+    private void linkAppendedNode(SpiderWebNode<E> newNode) {
+        final int position = this.size;
+        final int pendingSource = position - this.pendingElementPerLevel;
+        final int source = position - this.maxElementPerLevel;
+
+        if (pendingSource < this.relinkPosition) {
+            newNode.setPrevLevelNode(this.pendingPrevLevel);
+        } else {
+            newNode.setPrevLevelNode(this.prevLevel);
         }
-        if (this.first == null) {
-            throw new IllegalStateException("Cannot get maximum index for level on an empty SpiderWeb");
+        if (this.pendingPrevLevel != null) {
+            if (pendingSource < this.relinkPosition) {
+                this.pendingPrevLevel.setNextLevelNode(newNode);
+            }
+            this.pendingPrevLevel = this.pendingPrevLevel.getNextNode();
+        } else if (position + 1 == this.pendingElementPerLevel) {
+            this.pendingPrevLevel = this.first;
         }
-        if (level > this.getLevel()){
-            throw new IllegalArgumentException(String.format("Invalid level: %d exceeds the maximum level %d.", level, this.getLevel()));
+        if (this.prevLevel != null) {
+            if (source >= this.relinkPosition) {
+                this.prevLevel.setNextLevelNode(newNode);
+            }
+            this.prevLevel = this.prevLevel.getNextNode();
         }
-        if (level < this.getLevel()){
-            return this.maxElementPerLevel - 1;
+        if (this.relinkTarget == null && this.relinkPosition + this.pendingElementPerLevel == position) {
+            this.relinkTarget = newNode;
         }
-        return this.getIndex();
     }
 
     /**
-     * Returns the size of the SpiderWeb, indicating the total number of elements stored.
-     *
-     * @return The size of the SpiderWeb.
+     * Advances an in-progress re-leveling, or starts one when an adaptive SpiderWeb has drifted too
+     * far from a level width of sqrt(size).
      */
-    public int size() {
-        return this.size;
+    private void adaptLevelWidth() {
+        if (!this.adaptive || this.bulkLoading) {
+            return;
+        }
+        if (this.pendingElementPerLevel != 0) {
+            for (int i = 0; i < RELEVEL_STEPS_PER_MUTATION && this.relinkPosition < this.size; i++) {
+                this.relinkStep();
+            }
+            if (this.relinkPosition >= this.size) {
+                this.finishRelevel();
+            }
+            return;
+        }
+        final int targetWidth = this.targetLevelWidth();
+        if (targetWidth != this.maxElementPerLevel) {
+            this.startRelevel(targetWidth);
+        }
     }
 
     /**
-     * Prints the elements of the SpiderWeb along with their levels and indices.
+     * Returns the level width an adaptive SpiderWeb should switch to, which is the current width
+     * unless it has drifted from sqrt(size) by more than a factor of two.
      */
-    public void print(){
-        SpiderWebNode<E> current = this.first;
-        this.resetTmpVariables();
-        while (current != null){
-            System.out.println("level: " + this.tmpLevel + ", index: " + this.tmpIndex + ", value: " + current.getValue());
-            current = current.getNextNode();
-            this.nextIndex();
+    private int targetLevelWidth() {
+        final long width = this.maxElementPerLevel;
+        if (this.adaptive && (4 * width * width < this.size
+                || (width > this.minElementPerLevel && width * width > 4L * this.size))) {
+            return Math.max(this.minElementPerLevel, (int) Math.sqrt(this.size));
+        }
+        return this.maxElementPerLevel;
+    }
+
+    private void completeRelevel() {
+        while (this.pendingElementPerLevel != 0 && this.relinkPosition < this.size) {
+            this.relinkStep();
+        }
+        if (this.pendingElementPerLevel != 0) {
+            this.finishRelevel();
+        }
+    }
+
+    private void startRelevel(int width) {
+        if (this.first == null) {
+            this.maxElementPerLevel = width;
+            this.modCount++;
+            this.fireLevelWidthChanged();
+            return;
+        }
+        this.pendingElementPerLevel = width;
+        this.relinkPosition = 0;
+        this.relinkNode = this.first;
+        this.relinkTarget = this.first;
+        for (int i = 0; i < width && this.relinkTarget != null; i++) {
+            this.relinkTarget = this.relinkTarget.getNextNode();
+        }
+        this.pendingPrevLevel = null;
+        if (this.size >= width) {
+            this.pendingPrevLevel = this.last;
+            for (int i = 1; i < width; i++) {
+                this.pendingPrevLevel = this.pendingPrevLevel.getPrevNode();
+            }
+        }
+        // Nodes closer to the first node than the new width have no previous level under the new width.
+        SpiderWebNode<E> node = this.first;
+        for (int position = 0; position < width && node != null; position++) {
+            if (position >= this.maxElementPerLevel) {
+                node.setPrevLevelNode(null);
+            }
+            node = node.getNextNode();
+        }
+    }
+
+    private void relinkStep() {
+        this.relinkNode.setNextLevelNode(this.relinkTarget);
+        if (this.relinkTarget != null) {
+            this.relinkTarget.setPrevLevelNode(this.relinkNode);
+            this.relinkTarget = this.relinkTarget.getNextNode();
         }
+        this.relinkNode = this.relinkNode.getNextNode();
+        this.relinkPosition++;
+    }
+
+    private void finishRelevel() {
+        this.maxElementPerLevel = this.pendingElementPerLevel;
+        this.prevLevel = this.pendingPrevLevel;
+        this.resetRelevel();
+        this.level = this.size / this.maxElementPerLevel;
+        this.index = this.size % this.maxElementPerLevel;
+        this.modCount++;
+        this.fireLevelWidthChanged();
+    }
+
+    private void resetRelevel() {
+        this.pendingElementPerLevel = 0;
+        this.relinkPosition = 0;
+        this.relinkNode = null;
+        this.relinkTarget = null;
+        this.pendingPrevLevel = null;
     }
 
     /**
-     * Returns the value of the first element in the SpiderWeb.
+     * Inserts a node in front of the node currently at the specified position. Only the level links
+     * within one level of the insertion point change, so the insertion costs O(maxElementPerLevel)
+     * once the successor is known.
      *
-     * @return The value of the first element.
-     * @throws NoSuchElementException If the SpiderWeb is empty and there is no first element to return.
+     * @param successor The node currently at the position, or {@code null} to append.
+     * @param position  The position the new node will occupy.
+     * @param newNode   The node to insert.
      */
-    public E getFirst() {
-        if (this.first == null) {
-            throw new NoSuchElementException("SpiderWeb is empty, no first element available.");
+    void insertBefore(SpiderWebNode<E> successor, int position, SpiderWebNode<E> newNode) {
+        newNode.resetPointers();
+        if (successor == null) {
+            newNode.setPrevNode(this.last);
+            newNode.setPrevLevelNode(this.prevLevel);
+            this.addLastNode(newNode);
+            return;
         }
-        return this.first.getValue();
+        if (successor == this.first) {
+            this.addFirstNode(newNode);
+            return;
+        }
+        this.seal();
+
+        final boolean advancePrevLevel = this.prevLevel != null && this.size - this.maxElementPerLevel < position;
+        final SpiderWebNode<E> predecessor = successor.getPrevNode();
+        predecessor.setNextNode(newNode);
+        newNode.setPrevNode(predecessor);
+        newNode.setNextNode(successor);
+        successor.setPrevNode(newNode);
+
+        if (this.pendingElementPerLevel != 0) {
+            this.insertWhileRelevelling(newNode, position, advancePrevLevel);
+            return;
+        }
+
+        // Sources within one level before the new node now link one node closer to them.
+        SpiderWebNode<E> source = newNode;
+        int sourcePosition = position;
+        for (; sourcePosition > 0 && position - sourcePosition < this.maxElementPerLevel; sourcePosition--) {
+            source = source.getPrevNode();
+        }
+        SpiderWebNode<E> target = source;
+        for (int i = 0; i < this.maxElementPerLevel && target != null; i++) {
+            target = target.getNextNode();
+        }
+        for (; sourcePosition <= position; sourcePosition++) {
+            source.setNextLevelNode(target);
+            if (target != null) {
+                target.setPrevLevelNode(source);
+                target = target.getNextNode();
+            }
+            source = source.getNextNode();
+        }
+
+        if (advancePrevLevel) {
+            this.prevLevel = this.prevLevel.getNextNode();
+        }
+        this.incrementIndex();
+        this.incrementSize();
+        this.fireNodeInserted(newNode, position);
+        this.adaptLevelWidth();
     }
 
     /**
-     * Returns the value of the last element in the SpiderWeb.
+     * Returns the number of structural modifications made to the SpiderWeb so far. Any change of the
+     * size or the level width counts, so positions computed before the change may be stale.
      *
-     * @return The value of the last element.
-     * @throws NoSuchElementException If the SpiderWeb is empty and there is no last element to return.
+     * @return The modification count.
      */
-    public E getLast() {
-        if (this.last == null) {
-            throw new NoSuchElementException("SpiderWeb is empty, no last element available.");
-        }
-        return this.last.getValue();
+    int modCount() {
+        return this.modCount;
     }
 
     /**
-     * Adds the specified element to the end of the SpiderWeb.
+     * Replaces the value of the specified node and notifies the listeners.
      *
-     * @param value The value to be added to the end of the SpiderWeb.
+     * @param node     The node whose value is replaced.
+     * @param position The position of the node.
+     * @param element  The new value.
+     * @return The previous value of the node.
      */
-    public void add(E value) {
-        final SpiderWebNode<E> newNode = new SpiderWebNode<>(value, this.last, this.prevLevel);
-        this.addLastNode(newNode);
+    E setNode(SpiderWebNode<E> node, int position, E element) {
+        final E oldValue = node.getValue();
+        node.setValue(element);
+        this.fireValueSet(node, position, oldValue);
+        return oldValue;
     }
 
     /**
-     * Adds a new SpiderWebNode to the end of the SpiderWeb.
+     * Unlinks the specified node from the SpiderWeb. The elements after it move one position towards
+     * the first element, so only the level links spanning the removed position are re-pointed and
+     * the removal costs O(maxElementPerLevel) once the node has been found.
      *
-     * @param newNode The SpiderWebNode to be added to the SpiderWeb.
+     * @param node     The node to remove.
+     * @param position The position of the node.
+     * @return The value of the removed node.
+     */
+    E unlink(SpiderWebNode<E> node, int position) {
+        this.seal();
+        if (node == this.first) {
+            return this.removeFirst();
+        }
+        if (node == this.last) {
+            return this.removeLast();
+        }
+        final E value = node.getValue();
+        final SpiderWebNode<E> predecessor = node.getPrevNode();
+        final SpiderWebNode<E> successor = node.getNextNode();
+        predecessor.setNextNode(successor);
+        successor.setPrevNode(predecessor);
+        node.resetSpiderWebNode();
+
+        if (this.pendingElementPerLevel != 0) {
+            if (position < this.relinkPosition) {
+                this.relinkPosition--;
+            } else if (position == this.relinkPosition) {
+                this.relinkNode = successor;
+            }
+        }
+        this.decrementIndex();
+        this.decrementSize();
+        this.prevLevel = this.nodeBeforeLast(this.maxElementPerLevel);
+        final int maxStride = Math.max(this.maxElementPerLevel, this.pendingElementPerLevel);
+        if (this.pendingElementPerLevel != 0) {
+            this.pendingPrevLevel = this.nodeBeforeLast(this.pendingElementPerLevel);
+            this.relinkTarget = this.relinkNode;
+            for (int i = 0; i < this.pendingElementPerLevel && this.relinkTarget != null; i++) {
+                this.relinkTarget = this.relinkTarget.getNextNode();
+            }
+        }
+        this.repairLevelLinks(successor, position, position - maxStride, position - 1, position, position + maxStride - 1);
+        this.fireNodeRemoved(successor, position, value);
+        this.adaptLevelWidth();
+        return value;
+    }
+
+    /**
+     * Detaches the first {@code count} elements at once. The new first node is reached through the
+     * level links, and only the level links crossing the cut are cleared, so detaching costs
+     * O(count / maxElementPerLevel + maxElementPerLevel) however many elements are detached. The
+     * detached nodes stay chained through their next links and keep their values.
+     *
+     * @param count The number of elements to detach, between 1 and the size of the SpiderWeb.
+     * @return The first detached node.
+     */
+    SpiderWebNode<E> detachFirst(int count) {
+        this.seal();
+        this.completeRelevel();
+        final SpiderWebNode<E> head = this.first;
+        if (count >= this.size) {
+            this.resetSpiderWeb();
+            this.fireCleared();
+            return head;
+        }
+        final SpiderWebNode<E> newFirst = this.nodeAt(count);
+        newFirst.getPrevNode().setNextNode(null);
+        newFirst.setPrevNode(null);
+        SpiderWebNode<E> node = newFirst;
+        for (int i = 0; i < this.maxElementPerLevel && node != null; i++) {
+            if (node.getPrevLevelNode() != null) {
+                node.getPrevLevelNode().setNextLevelNode(null);
+                node.setPrevLevelNode(null);
+            }
+            node = node.getNextNode();
+        }
+
+        this.first = newFirst;
+        this.size -= count;
+        this.level = this.size / this.maxElementPerLevel;
+        this.index = this.size % this.maxElementPerLevel;
+        if (this.size < this.maxElementPerLevel) {
+            this.prevLevel = null;
+        }
+        this.modCount++;
+        this.fireFirstRemoved(head, count);
+        this.adaptLevelWidth();
+        return head;
+    }
+
+    /**
+     * Returns the node one level width before the end, which is the node whose level link the next
+     * appended node will be reached by, or null if the SpiderWeb holds fewer elements than that.
+     */
+    private SpiderWebNode<E> nodeBeforeLast(int width) {
+        if (this.size < width) {
+            return null;
+        }
+        SpiderWebNode<E> node = this.last;
+        for (int i = 1; i < width; i++) {
+            node = node.getPrevNode();
+        }
+        return node;
+    }
+
+    private void insertWhileRelevelling(SpiderWebNode<E> newNode, int position, boolean advancePrevLevel) {
+        final int pendingWidth = this.pendingElementPerLevel;
+        if (this.pendingPrevLevel != null && this.size - pendingWidth < position) {
+            this.pendingPrevLevel = this.pendingPrevLevel.getNextNode();
+        } else if (this.pendingPrevLevel == null && this.size + 1 == pendingWidth) {
+            this.pendingPrevLevel = this.first;
+        }
+        if (advancePrevLevel) {
+            this.prevLevel = this.prevLevel.getNextNode();
+        }
+        if (position < this.relinkPosition) {
+            this.relinkPosition++;
+        } else if (position == this.relinkPosition) {
+            this.relinkNode = newNode;
+        }
+        this.incrementIndex();
+        this.incrementSize();
+
+        this.relinkTarget = this.relinkNode;
+        for (int i = 0; i < pendingWidth && this.relinkTarget != null; i++) {
+            this.relinkTarget = this.relinkTarget.getNextNode();
+        }
+        final int maxStride = Math.max(this.maxElementPerLevel, pendingWidth);
+        this.repairLevelLinks(newNode, position, position - maxStride, position, position, position + maxStride);
+        this.fireNodeInserted(newNode, position);
+        this.adaptLevelWidth();
+    }
+
+    @SuppressWarnings("unchecked")
+    private SpiderWeb<E> superClone() {
+        try {
+            return (SpiderWeb<E>) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+    }
+
+    // Other public methods...
+
+    /**
+     * Gets the maximum index for a specified level in the SpiderWeb.
+     *
+     * @param level The level for which to retrieve the maximum index.
+     * @return The maximum index for the specified level.
+     * @throws IllegalArgumentException If the specified level is negative or exceeds the maximum level in the SpiderWeb.
+     * @throws IllegalStateException If the SpiderWeb is empty, and the maximum index cannot be determined.
+     */
+    public int getMaximumIndexForLevel(int level) throws IllegalArgumentException, IllegalStateException {
+        this.seal();
+        if (level < 0) {
+            throw new IllegalArgumentException("Invalid level: Level cannot be negative.");
+        }
+        if (this.first == null) {
+            throw new IllegalStateException("Cannot get maximum index for level on an empty SpiderWeb");
+        }
+        if (level > this.getLevel()){
+            throw new IllegalArgumentException(String.format("Invalid level: %d exceeds the maximum level %d.", level, this.getLevel()));
+        }
+        if (level < this.getLevel()){
+            return this.maxElementPerLevel - 1;
+        }
+        return this.getIndex();
+    }
+
+    /**
+     * Returns the size of the SpiderWeb, indicating the total number of elements stored.
+     *
+     * @return The size of the SpiderWeb.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Prints the elements of the SpiderWeb along with their levels and indices.
+     */
+    public void print(){
+        SpiderWebNode<E> current = this.first;
+        this.resetTmpVariables();
+        while (current != null){
+            System.out.println("level: " + this.tmpLevel + ", index: " + this.tmpIndex + ", value: " + current.getValue());
+            current = current.getNextNode();
+            this.nextIndex();
+        }
+    }
+
+    /**
+     * Returns the value of the first element in the SpiderWeb.
+     *
+     * @return The value of the first element.
+     * @throws NoSuchElementException If the SpiderWeb is empty and there is no first element to return.
+     */
+    public E getFirst() {
+        if (this.first == null) {
+            throw new NoSuchElementException("SpiderWeb is empty, no first element available.");
+        }
+        return this.first.getValue();
+    }
+
+    /**
+     * Returns the value of the last element in the SpiderWeb.
+     *
+     * @return The value of the last element.
+     * @throws NoSuchElementException If the SpiderWeb is empty and there is no last element to return.
+     */
+    public E getLast() {
+        if (this.last == null) {
+            throw new NoSuchElementException("SpiderWeb is empty, no last element available.");
+        }
+        return this.last.getValue();
+    }
+
+    /**
+     * Adds the specified element to the end of the SpiderWeb.
+     *
+     * @param value The value to be added to the end of the SpiderWeb.
+     */
+    public void add(E value) {
+        final SpiderWebNode<E> newNode = new SpiderWebNode<>(value, this.last, this.prevLevel);
+        this.addLastNode(newNode);
+    }
+
+    /**
+     * Adds a new SpiderWebNode to the end of the SpiderWeb.
+     *
+     * @param newNode The SpiderWebNode to be added to the SpiderWeb.
      */
     public void add(SpiderWebNode<E> newNode) {
         newNode.resetPointers();
@@ -480,17 +1279,7 @@ public class SpiderWeb<E> implements Cloneable{
      * @throws IllegalStateException If the operation fails to get the element, which should not occur under normal conditions.
      */
     public E get(int level, int index) {
-        if (!this.isValidLevelAndIndex(level, index)) {
-            throw new IllegalArgumentException("Invalid level or index. Level: " + level + ", Index: " + index);
-        }
-        this.resetTmpVariables();
-        for (SpiderWebNode<E> node = this.first; node != null; node = node.getNextNode()) {
-            if (this.tmpLevel == level && this.tmpIndex == index) {
-                return node.getValue();
-            }
-            this.nextIndex();
-        }
-        throw new IllegalStateException("Failed to get element. Level: " + level + ", Index: " + index);
+        return this.getNode(level, index).getValue();
     }
 
     /**
@@ -504,17 +1293,13 @@ public class SpiderWeb<E> implements Cloneable{
      * @throws IllegalStateException If the operation fails to get the SpiderWebNode, which should not occur under normal conditions.
      */
     public SpiderWebNode<E> getNode(int level, int index) {
-        if (!this.isValidLevelAndIndex(level, index)) {
-            throw new IllegalArgumentException("Invalid level or index. Level: " + level + ", Index: " + index);
+        this.seal();
+        this.checkLevelAndIndex(level, index);
+        final SpiderWebNode<E> node = this.nodeAt(this.toPosition(level, index));
+        if (node == null) {
+            throw new IllegalStateException("Failed to get element. Level: " + level + ", Index: " + index);
         }
-        this.resetTmpVariables();
-        for (SpiderWebNode<E> node = this.first; node != null; node = node.getNextNode()) {
-            if (this.tmpLevel == level && this.tmpIndex == index) {
-                return node;
-            }
-            this.nextIndex();
-        }
-        throw new IllegalStateException("Failed to get element. Level: " + level + ", Index: " + index);
+        return node;
     }
 
     /**
@@ -529,19 +1314,163 @@ public class SpiderWeb<E> implements Cloneable{
      * @throws IllegalStateException    If the operation fails to set the element, which should not occur under normal conditions.
      */
     public E set(int level, int index, E element) {
-        if (!this.isValidLevelAndIndex(level, index)) {
-            throw new IllegalArgumentException("Invalid level or index. Level: " + level + ", Index: " + index);
+        this.seal();
+        this.checkLevelAndIndex(level, index);
+        final int position = this.toPosition(level, index);
+        final SpiderWebNode<E> node = this.nodeAt(position);
+        if (node == null) {
+            throw new IllegalStateException("Failed to set element. Level: " + level + ", Index: " + index);
         }
-        this.resetTmpVariables();
-        for (SpiderWebNode<E> node = this.first; node != null; node = node.getNextNode()) {
-            if (this.tmpLevel == level && this.tmpIndex == index) {
-                E oldValue = node.getValue();
-                node.setValue(element);
-                return oldValue;
+        final E oldValue = node.getValue();
+        node.setValue(element);
+        this.fireValueSet(node, position, oldValue);
+        return oldValue;
+    }
+
+    /**
+     * Returns a cursor positioned on the first element of the SpiderWeb.
+     *
+     * @return A cursor on the first element.
+     * @throws NoSuchElementException If the SpiderWeb is empty.
+     */
+    public SpiderWebCursor<E> cursor() {
+        if (this.first == null) {
+            throw new NoSuchElementException("Cannot open a cursor on an empty SpiderWeb.");
+        }
+        this.seal();
+        return new SpiderWebCursor<>(this, this.first, 0);
+    }
+
+    /**
+     * Returns a cursor positioned on the element at the specified level and index.
+     *
+     * @param level The level of the element (non-negative).
+     * @param index The index of the element (non-negative).
+     * @return A cursor on the element at the specified level and index.
+     * @throws IllegalArgumentException If the provided level or index is invalid.
+     */
+    public SpiderWebCursor<E> cursor(int level, int index) {
+        this.seal();
+        this.checkLevelAndIndex(level, index);
+        final int position = this.toPosition(level, index);
+        return new SpiderWebCursor<>(this, this.nodeAt(position), position);
+    }
+
+    /**
+     * Packs a level and an index into a single position, as accepted by {@link #getAll(long[])},
+     * {@link #getAll(long[], ObjLongConsumer)} and {@link #setAll(long[], List)}.
+     *
+     * @param level The level of the element.
+     * @param index The index of the element within its level.
+     * @return The packed position.
+     */
+    public static long position(int level, int index) {
+        return ((long) level << 32) | (index & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Returns the elements at the specified positions, in the order the positions were given. The
+     * positions are sorted first and then all visited in one forward sweep that jumps whole levels
+     * between them, so fetching k elements costs O(size / maxElementPerLevel + k log k) steps instead
+     * of one lookup per element.
+     *
+     * @param positions The positions of the elements, each packed with {@link #position(int, int)}.
+     * @return The elements at the specified positions.
+     * @throws IllegalArgumentException If the positions are null or any level or index is invalid.
+     */
+    public List<E> getAll(long[] positions) {
+        final List<E> values = new ArrayList<>(Arrays.asList(this.newArray(positions)));
+        this.sweep(positions, (request, position, node) -> values.set(request, node.getValue()));
+        return values;
+    }
+
+    /**
+     * Passes the element at each of the specified positions to the action, together with its packed
+     * position. The positions are visited in ascending order in one forward sweep, without collecting
+     * the elements first.
+     *
+     * @param positions The positions of the elements, each packed with {@link #position(int, int)}.
+     * @param action    The action receiving each element and its packed position.
+     * @throws IllegalArgumentException If the positions or the action are null, or any level or index is invalid.
+     */
+    public void getAll(long[] positions, ObjLongConsumer<? super E> action) {
+        if (action == null) {
+            throw new IllegalArgumentException("Action cannot be null.");
+        }
+        this.sweep(positions, (request, position, node) -> action.accept(node.getValue(), positions[request]));
+    }
+
+    /**
+     * Replaces the elements at the specified positions with the corresponding values, in one forward
+     * sweep over the sorted positions. If a position is given more than once, the value given last
+     * is kept.
+     *
+     * @param positions The positions of the elements, each packed with {@link #position(int, int)}.
+     * @param values    The new values, one for each position.
+     * @return The previous values, in the order the positions were given.
+     * @throws IllegalArgumentException If the positions or values are null, their lengths differ, or any level or index is invalid.
+     */
+    public List<E> setAll(long[] positions, List<? extends E> values) {
+        if (values == null || positions == null || values.size() != positions.length) {
+            throw new IllegalArgumentException("Every position needs exactly one value.");
+        }
+        final List<E> oldValues = new ArrayList<>(Arrays.asList(this.newArray(positions)));
+        this.sweep(positions, (request, position, node) -> {
+            final E oldValue = node.getValue();
+            node.setValue(values.get(request));
+            oldValues.set(request, oldValue);
+            this.fireValueSet(node, position, oldValue);
+        });
+        return oldValues;
+    }
+
+    /**
+     * Receives one node visited by a positional sweep.
+     */
+    private interface SweepVisitor<E> {
+        void visit(int request, int position, SpiderWebNode<E> node);
+    }
+
+    @SuppressWarnings("unchecked")
+    private E[] newArray(long[] positions) {
+        if (positions == null) {
+            throw new IllegalArgumentException("Positions cannot be null.");
+        }
+        return (E[]) new Object[positions.length];
+    }
+
+    /**
+     * Visits the nodes at the specified packed positions in ascending order. Each position is sorted
+     * together with its request number, so equal positions are visited in request order.
+     */
+    private void sweep(long[] positions, SweepVisitor<E> visitor) {
+        this.seal();
+        final long[] order = new long[positions.length];
+        for (int request = 0; request < positions.length; request++) {
+            final int level = (int) (positions[request] >> 32);
+            final int index = (int) positions[request];
+            this.checkLevelAndIndex(level, index);
+            order[request] = ((long) this.toPosition(level, index) << 32) | request;
+        }
+        Arrays.sort(order);
+
+        SpiderWebNode<E> node = this.first;
+        int current = 0;
+        for (long entry : order) {
+            final int target = (int) (entry >>> 32);
+            if (this.directory != null && target - current > this.maxElementPerLevel) {
+                node = this.directory.nodeAt(target);
+                current = target;
             }
-            this.nextIndex();
+            for (int stride = this.levelStride(current); current + stride <= target; stride = this.levelStride(current)) {
+                node = node.getNextLevelNode();
+                current += stride;
+            }
+            for (; current < target; current++) {
+                node = node.getNextNode();
+            }
+            visitor.visit((int) entry, target, node);
         }
-        throw new IllegalStateException("Failed to set element. Level: " + level + ", Index: " + index);
     }
 
     /**
@@ -554,11 +1483,24 @@ public class SpiderWeb<E> implements Cloneable{
         if (this.first == null) {
             throw new NoSuchElementException("Cannot remove from an empty SpiderWeb.");
         }
+        this.seal();
 
         final SpiderWebNode<E> next = this.first.getNextNode();
         final SpiderWebNode<E> nextLevel = this.first.getNextLevelNode();
         final E firstValue = this.first.getValue();
 
+        if (this.prevLevel == this.first) {
+            this.prevLevel = null;
+        }
+        if (this.pendingPrevLevel == this.first) {
+            this.pendingPrevLevel = null;
+        }
+        if (this.relinkNode == this.first) {
+            this.relinkNode = next;
+            this.relinkTarget = this.relinkTarget == null ? null : this.relinkTarget.getNextNode();
+        } else if (this.pendingElementPerLevel != 0) {
+            this.relinkPosition--;
+        }
         if (next != null) {
             next.setPrevNode(null);
             this.first.setNextNode(null);
@@ -573,6 +1515,15 @@ public class SpiderWeb<E> implements Cloneable{
 
         this.decrementIndex();
         this.decrementSize();
+        if (this.pendingElementPerLevel != 0) {
+            if (this.first == null) {
+                this.resetRelevel();
+            } else {
+                this.repairLevelLinks(this.first, 0, 0, -1, 0, Math.max(this.maxElementPerLevel, this.pendingElementPerLevel));
+            }
+        }
+        this.fireFirstRemoved(firstValue);
+        this.adaptLevelWidth();
 
         return firstValue;
     }
@@ -587,13 +1538,29 @@ public class SpiderWeb<E> implements Cloneable{
         if(this.first == null) {
             throw new NoSuchElementException("Cannot remove from an empty SpiderWeb.");
         }
+        this.seal();
 
         final SpiderWebNode<E> prev = this.last.getPrevNode();
         final E lastValue = this.last.getValue();
 
         if (prev == null) {
             this.resetPointers();
+            this.resetRelevel();
+        } else if (this.pendingElementPerLevel != 0) {
+            this.prevLevel = this.prevLevel == null ? null : this.prevLevel.getPrevNode();
+            this.pendingPrevLevel = this.pendingPrevLevel == null ? null : this.pendingPrevLevel.getPrevNode();
+            if (this.relinkTarget == this.last) {
+                this.relinkTarget = null;
+            }
+            this.last.resetSpiderWebNode();
+            prev.setNextNode(null);
+            this.last = prev;
         } else {
+            final SpiderWebNode<E> prevLevelNode = this.last.getPrevLevelNode();
+            if (prevLevelNode != null) {
+                prevLevelNode.setNextLevelNode(null);
+            }
+            this.prevLevel = prevLevelNode;
             this.last.setValue(null);
             prev.setNextNode(null);
             this.last = prev;
@@ -601,10 +1568,149 @@ public class SpiderWeb<E> implements Cloneable{
 
         this.decrementIndex();
         this.decrementSize();
+        if (this.pendingElementPerLevel != 0) {
+            final int maxStride = Math.max(this.maxElementPerLevel, this.pendingElementPerLevel);
+            this.repairLevelLinks(this.last, this.size - 1, this.size - maxStride, this.size - 1, 0, -1);
+        }
+        this.fireLastRemoved(lastValue);
+        this.adaptLevelWidth();
 
         return lastValue;
     }
 
+    /**
+     * Removes the first occurrence of the specified element from the SpiderWeb. The elements after it
+     * move one position towards the first element.
+     *
+     * @param o The element to remove, compared with {@link Object#equals}.
+     * @return True if the SpiderWeb contained the element, false otherwise.
+     */
+    public boolean remove(Object o) {
+        int position = 0;
+        for (SpiderWebNode<E> node = this.first; node != null; node = node.getNextNode()) {
+            if (Objects.equals(node.getValue(), o)) {
+                this.unlink(node, position);
+                return true;
+            }
+            position++;
+        }
+        return false;
+    }
+
+    /**
+     * Removes every element that satisfies the specified predicate. The predicate is applied to every
+     * element first, so the SpiderWeb is left unchanged if it throws. The matching nodes are then
+     * unlinked and the level links from one level before the first removed element onwards are
+     * rebuilt in the same linear pass, so removing any number of elements costs O(n).
+     *
+     * @param filter The predicate selecting the elements to remove.
+     * @return True if any element was removed, false otherwise.
+     * @throws IllegalArgumentException If the predicate is null.
+     */
+    public boolean removeIf(Predicate<? super E> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Filter cannot be null.");
+        }
+        this.seal();
+        final BitSet removed = new BitSet();
+        int position = 0;
+        for (SpiderWebNode<E> node = this.first; node != null; node = node.getNextNode()) {
+            if (filter.test(node.getValue())) {
+                removed.set(position);
+            }
+            position++;
+        }
+        if (removed.isEmpty()) {
+            return false;
+        }
+        if (removed.cardinality() == this.size) {
+            this.clear();
+            return true;
+        }
+        this.completeRelevel();
+        this.removeMarked(removed);
+        return true;
+    }
+
+    /**
+     * Removes every element that is not contained in the specified collection, in one linear pass as
+     * described for {@link #removeIf(Predicate)}.
+     *
+     * @param c The collection of elements to keep.
+     * @return True if any element was removed, false otherwise.
+     * @throws IllegalArgumentException If the collection is null.
+     */
+    public boolean retainAll(Collection<?> c) {
+        if (c == null) {
+            throw new IllegalArgumentException("Collection cannot be null.");
+        }
+        return this.removeIf(e -> !c.contains(e));
+    }
+
+    /**
+     * Unlinks the nodes at the marked positions, re-links the remaining nodes and re-points the level
+     * links of every source from one level before the first removed position, in one pass.
+     */
+    private void removeMarked(BitSet removed) {
+        final int width = this.maxElementPerLevel;
+        final int from = removed.nextSetBit(0);
+        final int start = Math.max(0, from - width);
+
+        SpiderWebNode<E> node = this.first;
+        SpiderWebNode<E> kept = null;
+        SpiderWebNode<E> source = null;
+        int keptCount = 0;
+        for (int position = 0; node != null; position++) {
+            final SpiderWebNode<E> next = node.getNextNode();
+            if (removed.get(position)) {
+                node.resetSpiderWebNode();
+            } else {
+                if (kept == null) {
+                    this.first = node;
+                } else {
+                    kept.setNextNode(node);
+                }
+                node.setPrevNode(kept);
+                if (keptCount == start) {
+                    source = node;
+                }
+                kept = node;
+                keptCount++;
+            }
+            node = next;
+        }
+        kept.setNextNode(null);
+        this.last = kept;
+        this.size = keptCount;
+
+        // Every source from the start links to the node one level after it, which may have moved.
+        if (start == 0) {
+            node = this.first;
+            for (int i = 0; i < width && node != null; i++) {
+                node.setPrevLevelNode(null);
+                node = node.getNextNode();
+            }
+        }
+        SpiderWebNode<E> target = source;
+        for (int i = 0; i < width && target != null; i++) {
+            target = target.getNextNode();
+        }
+        for (; source != null; source = source.getNextNode()) {
+            source.setNextLevelNode(target);
+            if (target != null) {
+                target.setPrevLevelNode(source);
+                target = target.getNextNode();
+            }
+        }
+
+        this.level = this.size / width;
+        this.index = this.size % width;
+        this.prevLevel = this.nodeBeforeLast(width);
+        this.modCount++;
+        this.fireNodesRemoved(from);
+        this.adaptLevelWidth();
+    }
+
     /**
      * Removes all elements from the SpiderWeb.
      * After calling this method, the SpiderWeb will have no elements.
@@ -617,8 +1723,418 @@ public class SpiderWeb<E> implements Cloneable{
         }
 
         this.resetSpiderWeb();
+        this.fireCleared();
+    }
+
+    /**
+     * Enables incrementally maintained count, sum, minimum and maximum summaries for every level of
+     * the SpiderWeb. Each non-null element is summarized through the specified mapping function, and
+     * the summaries are kept up to date by every subsequent add, set and removal. Enabling aggregates
+     * replaces any previously enabled summaries and takes time linear in the size of the SpiderWeb.
+     *
+     * @param mapper The function mapping each non-null element to the value to summarize.
+     * @throws IllegalArgumentException If the mapping function is null.
+     */
+    public void enableAggregates(ToDoubleFunction<? super E> mapper) {
+        if (mapper == null) {
+            throw new IllegalArgumentException("Aggregate mapper cannot be null.");
+        }
+        this.disableAggregates();
+        this.aggregates = new LevelAggregates<>(this, mapper);
+        this.addListener(this.aggregates);
     }
 
+    /**
+     * Disables the level summaries, if enabled, and releases their memory.
+     */
+    public void disableAggregates() {
+        if (this.aggregates != null) {
+            this.removeListener(this.aggregates);
+            this.aggregates = null;
+        }
+    }
+
+    /**
+     * Returns whether level summaries are enabled on the SpiderWeb.
+     *
+     * @return {@code true} if level summaries are enabled, {@code false} otherwise.
+     */
+    public boolean isAggregating() {
+        return this.aggregates != null;
+    }
+
+    /**
+     * Enables the level directory, a table referencing every eighth node of the SpiderWeb. Positional
+     * operations such as {@code get}, {@code set} and {@code getNode} then look up the nearest
+     * referenced node directly and step at most four nodes from there, so their cost no longer grows
+     * with the size of the SpiderWeb. The directory costs one reference per eight elements, is kept
+     * up to date by every subsequent mutation, and takes time linear in the size of the SpiderWeb to
+     * build.
+     */
+    public void enableLevelDirectory() {
+        if (this.directory == null) {
+            this.directory = new LevelDirectory<>(this);
+            this.addListener(this.directory);
+        }
+    }
+
+    /**
+     * Disables the level directory, if enabled, and releases its memory.
+     */
+    public void disableLevelDirectory() {
+        if (this.directory != null) {
+            this.removeListener(this.directory);
+            this.directory = null;
+        }
+    }
+
+    /**
+     * Returns whether the level directory is enabled on the SpiderWeb.
+     *
+     * @return {@code true} if the level directory is enabled, {@code false} otherwise.
+     */
+    public boolean hasLevelDirectory() {
+        return this.directory != null;
+    }
+
+    /**
+     * Enables content hashes: a 64-bit hash of every level, of every group of
+     * {@value LevelHashes#LEVELS_PER_GROUP} levels, and a root hash over the groups. Appending,
+     * replacing and removing the last element update the hashes in constant time; other mutations
+     * mark the levels they shift stale, and those are rehashed by the next query. With hashes enabled
+     * on both sides, {@link #equals(Object)} rejects SpiderWebs with different contents without
+     * comparing their elements, and {@link #diff(SpiderWeb)} compares only the levels whose hashes
+     * differ. Enabling hashes takes time linear in the size of the SpiderWeb.
+     *
+     * <p>Hashes are computed from {@link Object#hashCode()} of the elements and only follow changes
+     * made through the SpiderWeb, so elements must not be mutated in place, or replaced through
+     * {@link SpiderWebNode#setValue(Object)}, while hashes are enabled.
+     */
+    public void enableContentHashes() {
+        if (this.hashes == null) {
+            this.hashes = new LevelHashes<>(this);
+            this.addListener(this.hashes);
+        }
+    }
+
+    /**
+     * Disables the content hashes, if enabled, and releases their memory.
+     */
+    public void disableContentHashes() {
+        if (this.hashes != null) {
+            this.removeListener(this.hashes);
+            this.hashes = null;
+        }
+    }
+
+    /**
+     * Returns whether content hashes are enabled on the SpiderWeb.
+     *
+     * @return {@code true} if content hashes are enabled, {@code false} otherwise.
+     */
+    public boolean hasContentHashes() {
+        return this.hashes != null;
+    }
+
+    /**
+     * Returns the root content hash, which covers the level width, the size and every element of the
+     * SpiderWeb. Equal SpiderWebs have equal root hashes.
+     *
+     * @return The root content hash.
+     * @throws IllegalStateException If content hashes are not enabled.
+     */
+    public long contentHash() {
+        return this.checkHashes().root();
+    }
+
+    /**
+     * Returns the content hash of the specified level, which covers the elements of the level and
+     * their indices. Levels holding equal elements have equal hashes.
+     *
+     * @param level The level to hash.
+     * @return The content hash of the level.
+     * @throws IllegalStateException    If content hashes are not enabled.
+     * @throws IllegalArgumentException If the level is invalid.
+     */
+    public long levelHash(int level) {
+        final LevelHashes<E> levelHashes = this.checkHashes();
+        this.getMaximumIndexForLevel(level);
+        return levelHashes.level(level);
+    }
+
+    /**
+     * Compares this SpiderWeb with another one of the same level width and returns the ranges of
+     * positions whose elements differ, in order. Positions present in only one of the two SpiderWebs
+     * differ. Group hashes are compared first, then the level hashes within differing groups, and only
+     * levels with differing hashes are compared element by element; levels with matching hashes are
+     * taken to be equal. SpiderWebs without content hashes are hashed for the comparison, and
+     * SpiderWebs of different level widths are compared element by element.
+     *
+     * @param other The SpiderWeb to compare with.
+     * @return A list of HashMaps, each containing the fromLevel, fromIndex, toLevel and toIndex of a
+     *         range of differing elements, both ends inclusive. The list is empty if no element differs.
+     * @throws IllegalArgumentException If the other SpiderWeb is null.
+     */
+    public List<HashMap<String, Integer>> diff(SpiderWeb<E> other) {
+        if (other == null) {
+            throw new IllegalArgumentException("SpiderWeb to compare with cannot be null.");
+        }
+        this.seal();
+        other.seal();
+        final List<HashMap<String, Integer>> ranges = new ArrayList<>();
+        final int width = this.maxElementPerLevel;
+        final int size = Math.max(this.size, other.size);
+        if (width != other.maxElementPerLevel) {
+            this.diffRange(other, 0, size, ranges);
+            return ranges;
+        }
+        final LevelHashes<E> mine = this.hashes != null ? this.hashes : new LevelHashes<>(this);
+        final LevelHashes<E> theirs = other.hashes != null ? other.hashes : new LevelHashes<>(other);
+        final int levels = Math.max(mine.levelCount(), theirs.levelCount());
+        final int groups = Math.max(mine.groupCount(), theirs.groupCount());
+        for (int group = 0; group < groups; group++) {
+            if (group < mine.groupCount() && group < theirs.groupCount() && mine.group(group) == theirs.group(group)) {
+                continue;
+            }
+            final int end = Math.min(levels, (group + 1) * LevelHashes.LEVELS_PER_GROUP);
+            for (int level = group * LevelHashes.LEVELS_PER_GROUP; level < end; level++) {
+                final int from = level * width;
+                final int to = Math.min(size, from + width);
+                if (to > Math.min(this.size, other.size) || mine.level(level) != theirs.level(level)) {
+                    this.diffRange(other, from, to, ranges);
+                }
+            }
+        }
+        return ranges;
+    }
+
+    /**
+     * Estimates the heap memory used by the structure of the SpiderWeb, without its elements: one
+     * {@link SpiderWebNode} per element, each a header and five references, plus the SpiderWeb itself
+     * and its level directory, summaries and content hashes when enabled. Sizes are computed from the
+     * object layout of the running JVM, in constant time.
+     *
+     * @return The estimated structural overhead in bytes.
+     */
+    public long estimateOverheadBytes() {
+        long bytes = HeapLayout.shallowBytes(this) + this.size * HeapLayout.nodeBytes() + this.fingers.estimateBytes()
+                + HeapLayout.shallowBytes(this.listeners) + HeapLayout.arrayBytes(this.listeners.size(), HeapLayout.REFERENCE_BYTES);
+        if (this.directory != null) {
+            bytes += this.directory.estimateBytes();
+        }
+        if (this.aggregates != null) {
+            bytes += this.aggregates.estimateBytes();
+        }
+        if (this.hashes != null) {
+            bytes += this.hashes.estimateBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * Estimates the heap memory retained by the SpiderWeb, which is its structural overhead plus the
+     * estimated size of its elements. The size of an element is its shallow size computed from its
+     * class, plus the characters of a string; objects referenced by an element are not counted. The
+     * sizes of {@value #DEFAULT_SIZE_SAMPLES} elements spread evenly over the SpiderWeb are averaged
+     * and extrapolated to all elements.
+     *
+     * @return The estimated retained size in bytes.
+     */
+    public long estimateRetainedBytes() {
+        return this.estimateRetainedBytes(HeapLayout::valueBytes, DEFAULT_SIZE_SAMPLES);
+    }
+
+    /**
+     * Estimates the heap memory retained by the SpiderWeb, which is its structural overhead plus the
+     * estimated size of its elements. The size of {@code samples} elements spread evenly over the
+     * SpiderWeb is measured by {@code valueBytes}, averaged and extrapolated to all elements, so the
+     * estimate costs O(samples) lookups whatever the size of the SpiderWeb. Elements shared by several
+     * positions, or with other structures, are counted at every position.
+     *
+     * @param valueBytes The function returning the size in bytes of a non-null element.
+     * @param samples    The number of elements to measure; all elements are measured if it is at least the size.
+     * @return The estimated retained size in bytes.
+     * @throws IllegalArgumentException If the function is null or the number of samples is not positive.
+     */
+    public long estimateRetainedBytes(ToLongFunction<? super E> valueBytes, int samples) {
+        if (valueBytes == null || samples <= 0) {
+            throw new IllegalArgumentException("Invalid value size function or samples: " + samples);
+        }
+        final long overhead = this.estimateOverheadBytes();
+        if (this.size == 0) {
+            return overhead;
+        }
+        long measured = 0;
+        if (samples >= this.size) {
+            for (SpiderWebNode<E> node = this.first; node != null; node = node.getNextNode()) {
+                measured += node.getValue() == null ? 0 : valueBytes.applyAsLong(node.getValue());
+            }
+            return overhead + measured;
+        }
+        this.seal();
+        for (int sample = 0; sample < samples; sample++) {
+            final E value = this.nodeAt((int) ((long) sample * this.size / samples)).getValue();
+            measured += value == null ? 0 : valueBytes.applyAsLong(value);
+        }
+        return overhead + Math.round((double) measured / samples * this.size);
+    }
+
+    /**
+     * Returns the count, sum, minimum and maximum of all non-null elements in the SpiderWeb.
+     * Count and sum are answered in constant time; minimum and maximum are recomputed from the
+     * level-group summaries only after an extreme value has been removed.
+     *
+     * @return The summary of all elements in the SpiderWeb.
+     * @throws IllegalStateException If aggregates are not enabled.
+     */
+    public DoubleSummaryStatistics aggregate() {
+        return this.checkAggregates().total();
+    }
+
+    /**
+     * Returns the count, sum, minimum and maximum of the non-null elements in the specified level.
+     *
+     * @param level The level to summarize.
+     * @return The summary of the elements in the level.
+     * @throws IllegalStateException    If aggregates are not enabled.
+     * @throws IllegalArgumentException If the level is invalid.
+     */
+    public DoubleSummaryStatistics aggregateLevel(int level) {
+        this.checkAggregates();
+        return this.aggregate(level, 0, level, this.getMaximumIndexForLevel(level));
+    }
+
+    /**
+     * Returns the count, sum, minimum and maximum of the non-null elements between two positions,
+     * both inclusive. Only the partial levels at both ends of the range are scanned; the levels in
+     * between are answered from their summaries, or from the level-group summaries where a whole
+     * group lies inside the range.
+     *
+     * @param fromLevel The level of the first element in the range.
+     * @param fromIndex The index of the first element in the range.
+     * @param toLevel   The level of the last element in the range.
+     * @param toIndex   The index of the last element in the range.
+     * @return The summary of the elements in the range.
+     * @throws IllegalStateException    If aggregates are not enabled.
+     * @throws IllegalArgumentException If a position is invalid or the range ends before it starts.
+     */
+    public DoubleSummaryStatistics aggregate(int fromLevel, int fromIndex, int toLevel, int toIndex) {
+        final LevelAggregates<E> levelAggregates = this.checkAggregates();
+        this.seal();
+        this.checkLevelAndIndex(fromLevel, fromIndex);
+        this.checkLevelAndIndex(toLevel, toIndex);
+        final int from = this.toPosition(fromLevel, fromIndex);
+        final int to = this.toPosition(toLevel, toIndex);
+        if (from > to) {
+            throw new IllegalArgumentException("Invalid range. From level: " + fromLevel + ", index: " + fromIndex
+                    + " is after to level: " + toLevel + ", index: " + toIndex);
+        }
+        return levelAggregates.range(from, to);
+    }
+
+    /**
+     * Performs the given action for each element of the SpiderWeb in parallel. The SpiderWeb is split
+     * into runs of whole levels by following the level links, and the runs are processed on the
+     * common {@link ForkJoinPool}. The action may be called for different elements at the same time
+     * and in no particular order. The SpiderWeb must not be modified while the action runs.
+     *
+     * @param action The action to perform for each element.
+     * @throws IllegalArgumentException If the action is null.
+     */
+    public void parallelForEach(Consumer<? super E> action) {
+        if (action == null) {
+            throw new IllegalArgumentException("Action cannot be null.");
+        }
+        LevelSegments.process(this, ForkJoinPool.commonPool(), segment -> {
+            SpiderWebNode<E> node = segment.start;
+            for (int i = 0; i < segment.length; i++, node = node.getNextNode()) {
+                action.accept(node.getValue());
+            }
+            return 0;
+        }, Integer::sum, 0);
+    }
+
+    /**
+     * Replaces each element of the SpiderWeb with the result of applying the operator to it, in
+     * parallel on the common {@link ForkJoinPool}. Level summaries, if enabled, are recomputed by the
+     * next aggregate query. The SpiderWeb must not be modified while the operator runs.
+     *
+     * @param operator The operator to apply to each element.
+     * @throws IllegalArgumentException If the operator is null.
+     */
+    public void parallelReplaceAll(UnaryOperator<E> operator) {
+        if (operator == null) {
+            throw new IllegalArgumentException("Operator cannot be null.");
+        }
+        LevelSegments.process(this, ForkJoinPool.commonPool(), segment -> {
+            SpiderWebNode<E> node = segment.start;
+            for (int i = 0; i < segment.length; i++, node = node.getNextNode()) {
+                node.setValue(operator.apply(node.getValue()));
+            }
+            return 0;
+        }, Integer::sum, 0);
+        this.fireValuesReplaced();
+    }
+
+    /**
+     * Searches the SpiderWeb in parallel for the first element matching the predicate and returns its
+     * level and index. Every worker stops as soon as a match has been found before its position, so
+     * a match near the first element ends the search early. The SpiderWeb must not be modified while
+     * the search runs.
+     *
+     * @param predicate The predicate to match elements against.
+     * @return A HashMap containing the level and index of the first matching element.
+     *         If no element matches, an empty HashMap is returned.
+     * @throws IllegalArgumentException If the predicate is null.
+     */
+    public HashMap<String, Integer> parallelIndexOf(Predicate<? super E> predicate) {
+        if (predicate == null) {
+            throw new IllegalArgumentException("Predicate cannot be null.");
+        }
+        final AtomicInteger found = new AtomicInteger(Integer.MAX_VALUE);
+        LevelSegments.process(this, ForkJoinPool.commonPool(), segment -> {
+            SpiderWebNode<E> node = segment.start;
+            for (int i = 0; i < segment.length && segment.position + i < found.get(); i++, node = node.getNextNode()) {
+                if (predicate.test(node.getValue())) {
+                    final int position = segment.position + i;
+                    found.accumulateAndGet(position, Math::min);
+                    return position;
+                }
+            }
+            return Integer.MAX_VALUE;
+        }, Math::min, Integer.MAX_VALUE);
+
+        HashMap<String, Integer> hashMap = new HashMap<>();
+        if (found.get() != Integer.MAX_VALUE) {
+            hashMap.put("level", found.get() / this.maxElementPerLevel);
+            hashMap.put("index", found.get() % this.maxElementPerLevel);
+        }
+        return hashMap;
+    }
+
+    /**
+     * Counts the elements of the SpiderWeb matching the predicate, in parallel on the common
+     * {@link ForkJoinPool}. The SpiderWeb must not be modified while the count runs.
+     *
+     * @param predicate The predicate to match elements against.
+     * @return The number of matching elements.
+     * @throws IllegalArgumentException If the predicate is null.
+     */
+    public int parallelCount(Predicate<? super E> predicate) {
+        if (predicate == null) {
+            throw new IllegalArgumentException("Predicate cannot be null.");
+        }
+        return LevelSegments.process(this, ForkJoinPool.commonPool(), segment -> {
+            int count = 0;
+            SpiderWebNode<E> node = segment.start;
+            for (int i = 0; i < segment.length; i++, node = node.getNextNode()) {
+                if (predicate.test(node.getValue())) {
+                    count++;
+                }
+            }
+            return count;
+        }, Integer::sum, 0);
+    }
 
     /**
      * Returns a shallow copy of this SpiderWeb instance.
@@ -629,12 +2145,74 @@ public class SpiderWeb<E> implements Cloneable{
     public Object clone() {
         SpiderWeb<E> clone = superClone();
         clone.resetSpiderWeb();
+        clone.listeners = new ArrayList<>();
+        clone.aggregates = null;
+        clone.directory = null;
+        clone.hashes = null;
+        clone.fingers = clone.newFingerCache();
 
         for (SpiderWebNode<E> x = first; x != null; x = x.getNextNode())
             clone.add(x.getValue());
+        if (this.aggregates != null) {
+            clone.enableAggregates(this.aggregates.getMapper());
+        }
+        if (this.directory != null) {
+            clone.enableLevelDirectory();
+        }
+        if (this.hashes != null) {
+            clone.enableContentHashes();
+        }
         return clone;
     }
 
+    /**
+     * Compares this SpiderWeb with another object. They are equal if the other object is a SpiderWeb
+     * with the same level width holding equal elements in the same order, so that every level and
+     * index refers to equal elements in both. When both SpiderWebs have content hashes enabled,
+     * SpiderWebs with different root hashes are rejected without comparing their elements.
+     *
+     * @param o The object to compare with.
+     * @return {@code true} if the object is an equal SpiderWeb, {@code false} otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SpiderWeb)) {
+            return false;
+        }
+        final SpiderWeb<?> other = (SpiderWeb<?>) o;
+        this.seal();
+        other.seal();
+        if (this.size != other.size || this.maxElementPerLevel != other.maxElementPerLevel) {
+            return false;
+        }
+        if (this.hashes != null && other.hashes != null && this.hashes.root() != other.hashes.root()) {
+            return false;
+        }
+        SpiderWebNode<?> theirs = other.first;
+        for (SpiderWebNode<E> mine = this.first; mine != null; mine = mine.getNextNode(), theirs = theirs.getNextNode()) {
+            if (!Objects.equals(mine.getValue(), theirs.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code derived from the root content hash, which is answered from the content
+     * hashes when they are enabled and computed in linear time otherwise.
+     *
+     * @return The hash code of the SpiderWeb.
+     */
+    @Override
+    public int hashCode() {
+        this.seal();
+        final long root = this.hashes != null ? this.hashes.root() : new LevelHashes<>(this).root();
+        return (int) (root ^ (root >>> 32));
+    }
+
     /**
      * Returns a string representation of the SpiderWeb, including its current level, index, size, and maximum elements per level.
      *
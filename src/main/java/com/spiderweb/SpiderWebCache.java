@@ -0,0 +1,346 @@
+package com.spiderweb;
+
+import java.util.HashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * SpiderWebCache is a bounded key to value cache whose recency order is kept in a SpiderWeb, least
+ * recently used entries first. The capacity is given in levels: once the cache holds more than
+ * {@code capacityLevels * maxElementPerLevel} entries, the whole first level of the SpiderWeb is cut
+ * off at once, so eviction costs one detach per level instead of one removal per entry.
+ *
+ * <p>Two eviction policies are available:
+ * <ul>
+ *     <li>{@link Policy#LRU} moves an entry to the end of the SpiderWeb on every hit. The entry's old
+ *     node is emptied and a new node is appended, both in O(1), because unlinking a node from the
+ *     middle of a SpiderWeb would need its position. Emptied nodes are dropped when their level is
+ *     evicted, or all at once when they outnumber the entries.</li>
+ *     <li>{@link Policy#CLOCK} only marks an entry as referenced on a hit. When a level is evicted,
+ *     its referenced entries get a second chance: they are unmarked and appended again instead of
+ *     being evicted. Hits do not change the SpiderWeb, so lookups only take a read lock and
+ *     concurrent readers do not block each other.</li>
+ * </ul>
+ *
+ * <p>Null keys and values are not allowed. All operations are thread-safe.
+ *
+ * <p>Usage Example:
+ * <blockquote><pre>
+ * SpiderWebCache&lt;String, Page&gt; pages = new SpiderWebCache&lt;&gt;(128, 64, SpiderWebCache.Policy.CLOCK);
+ * pages.put(url, page);
+ * Page cached = pages.get(url);
+ * </pre></blockquote>
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of cached values
+ *
+ * @author Milan Savic
+ * @version 1.0
+ * @since October 19, 2026
+ */
+public class SpiderWebCache<K, V> {
+
+    /**
+     * The eviction policy of a SpiderWebCache.
+     */
+    public enum Policy {
+        /**
+         * Evicts the least recently used entries, moving entries to the end on every hit.
+         */
+        LRU,
+        /**
+         * Approximates LRU by giving entries referenced since they were last examined a second chance.
+         */
+        CLOCK
+    }
+
+    private final SpiderWeb<Entry<K, V>> spiderWeb;
+    private final HashMap<K, Entry<K, V>> entries = new HashMap<>();
+    private final Policy policy;
+    private final int capacity;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private long evictions;
+
+    /**
+     * Constructs an LRU cache holding at most {@code capacityLevels} levels of the default number of
+     * elements per level (6).
+     *
+     * @param capacityLevels The maximum number of full levels of entries.
+     * @throws IllegalArgumentException If the capacity is not positive.
+     */
+    public SpiderWebCache(int capacityLevels) {
+        this(capacityLevels, 6, Policy.LRU);
+    }
+
+    /**
+     * Constructs a cache holding at most {@code capacityLevels * maxElementPerLevel} entries.
+     *
+     * @param capacityLevels     The maximum number of full levels of entries.
+     * @param maxElementPerLevel The number of entries per level, which is also the number of entries evicted at once.
+     * @param policy             The eviction policy.
+     * @throws IllegalArgumentException If the capacity or the number of entries per level is not positive, or the policy is null.
+     */
+    public SpiderWebCache(int capacityLevels, int maxElementPerLevel, Policy policy) {
+        if (capacityLevels <= 0 || maxElementPerLevel <= 0) {
+            throw new IllegalArgumentException("Capacity and elements per level must be positive.");
+        }
+        if ((long) capacityLevels * maxElementPerLevel > Integer.MAX_VALUE / 2) {
+            throw new IllegalArgumentException("Capacity is too large.");
+        }
+        if (policy == null) {
+            throw new IllegalArgumentException("Policy cannot be null.");
+        }
+        this.spiderWeb = new SpiderWeb<>(maxElementPerLevel);
+        this.policy = policy;
+        this.capacity = capacityLevels * maxElementPerLevel;
+    }
+
+    /**
+     * Gets the eviction policy of the cache.
+     *
+     * @return The eviction policy.
+     */
+    public Policy getPolicy() {
+        return this.policy;
+    }
+
+    /**
+     * Gets the maximum number of entries in the cache.
+     *
+     * @return The capacity in entries.
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Returns the number of entries in the cache.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.entries.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of entries evicted so far.
+     *
+     * @return The number of evictions.
+     */
+    public long getEvictionCount() {
+        this.lock.readLock().lock();
+        try {
+            return this.evictions;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the value cached for a key and records the hit.
+     *
+     * @param key The key to look up.
+     * @return The cached value, or null if the key is not cached.
+     * @throws IllegalArgumentException If the key is null.
+     */
+    public V get(K key) {
+        checkNotNull(key);
+        if (this.policy == Policy.CLOCK) {
+            this.lock.readLock().lock();
+            try {
+                final Entry<K, V> entry = this.entries.get(key);
+                if (entry == null) {
+                    return null;
+                }
+                entry.referenced = true;
+                return entry.value;
+            } finally {
+                this.lock.readLock().unlock();
+            }
+        }
+        this.lock.writeLock().lock();
+        try {
+            final Entry<K, V> entry = this.entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            this.moveToLast(entry);
+            return entry.value;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns whether a key is cached, without recording a hit.
+     *
+     * @param key The key to look up.
+     * @return true if the key is cached, false otherwise.
+     * @throws IllegalArgumentException If the key is null.
+     */
+    public boolean containsKey(K key) {
+        checkNotNull(key);
+        this.lock.readLock().lock();
+        try {
+            return this.entries.containsKey(key);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Caches a value for a key, replacing any value cached for it. If a new key would take the cache
+     * beyond its capacity, whole levels of entries are evicted first.
+     *
+     * @param key   The key.
+     * @param value The value to cache.
+     * @return The value previously cached for the key, or null if there was none.
+     * @throws IllegalArgumentException If the key or the value is null.
+     */
+    public V put(K key, V value) {
+        checkNotNull(key);
+        checkNotNull(value);
+        this.lock.writeLock().lock();
+        try {
+            final Entry<K, V> entry = this.entries.get(key);
+            if (entry != null) {
+                final V oldValue = entry.value;
+                entry.value = value;
+                if (this.policy == Policy.CLOCK) {
+                    entry.referenced = true;
+                } else {
+                    this.moveToLast(entry);
+                }
+                return oldValue;
+            }
+            // Evict before appending, so the new entry is never in a level being evicted.
+            while (this.entries.size() >= this.capacity) {
+                this.evictLevel();
+            }
+            final Entry<K, V> newEntry = new Entry<>(key, value);
+            this.entries.put(key, newEntry);
+            this.append(newEntry);
+            return null;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a key from the cache.
+     *
+     * @param key The key to remove.
+     * @return The value that was cached for the key, or null if there was none.
+     * @throws IllegalArgumentException If the key is null.
+     */
+    public V remove(K key) {
+        checkNotNull(key);
+        this.lock.writeLock().lock();
+        try {
+            final Entry<K, V> entry = this.entries.remove(key);
+            if (entry == null) {
+                return null;
+            }
+            this.vacate(entry);
+            return entry.value;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all entries from the cache.
+     */
+    public void clear() {
+        this.lock.writeLock().lock();
+        try {
+            this.entries.clear();
+            this.spiderWeb.clear();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns a string representation of the cache, including its policy, size, and capacity.
+     *
+     * @return A string representation of the cache.
+     */
+    @Override
+    public String toString() {
+        return "SpiderWebCache{" +
+                "policy=" + this.policy +
+                ", size=" + this.size() +
+                ", capacity=" + this.capacity +
+                '}';
+    }
+
+    private static void checkNotNull(Object o) {
+        if (o == null) {
+            throw new IllegalArgumentException("SpiderWebCache does not allow null keys or values.");
+        }
+    }
+
+    private void append(Entry<K, V> entry) {
+        entry.node = new SpiderWebNode<>(entry, null, null);
+        this.spiderWeb.add(entry.node);
+    }
+
+    private void moveToLast(Entry<K, V> entry) {
+        if (entry.node != this.spiderWeb.getLastNode()) {
+            this.vacate(entry);
+            this.append(entry);
+        }
+    }
+
+    /**
+     * Empties the node of an entry, leaving it in place to be dropped later, and compacts the
+     * SpiderWeb once emptied nodes outnumber the entries.
+     */
+    private void vacate(Entry<K, V> entry) {
+        entry.node.setValue(null);
+        entry.node = null;
+        if (this.spiderWeb.size() > 2 * Math.max(this.entries.size(), this.spiderWeb.getMaxElementPerLevel())) {
+            this.spiderWeb.removeIf(e -> e == null);
+        }
+    }
+
+    /**
+     * Detaches the first level of the SpiderWeb and evicts its entries. Under the CLOCK policy,
+     * referenced entries are unmarked and appended again instead.
+     */
+    private void evictLevel() {
+        final int count = Math.min(this.spiderWeb.getMaxElementPerLevel(), this.spiderWeb.size());
+        SpiderWebNode<Entry<K, V>> node = this.spiderWeb.detachFirst(count);
+        for (int i = 0; i < count; i++) {
+            final SpiderWebNode<Entry<K, V>> next = node.getNextNode();
+            final Entry<K, V> entry = node.getValue();
+            if (entry != null) {
+                if (this.policy == Policy.CLOCK && entry.referenced) {
+                    entry.referenced = false;
+                    this.spiderWeb.add(node);
+                } else {
+                    this.entries.remove(entry.key);
+                    this.evictions++;
+                }
+            }
+            node = next;
+        }
+    }
+
+    private static final class Entry<K, V> {
+        private final K key;
+        private V value;
+        private SpiderWebNode<Entry<K, V>> node;
+        private volatile boolean referenced;
+
+        private Entry(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
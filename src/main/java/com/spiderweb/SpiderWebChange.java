@@ -0,0 +1,147 @@
+package com.spiderweb;
+
+/**
+ * SpiderWebChange describes a single mutation of a SpiderWeb, as delivered by a
+ * {@link SpiderWebChangePublisher}. The level and index are those of the affected element right
+ * after the mutation was applied, or, for removals, those the removed element had.
+ *
+ * @param <E> the type of elements stored in the SpiderWeb
+ *
+ * @author Milan Savic
+ * @version 1.0
+ * @since October 19, 2026
+ */
+public final class SpiderWebChange<E> {
+
+    /**
+     * The kind of mutation a change describes.
+     */
+    public enum Type {
+        /**
+         * An element was appended to the end of the SpiderWeb.
+         */
+        ADD,
+        /**
+         * An element was added to the beginning of the SpiderWeb, moving every other element.
+         */
+        ADD_FIRST,
+        /**
+         * An element was inserted between two elements, moving every element after it.
+         */
+        INSERT,
+        /**
+         * The element at the level and index was replaced.
+         */
+        SET,
+        /**
+         * An element between the first and the last was removed, moving every element after it.
+         */
+        REMOVE,
+        /**
+         * The first element was removed, moving every other element.
+         */
+        REMOVE_FIRST,
+        /**
+         * The first elements were detached at once, up to and including the element at the level
+         * and index, moving every other element. The removed values are not carried.
+         */
+        REMOVE_FIRST_RANGE,
+        /**
+         * The last element was removed.
+         */
+        REMOVE_LAST,
+        /**
+         * Every element was removed.
+         */
+        CLEAR,
+        /**
+         * Any number of elements may have changed without a change for each of them, because values
+         * were replaced in bulk, the level width changed, or changes were dropped for a slow
+         * subscriber. Derived state should be rebuilt from the SpiderWeb.
+         */
+        RESYNC
+    }
+
+    private final Type type;
+    private final int level;
+    private final int index;
+    private final E value;
+    private final E oldValue;
+
+    /**
+     * Constructs a change.
+     *
+     * @param type     The kind of mutation.
+     * @param level    The level of the affected element, or -1 if the change affects no single element.
+     * @param index    The index of the affected element, or -1 if the change affects no single element.
+     * @param value    The value added or set, or the value removed.
+     * @param oldValue The value that was replaced by a set, or null.
+     */
+    SpiderWebChange(Type type, int level, int index, E value, E oldValue) {
+        this.type = type;
+        this.level = level;
+        this.index = index;
+        this.value = value;
+        this.oldValue = oldValue;
+    }
+
+    /**
+     * Gets the kind of mutation.
+     *
+     * @return The type of the change.
+     */
+    public Type getType() {
+        return this.type;
+    }
+
+    /**
+     * Gets the level of the affected element.
+     *
+     * @return The level, or -1 for {@link Type#CLEAR} and {@link Type#RESYNC}.
+     */
+    public int getLevel() {
+        return this.level;
+    }
+
+    /**
+     * Gets the index of the affected element within its level.
+     *
+     * @return The index, or -1 for {@link Type#CLEAR} and {@link Type#RESYNC}.
+     */
+    public int getIndex() {
+        return this.index;
+    }
+
+    /**
+     * Gets the value that was added or set, or the value that was removed.
+     *
+     * @return The value, or null for {@link Type#REMOVE_FIRST_RANGE}, {@link Type#CLEAR} and {@link Type#RESYNC}.
+     */
+    public E getValue() {
+        return this.value;
+    }
+
+    /**
+     * Gets the value replaced by a {@link Type#SET} change.
+     *
+     * @return The replaced value, or null for any other type.
+     */
+    public E getOldValue() {
+        return this.oldValue;
+    }
+
+    /**
+     * Returns a string representation of the change, including its type, level, index and value.
+     *
+     * @return A string representation of the change.
+     */
+    @Override
+    public String toString() {
+        return "SpiderWebChange{" +
+                "type=" + this.type +
+                ", level=" + this.level +
+                ", index=" + this.index +
+                ", value=" + this.value +
+                '}';
+    }
+}
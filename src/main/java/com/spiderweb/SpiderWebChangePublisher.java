@@ -0,0 +1,369 @@
+package com.spiderweb;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * SpiderWebChangePublisher is a {@link Flow.Publisher} of the mutations applied to a SpiderWeb.
+ * Every add, addFirst, insert, set and removal is recorded as a {@link SpiderWebChange} carrying
+ * the level and index of the affected element. First elements detached at once, as a queue drain
+ * does, are recorded as a single {@link SpiderWebChange.Type#REMOVE_FIRST_RANGE} change, so the
+ * drain does not walk the detached elements. Consecutive changes on the same level are delivered
+ * together as one batch, so a subscriber maintaining a derived index updates it once per level
+ * rather than once per element.
+ *
+ * <p>Each subscriber has its own ring of at most {@code ringCapacity} batches, delivered on an
+ * {@link Executor}, so a slow subscriber never blocks the thread mutating the SpiderWeb. When a
+ * subscriber falls a full ring behind, its pending batches are dropped and replaced by a single
+ * {@link SpiderWebChange.Type#RESYNC} change, telling it to rebuild its state from the SpiderWeb.
+ *
+ * <p>Changes are recorded on the thread mutating the SpiderWeb. The batch being collected is
+ * published when a change falls on another level, when it holds a level's worth of changes, or when
+ * {@link #flush()} is called; {@code flush} and {@code close} must be called from that same thread.
+ *
+ * <p>Usage Example:
+ * <blockquote><pre>
+ * SpiderWebChangePublisher&lt;Order&gt; changes = new SpiderWebChangePublisher&lt;&gt;(orders);
+ * changes.subscribe(indexUpdater);
+ * orders.add(order);
+ * changes.flush();
+ * </pre></blockquote>
+ *
+ * @param <E> the type of elements stored in the SpiderWeb
+ *
+ * @author Milan Savic
+ * @version 1.0
+ * @since October 19, 2026
+ */
+public class SpiderWebChangePublisher<E> implements Flow.Publisher<List<SpiderWebChange<E>>> {
+
+    /**
+     * The default number of batches buffered for each subscriber.
+     */
+    public static final int DEFAULT_RING_CAPACITY = 256;
+
+    private final SpiderWeb<E> spiderWeb;
+    private final int ringCapacity;
+    private final Executor executor;
+    private final SpiderWebListener<E> feed = new Feed();
+    private final List<ChangeSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private List<SpiderWebChange<E>> batch = new ArrayList<>();
+    private int batchLevel;
+    private volatile boolean closed;
+
+    /**
+     * Constructs a publisher of the mutations of the specified SpiderWeb, buffering
+     * {@value #DEFAULT_RING_CAPACITY} batches per subscriber and delivering them on the common
+     * ForkJoinPool.
+     *
+     * @param spiderWeb The SpiderWeb whose mutations are published.
+     * @throws IllegalArgumentException If the SpiderWeb is null.
+     */
+    public SpiderWebChangePublisher(SpiderWeb<E> spiderWeb) {
+        this(spiderWeb, DEFAULT_RING_CAPACITY, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a publisher of the mutations of the specified SpiderWeb.
+     *
+     * @param spiderWeb    The SpiderWeb whose mutations are published.
+     * @param ringCapacity The maximum number of batches buffered for each subscriber.
+     * @param executor     The executor delivering batches to subscribers.
+     * @throws IllegalArgumentException If the SpiderWeb or executor is null, or the ring capacity is not positive.
+     */
+    public SpiderWebChangePublisher(SpiderWeb<E> spiderWeb, int ringCapacity, Executor executor) {
+        if (spiderWeb == null || executor == null) {
+            throw new IllegalArgumentException("SpiderWeb and executor cannot be null.");
+        }
+        if (ringCapacity <= 0) {
+            throw new IllegalArgumentException("Invalid ring capacity: " + ringCapacity);
+        }
+        this.spiderWeb = spiderWeb;
+        this.ringCapacity = ringCapacity;
+        this.executor = executor;
+        spiderWeb.addListener(this.feed);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super List<SpiderWebChange<E>>> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber cannot be null.");
+        }
+        final ChangeSubscription subscription = new ChangeSubscription(subscriber);
+        this.subscriptions.add(subscription);
+        subscriber.onSubscribe(subscription);
+        if (this.closed) {
+            subscription.complete();
+        }
+    }
+
+    /**
+     * Publishes the batch of changes collected so far, even if its level is not complete.
+     */
+    public void flush() {
+        if (this.batch.isEmpty()) {
+            return;
+        }
+        final List<SpiderWebChange<E>> published = Collections.unmodifiableList(this.batch);
+        this.batch = new ArrayList<>();
+        for (ChangeSubscription subscription : this.subscriptions) {
+            subscription.offer(published);
+        }
+    }
+
+    /**
+     * Stops recording changes, publishes the batch collected so far and completes every subscriber
+     * once it has received its pending batches.
+     */
+    public void close() {
+        if (this.closed) {
+            return;
+        }
+        this.spiderWeb.removeListener(this.feed);
+        this.flush();
+        this.closed = true;
+        for (ChangeSubscription subscription : this.subscriptions) {
+            subscription.complete();
+        }
+    }
+
+    /**
+     * Returns the number of subscribers that have not cancelled or completed.
+     *
+     * @return The number of active subscribers.
+     */
+    public int getSubscriberCount() {
+        return this.subscriptions.size();
+    }
+
+    private void record(SpiderWebChange.Type type, int position, E value, E oldValue) {
+        if (this.subscriptions.isEmpty()) {
+            return;
+        }
+        final int width = this.spiderWeb.getMaxElementPerLevel();
+        final int level = position < 0 ? -1 : position / width;
+        final int index = position < 0 ? -1 : position % width;
+        if (!this.batch.isEmpty() && (level != this.batchLevel || level < 0 || this.batch.size() >= width)) {
+            this.flush();
+        }
+        this.batch.add(new SpiderWebChange<>(type, level, index, value, oldValue));
+        this.batchLevel = level;
+        if (level < 0) {
+            this.flush();
+        }
+    }
+
+    /**
+     * Translates the notifications of the SpiderWeb into changes.
+     */
+    private final class Feed implements SpiderWebListener<E> {
+
+        @Override
+        public void nodeAdded(SpiderWebNode<E> node) {
+            record(SpiderWebChange.Type.ADD, spiderWeb.size() - 1, node.getValue(), null);
+        }
+
+        @Override
+        public void nodeAddedFirst(SpiderWebNode<E> node) {
+            record(SpiderWebChange.Type.ADD_FIRST, 0, node.getValue(), null);
+        }
+
+        @Override
+        public void nodeInserted(SpiderWebNode<E> node, int position) {
+            record(SpiderWebChange.Type.INSERT, position, node.getValue(), null);
+        }
+
+        @Override
+        public void nodeRemoved(SpiderWebNode<E> successor, int position, E value) {
+            record(SpiderWebChange.Type.REMOVE, position, value, null);
+        }
+
+        @Override
+        public void valueSet(SpiderWebNode<E> node, int position, E oldValue) {
+            record(SpiderWebChange.Type.SET, position, node.getValue(), oldValue);
+        }
+
+        @Override
+        public void firstRemoved(E value) {
+            record(SpiderWebChange.Type.REMOVE_FIRST, 0, value, null);
+        }
+
+        @Override
+        public void firstRemoved(SpiderWebNode<E> head, int count) {
+            record(SpiderWebChange.Type.REMOVE_FIRST_RANGE, count - 1, null, null);
+        }
+
+        @Override
+        public void lastRemoved(E value) {
+            record(SpiderWebChange.Type.REMOVE_LAST, spiderWeb.size(), value, null);
+        }
+
+        @Override
+        public void nodesRemoved(int from) {
+            record(SpiderWebChange.Type.RESYNC, -1, null, null);
+        }
+
+        @Override
+        public void cleared() {
+            record(SpiderWebChange.Type.CLEAR, -1, null, null);
+        }
+
+        @Override
+        public void valuesReplaced() {
+            record(SpiderWebChange.Type.RESYNC, -1, null, null);
+        }
+
+        @Override
+        public void levelWidthChanged() {
+            record(SpiderWebChange.Type.RESYNC, -1, null, null);
+        }
+    }
+
+    /**
+     * The ring of batches waiting for one subscriber, drained on the executor as demand allows.
+     */
+    private final class ChangeSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super List<SpiderWebChange<E>>> subscriber;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Object[] ring = new Object[ringCapacity];
+        private int head;
+        private int count;
+        private long demand;
+        private boolean running;
+        private boolean completed;
+        private boolean cancelled;
+        private Throwable error;
+
+        ChangeSubscription(Flow.Subscriber<? super List<SpiderWebChange<E>>> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            this.lock.lock();
+            try {
+                if (n <= 0) {
+                    this.error = new IllegalArgumentException("Invalid demand: " + n);
+                } else {
+                    this.demand = this.demand + n < 0 ? Long.MAX_VALUE : this.demand + n;
+                }
+            } finally {
+                this.lock.unlock();
+            }
+            this.signal();
+        }
+
+        @Override
+        public void cancel() {
+            this.lock.lock();
+            try {
+                this.cancelled = true;
+                this.clearRing();
+            } finally {
+                this.lock.unlock();
+            }
+            subscriptions.remove(this);
+        }
+
+        void offer(List<SpiderWebChange<E>> published) {
+            this.lock.lock();
+            try {
+                if (this.cancelled) {
+                    return;
+                }
+                if (this.count == this.ring.length) {
+                    this.clearRing();
+                    this.push(List.of(new SpiderWebChange<>(SpiderWebChange.Type.RESYNC, -1, -1, null, null)));
+                }
+                this.push(published);
+            } finally {
+                this.lock.unlock();
+            }
+            this.signal();
+        }
+
+        void complete() {
+            this.lock.lock();
+            try {
+                this.completed = true;
+            } finally {
+                this.lock.unlock();
+            }
+            this.signal();
+        }
+
+        private void push(List<SpiderWebChange<E>> published) {
+            this.ring[(this.head + this.count) % this.ring.length] = published;
+            this.count++;
+        }
+
+        private void clearRing() {
+            for (int i = 0; i < this.ring.length; i++) {
+                this.ring[i] = null;
+            }
+            this.head = 0;
+            this.count = 0;
+        }
+
+        private void signal() {
+            this.lock.lock();
+            try {
+                if (this.running || this.cancelled || !this.deliverable()) {
+                    return;
+                }
+                this.running = true;
+            } finally {
+                this.lock.unlock();
+            }
+            executor.execute(this::drain);
+        }
+
+        private boolean deliverable() {
+            return this.error != null || (this.count > 0 && this.demand > 0) || (this.count == 0 && this.completed);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void drain() {
+            while (true) {
+                final List<SpiderWebChange<E>> next;
+                this.lock.lock();
+                try {
+                    if (this.cancelled || !this.deliverable()) {
+                        this.running = false;
+                        return;
+                    }
+                    if (this.error != null || this.count == 0) {
+                        this.cancelled = true;
+                        this.running = false;
+                        next = null;
+                    } else {
+                        next = (List<SpiderWebChange<E>>) this.ring[this.head];
+                        this.ring[this.head] = null;
+                        this.head = (this.head + 1) % this.ring.length;
+                        this.count--;
+                        this.demand--;
+                    }
+                } finally {
+                    this.lock.unlock();
+                }
+                if (next != null) {
+                    this.subscriber.onNext(next);
+                    continue;
+                }
+                subscriptions.remove(this);
+                if (this.error != null) {
+                    this.subscriber.onError(this.error);
+                } else {
+                    this.subscriber.onComplete();
+                }
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,595 @@
+package com.spiderweb;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * SpiderWebCheckpointer writes incremental checkpoints of a SpiderWeb to an append-only file. It
+ * tracks which levels have changed since the last checkpoint and writes only those, so the cost of
+ * a checkpoint follows the volume of writes rather than the size of the SpiderWeb. The first
+ * checkpoint, and any checkpoint after a clear or a change of level width, is a full snapshot.
+ *
+ * <p>Levels are counted in absolute slots, fixed when the last full snapshot was written, so
+ * removing or adding elements at the beginning of the SpiderWeb does not make every level dirty.
+ * Inserting or removing an element in the middle marks the levels from there to the end dirty.
+ *
+ * <p>Once the checkpoints written since the last full snapshot outgrow the snapshot by the
+ * compaction ratio, the file is compacted in the background: the snapshot and its deltas are merged
+ * into a new snapshot while further checkpoints keep being appended. {@link #recover(Path,
+ * SpiderWebCodec)} merges the snapshot with the deltas to rebuild the SpiderWeb.
+ *
+ * <p>{@link #checkpoint()} reads the SpiderWeb and must be called on the thread that mutates it.
+ *
+ * <p>Usage Example:
+ * <blockquote><pre>
+ * SpiderWebCheckpointer&lt;Long&gt; checkpointer = new SpiderWebCheckpointer&lt;&gt;(ticks, Path.of("ticks.ckpt"), SpiderWebCodec.longs());
+ * ticks.add(1700000000000L);
+ * checkpointer.checkpoint();
+ * SpiderWeb&lt;Long&gt; restored = SpiderWebCheckpointer.recover(Path.of("ticks.ckpt"), SpiderWebCodec.longs());
+ * </pre></blockquote>
+ *
+ * @param <E> the type of elements stored in the SpiderWeb
+ *
+ * @author Milan Savic
+ * @version 1.0
+ * @since October 19, 2026
+ */
+public class SpiderWebCheckpointer<E> implements Closeable {
+
+    /**
+     * The default ratio of delta bytes to snapshot bytes at which the file is compacted.
+     */
+    public static final double DEFAULT_COMPACTION_RATIO = 1.0;
+
+    private static final int MAGIC = 0x5357434B;
+    private static final int HEADER_BYTES = 8;
+
+    private final SpiderWeb<E> spiderWeb;
+    private final Path path;
+    private final SpiderWebCodec<E> codec;
+    private final Executor executor;
+    private final double compactionRatio;
+    private final SpiderWebListener<E> tracker = new Tracker();
+    private final ReentrantLock fileLock = new ReentrantLock();
+    private final TreeSet<Long> dirtyLevels = new TreeSet<>();
+    private long dirtyFrom = Long.MAX_VALUE;
+    private boolean full = true;
+    private boolean closed;
+    private int width;
+    private long origin;
+    private FileChannel channel;
+    private long snapshotBytes;
+    private long deltaBytes;
+    private CompletableFuture<Void> compaction = CompletableFuture.completedFuture(null);
+
+    /**
+     * Constructs a checkpointer for the specified SpiderWeb, compacting on the common ForkJoinPool
+     * at the default compaction ratio ({@value #DEFAULT_COMPACTION_RATIO}).
+     *
+     * @param spiderWeb The SpiderWeb to checkpoint.
+     * @param path      The path of the checkpoint file.
+     * @param codec     The codec writing elements to the file.
+     * @throws IOException If the checkpoint file cannot be opened or is not a checkpoint file.
+     * @throws IllegalArgumentException If any argument is null.
+     */
+    public SpiderWebCheckpointer(SpiderWeb<E> spiderWeb, Path path, SpiderWebCodec<E> codec) throws IOException {
+        this(spiderWeb, path, codec, ForkJoinPool.commonPool(), DEFAULT_COMPACTION_RATIO);
+    }
+
+    /**
+     * Constructs a checkpointer for the specified SpiderWeb. An existing checkpoint file is kept and
+     * appended to, after cutting off a checkpoint torn by a crash; the first checkpoint written is a
+     * full snapshot.
+     *
+     * @param spiderWeb       The SpiderWeb to checkpoint.
+     * @param path            The path of the checkpoint file.
+     * @param codec           The codec writing elements to the file.
+     * @param executor        The executor running background compactions.
+     * @param compactionRatio The ratio of delta bytes to snapshot bytes at which the file is compacted.
+     * @throws IOException If the checkpoint file cannot be opened or is not a checkpoint file.
+     * @throws IllegalArgumentException If any argument is null or the compaction ratio is not positive.
+     */
+    public SpiderWebCheckpointer(SpiderWeb<E> spiderWeb, Path path, SpiderWebCodec<E> codec,
+                                 Executor executor, double compactionRatio) throws IOException {
+        if (spiderWeb == null || path == null || codec == null || executor == null) {
+            throw new IllegalArgumentException("SpiderWeb, path, codec and executor cannot be null.");
+        }
+        if (!(compactionRatio > 0)) {
+            throw new IllegalArgumentException("Invalid compaction ratio: " + compactionRatio);
+        }
+        this.spiderWeb = spiderWeb;
+        this.path = path;
+        this.codec = codec;
+        this.executor = executor;
+        this.compactionRatio = compactionRatio;
+        this.channel = openChannel(path);
+        spiderWeb.addListener(this.tracker);
+    }
+
+    /**
+     * Writes the levels that changed since the last checkpoint, or a full snapshot if one is due, and
+     * starts a background compaction if the deltas have outgrown the snapshot.
+     *
+     * @return The number of levels written.
+     * @throws IOException If the checkpoint file cannot be written.
+     * @throws IllegalStateException If the checkpointer is closed.
+     */
+    public int checkpoint() throws IOException {
+        if (this.closed) {
+            throw new IllegalStateException("SpiderWebCheckpointer is closed.");
+        }
+        if (this.full) {
+            this.width = this.spiderWeb.getMaxElementPerLevel();
+            this.origin = 0;
+        }
+        final int size = this.spiderWeb.size();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.writeBoolean(this.full);
+        out.writeInt(this.width);
+        out.writeLong(this.origin);
+        out.writeInt(size);
+
+        int written = 0;
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        final DataOutputStream bodyOut = new DataOutputStream(body);
+        if (size > 0) {
+            final long firstLevel = Math.floorDiv(this.origin, this.width);
+            final long lastLevel = Math.floorDiv(this.origin + size - 1, this.width);
+            final long from = this.full ? firstLevel : Math.max(firstLevel, Math.min(this.dirtyFrom, lastLevel + 1));
+            for (long level : this.dirtyLevels.subSet(firstLevel, true, from, false)) {
+                this.writeLevel(level, size, bodyOut);
+                written++;
+            }
+            for (long level = from; level <= lastLevel; level++) {
+                this.writeLevel(level, size, bodyOut);
+                written++;
+            }
+        }
+        out.writeInt(written);
+        body.writeTo(out);
+
+        final boolean compactionDue = this.append(bytes.toByteArray(), this.full);
+        this.full = false;
+        this.dirtyLevels.clear();
+        this.dirtyFrom = Long.MAX_VALUE;
+        if (compactionDue && this.compaction.isDone()) {
+            this.compaction = CompletableFuture.runAsync(this::compactUnchecked, this.executor);
+        }
+        return written;
+    }
+
+    /**
+     * Returns the number of levels that the next checkpoint writes, unless it is a full snapshot.
+     *
+     * @return The number of dirty levels within the SpiderWeb.
+     */
+    public int getDirtyLevelCount() {
+        final int size = this.spiderWeb.size();
+        if (size == 0 || this.full) {
+            return 0;
+        }
+        final long firstLevel = Math.floorDiv(this.origin, this.width);
+        final long lastLevel = Math.floorDiv(this.origin + size - 1, this.width);
+        final long from = Math.max(firstLevel, Math.min(this.dirtyFrom, lastLevel + 1));
+        return (int) (lastLevel + 1 - from) + this.dirtyLevels.subSet(firstLevel, true, from, false).size();
+    }
+
+    /**
+     * Merges the last full snapshot in the checkpoint file with the checkpoints written after it
+     * into a single snapshot, waiting for a background compaction to finish first.
+     *
+     * @throws IOException If the checkpoint file cannot be read or written.
+     */
+    public void compact() throws IOException {
+        this.awaitCompaction();
+        this.compactFile();
+    }
+
+    /**
+     * Stops tracking the SpiderWeb, waits for a background compaction and closes the checkpoint file.
+     *
+     * @throws IOException If a background compaction failed or the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        this.spiderWeb.removeListener(this.tracker);
+        try {
+            this.awaitCompaction();
+        } finally {
+            this.fileLock.lock();
+            try {
+                this.channel.close();
+            } finally {
+                this.fileLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Rebuilds a SpiderWeb from a checkpoint file by merging its last full snapshot with the
+     * checkpoints written after it. A checkpoint torn by a crash is ignored.
+     *
+     * <p>The file is opened once and read up to the length it had when it was opened, so a concurrent
+     * compaction replacing the file cannot mix two versions of it. Recovery is meant to run before a
+     * checkpointer is opened on the path, though: a checkpointer still writing or compacting the file
+     * may make the recovered SpiderWeb miss its latest checkpoints.
+     *
+     * @param path  The path of the checkpoint file.
+     * @param codec The codec reading elements from the file.
+     * @param <E>   The type of elements stored in the SpiderWeb.
+     * @return The SpiderWeb as of the last intact checkpoint.
+     * @throws IOException If the file cannot be read, is not a checkpoint file or holds no snapshot.
+     */
+    public static <E> SpiderWeb<E> recover(Path path, SpiderWebCodec<E> codec) throws IOException {
+        final Merged merged = new Merged();
+        try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ);
+             InputStream in = new BufferedInputStream(Channels.newInputStream(file))) {
+            readCheckpoints(path, new DataInputStream(in), file.size(), merged);
+        }
+        if (merged.width == 0) {
+            throw new IOException("Checkpoint file holds no snapshot: " + path);
+        }
+        final SpiderWeb<E> spiderWeb = new SpiderWeb<>(merged.width);
+        spiderWeb.beginBulkLoad();
+        final long end = merged.origin + merged.size;
+        long slot = merged.origin;
+        while (slot < end) {
+            final long level = Math.floorDiv(slot, merged.width);
+            final byte[] stored = merged.levels.get(level);
+            if (stored == null) {
+                throw new IOException("Checkpoint file is missing level " + level + ": " + path);
+            }
+            final DataInputStream values = new DataInputStream(new ByteArrayInputStream(stored, 8, stored.length - 8));
+            final int first = ByteBuffer.wrap(stored).getInt(0);
+            final int count = ByteBuffer.wrap(stored).getInt(4);
+            for (int i = 0; i < count; i++) {
+                final E value = codec.decode(values);
+                final long valueSlot = level * merged.width + first + i;
+                if (valueSlot == slot && slot < end) {
+                    spiderWeb.add(value);
+                    slot++;
+                }
+            }
+            if (slot < Math.min(end, (level + 1) * merged.width)) {
+                throw new IOException("Checkpoint file is missing elements of level " + level + ": " + path);
+            }
+        }
+        spiderWeb.seal();
+        return spiderWeb;
+    }
+
+    /**
+     * Writes the elements of one level that lie within the SpiderWeb, preceded by the level, the
+     * offset of its first element, the number of elements and their encoded length.
+     */
+    private void writeLevel(long level, int size, DataOutputStream out) throws IOException {
+        final long fromSlot = Math.max(level * this.width, this.origin);
+        final long toSlot = Math.min((level + 1) * this.width, this.origin + size);
+        final ByteArrayOutputStream levelBytes = new ByteArrayOutputStream();
+        final DataOutputStream levelOut = new DataOutputStream(levelBytes);
+        SpiderWebNode<E> node = this.spiderWeb.nodeAt((int) (fromSlot - this.origin));
+        for (long slot = fromSlot; slot < toSlot; slot++) {
+            this.codec.encode(node.getValue(), levelOut);
+            node = node.getNextNode();
+        }
+        out.writeLong(level);
+        out.writeInt((int) (fromSlot - level * this.width));
+        out.writeInt((int) (toSlot - fromSlot));
+        out.writeInt(levelBytes.size());
+        levelBytes.writeTo(out);
+    }
+
+    /**
+     * Appends and forces a checkpoint, then updates the byte counts that decide compaction.
+     *
+     * @return True if the deltas have outgrown the snapshot by the compaction ratio.
+     */
+    private boolean append(byte[] body, boolean snapshot) throws IOException {
+        final CRC32 checksum = new CRC32();
+        checksum.update(body);
+        final ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + body.length);
+        record.putInt(body.length).putInt((int) checksum.getValue()).put(body).flip();
+        this.fileLock.lock();
+        try {
+            while (record.hasRemaining()) {
+                this.channel.write(record);
+            }
+            this.channel.force(false);
+            if (snapshot) {
+                this.snapshotBytes = record.limit();
+                this.deltaBytes = 0;
+            } else {
+                this.deltaBytes += record.limit();
+            }
+            return this.deltaBytes > this.snapshotBytes * this.compactionRatio;
+        } finally {
+            this.fileLock.unlock();
+        }
+    }
+
+    private void awaitCompaction() throws IOException {
+        try {
+            this.compaction.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            throw e;
+        }
+    }
+
+    private void compactUnchecked() {
+        try {
+            this.compactFile();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the merged snapshot to a temporary file while checkpoints continue, then appends the
+     * checkpoints written meanwhile and replaces the checkpoint file.
+     */
+    private void compactFile() throws IOException {
+        final long mergedLength;
+        this.fileLock.lock();
+        try {
+            mergedLength = this.channel.size();
+        } finally {
+            this.fileLock.unlock();
+        }
+        final Merged merged = new Merged();
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(this.path))) {
+            readCheckpoints(this.path, new DataInputStream(in), mergedLength, merged);
+        }
+        if (!merged.full) {
+            return;
+        }
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.writeBoolean(true);
+        out.writeInt(merged.width);
+        out.writeLong(merged.origin);
+        out.writeInt(merged.size);
+        out.writeInt(merged.levels.size());
+        for (Map.Entry<Long, byte[]> level : merged.levels.entrySet()) {
+            out.writeLong(level.getKey());
+            out.write(level.getValue(), 0, 8);
+            out.writeInt(level.getValue().length - 8);
+            out.write(level.getValue(), 8, level.getValue().length - 8);
+        }
+        final byte[] body = bytes.toByteArray();
+        final CRC32 checksum = new CRC32();
+        checksum.update(body);
+
+        final Path compacted = this.path.resolveSibling(this.path.getFileName() + ".compacting");
+        try (FileChannel target = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            final ByteBuffer head = ByteBuffer.allocate(4 + HEADER_BYTES + body.length);
+            head.putInt(MAGIC).putInt(body.length).putInt((int) checksum.getValue()).put(body).flip();
+            while (head.hasRemaining()) {
+                target.write(head);
+            }
+            this.fileLock.lock();
+            try {
+                final long tail = this.channel.size() - mergedLength;
+                long copied = 0;
+                while (copied < tail) {
+                    copied += this.channel.transferTo(mergedLength + copied, tail - copied, target);
+                }
+                target.force(true);
+                this.channel.close();
+                Files.move(compacted, this.path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                this.channel = openChannel(this.path);
+                this.snapshotBytes = HEADER_BYTES + body.length;
+                this.deltaBytes = tail;
+            } finally {
+                this.fileLock.unlock();
+            }
+        }
+    }
+
+    private static FileChannel openChannel(Path path) throws IOException {
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() == 0) {
+                channel.write(ByteBuffer.allocate(4).putInt(0, MAGIC));
+                channel.force(true);
+            } else {
+                final long valid;
+                try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+                    valid = readCheckpoints(path, new DataInputStream(in), channel.size(), new Merged());
+                }
+                if (valid < channel.size()) {
+                    channel.truncate(valid);
+                    channel.force(true);
+                }
+            }
+            channel.position(channel.size());
+            return channel;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the intact checkpoints among the first {@code length} bytes of a checkpoint file and
+     * merges them, keeping the latest copy of every level since the last full snapshot.
+     *
+     * @return The number of bytes up to the end of the last intact checkpoint.
+     */
+    private static long readCheckpoints(Path path, DataInputStream in, long length, Merged merged) throws IOException {
+        if (length < 4 || in.readInt() != MAGIC) {
+            throw new IOException("Not a SpiderWeb checkpoint file: " + path);
+        }
+        final CRC32 checksum = new CRC32();
+        long valid = 4;
+        while (length - valid >= HEADER_BYTES) {
+            final byte[] body;
+            final int expected;
+            try {
+                final int bodyLength = in.readInt();
+                expected = in.readInt();
+                if (bodyLength <= 0 || bodyLength > length - valid - HEADER_BYTES) {
+                    break;
+                }
+                body = new byte[bodyLength];
+                in.readFully(body);
+            } catch (EOFException e) {
+                break;
+            }
+            checksum.reset();
+            checksum.update(body);
+            if ((int) checksum.getValue() != expected) {
+                break;
+            }
+            merged.merge(new DataInputStream(new ByteArrayInputStream(body)));
+            valid += HEADER_BYTES + body.length;
+        }
+        return valid;
+    }
+
+    /**
+     * The state of a checkpoint file after merging its checkpoints. Every level is kept as its first
+     * slot and count, eight bytes, followed by its encoded values.
+     */
+    private static final class Merged {
+        private final TreeMap<Long, byte[]> levels = new TreeMap<>();
+        private boolean full;
+        private int width;
+        private long origin;
+        private int size;
+
+        void merge(DataInputStream in) throws IOException {
+            final boolean snapshot = in.readBoolean();
+            if (snapshot) {
+                this.levels.clear();
+                this.full = true;
+            }
+            this.width = in.readInt();
+            this.origin = in.readLong();
+            this.size = in.readInt();
+            final int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                final long level = in.readLong();
+                final int first = in.readInt();
+                final int values = in.readInt();
+                final byte[] stored = new byte[8 + in.readInt()];
+                ByteBuffer.wrap(stored).putInt(first).putInt(values);
+                in.readFully(stored, 8, stored.length - 8);
+                this.levels.put(level, stored);
+            }
+            if (this.size == 0) {
+                this.levels.clear();
+            } else {
+                this.levels.headMap(Math.floorDiv(this.origin, this.width)).clear();
+                this.levels.tailMap(Math.floorDiv(this.origin + this.size - 1, this.width), false).clear();
+            }
+        }
+    }
+
+    /**
+     * Marks the levels touched by each mutation dirty.
+     */
+    private final class Tracker implements SpiderWebListener<E> {
+
+        @Override
+        public void nodeAdded(SpiderWebNode<E> node) {
+            this.mark(spiderWeb.size() - 1);
+        }
+
+        @Override
+        public void nodeAddedFirst(SpiderWebNode<E> node) {
+            origin--;
+            this.mark(0);
+        }
+
+        @Override
+        public void nodeInserted(SpiderWebNode<E> node, int position) {
+            this.markFrom(position);
+        }
+
+        @Override
+        public void nodeRemoved(SpiderWebNode<E> successor, int position, E value) {
+            this.markFrom(position);
+        }
+
+        @Override
+        public void valueSet(SpiderWebNode<E> node, int position, E oldValue) {
+            this.mark(position);
+        }
+
+        @Override
+        public void firstRemoved(E value) {
+            origin++;
+        }
+
+        @Override
+        public void firstRemoved(SpiderWebNode<E> head, int count) {
+            origin += count;
+        }
+
+        @Override
+        public void nodesRemoved(int from) {
+            this.markFrom(from);
+        }
+
+        @Override
+        public void cleared() {
+            full = true;
+        }
+
+        @Override
+        public void valuesReplaced() {
+            full = true;
+        }
+
+        @Override
+        public void levelWidthChanged() {
+            full = true;
+        }
+
+        private void mark(int position) {
+            if (!full) {
+                dirtyLevels.add(Math.floorDiv(origin + position, width));
+            }
+        }
+
+        private void markFrom(int position) {
+            if (!full) {
+                dirtyFrom = Math.min(dirtyFrom, Math.floorDiv(origin + position, width));
+            }
+        }
+    }
+}
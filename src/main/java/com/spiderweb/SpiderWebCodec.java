@@ -0,0 +1,108 @@
+package com.spiderweb;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * The {@code SpiderWebCodec} interface converts the elements of a SpiderWeb to and from bytes, so
+ * they can be written to a log or a file and read back. Codecs for strings, integers and longs are
+ * provided; other element types supply their own.
+ *
+ * <p>Usage Example:
+ * <blockquote><pre>
+ * SpiderWebCodec&lt;Point&gt; points = new SpiderWebCodec&lt;&gt;() {
+ *     public void encode(Point value, DataOutput out) throws IOException {
+ *         out.writeInt(value.x());
+ *         out.writeInt(value.y());
+ *     }
+ *
+ *     public Point decode(DataInput in) throws IOException {
+ *         return new Point(in.readInt(), in.readInt());
+ *     }
+ * };
+ * </pre></blockquote>
+ *
+ * @param <E> the type of elements converted by the codec
+ *
+ * @author Milan Savic
+ * @version 1.0
+ * @since October 19, 2026
+ */
+public interface SpiderWebCodec<E> {
+
+    /**
+     * Writes a value.
+     *
+     * @param value The value to write.
+     * @param out   The output to write to.
+     * @throws IOException If the output cannot be written.
+     */
+    void encode(E value, DataOutput out) throws IOException;
+
+    /**
+     * Reads a value written by {@link #encode(Object, DataOutput)}.
+     *
+     * @param in The input to read from.
+     * @return The value that was read.
+     * @throws IOException If the input cannot be read or ends early.
+     */
+    E decode(DataInput in) throws IOException;
+
+    /**
+     * Returns a codec writing strings in modified UTF-8.
+     *
+     * @return A codec for strings.
+     */
+    static SpiderWebCodec<String> strings() {
+        return new SpiderWebCodec<>() {
+            @Override
+            public void encode(String value, DataOutput out) throws IOException {
+                out.writeUTF(value);
+            }
+
+            @Override
+            public String decode(DataInput in) throws IOException {
+                return in.readUTF();
+            }
+        };
+    }
+
+    /**
+     * Returns a codec writing integers as four bytes.
+     *
+     * @return A codec for integers.
+     */
+    static SpiderWebCodec<Integer> integers() {
+        return new SpiderWebCodec<>() {
+            @Override
+            public void encode(Integer value, DataOutput out) throws IOException {
+                out.writeInt(value);
+            }
+
+            @Override
+            public Integer decode(DataInput in) throws IOException {
+                return in.readInt();
+            }
+        };
+    }
+
+    /**
+     * Returns a codec writing longs as eight bytes.
+     *
+     * @return A codec for longs.
+     */
+    static SpiderWebCodec<Long> longs() {
+        return new SpiderWebCodec<>() {
+            @Override
+            public void encode(Long value, DataOutput out) throws IOException {
+                out.writeLong(value);
+            }
+
+            @Override
+            public Long decode(DataInput in) throws IOException {
+                return in.readLong();
+            }
+        };
+    }
+}
@@ -0,0 +1,258 @@
+package com.spiderweb;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+/**
+ * SpiderWebCursor is a movable position within a SpiderWeb. The cursor holds its current node
+ * together with the node's level and index, so moving to a neighbouring element or to the same
+ * index of a neighbouring level follows a single link instead of searching the SpiderWeb again.
+ *
+ * <p>The cursor may replace or remove its current element. Any other structural modification of the
+ * SpiderWeb, or a change of its level width, invalidates the cursor, and its next operation throws
+ * a {@link ConcurrentModificationException}.
+ *
+ * <p>Usage Example:
+ * <blockquote><pre>
+ * SpiderWebCursor&lt;Integer&gt; cursor = spiderWeb.cursor(2, 3);
+ * Integer above = cursor.hasPrevLevel() ? cursor.prevLevel() : null;
+ * </pre></blockquote>
+ *
+ * @param <E> the type of elements stored in the SpiderWeb
+ *
+ * @author Milan Savic
+ * @version 1.0
+ * @since October 19, 2026
+ */
+public class SpiderWebCursor<E> {
+
+    private final SpiderWeb<E> spiderWeb;
+    private SpiderWebNode<E> node;
+    private int position;
+    private int expectedModCount;
+
+    /**
+     * Constructs a cursor positioned on the specified node.
+     *
+     * @param spiderWeb The SpiderWeb the cursor moves through.
+     * @param node      The node the cursor starts on.
+     * @param position  The position of the node.
+     */
+    SpiderWebCursor(SpiderWeb<E> spiderWeb, SpiderWebNode<E> node, int position) {
+        this.spiderWeb = spiderWeb;
+        this.node = node;
+        this.position = position;
+        this.expectedModCount = spiderWeb.modCount();
+    }
+
+    /**
+     * Gets the level of the current element.
+     *
+     * @return The level of the current element.
+     * @throws IllegalStateException If the cursor has no current element.
+     * @throws ConcurrentModificationException If the SpiderWeb was modified other than through this cursor.
+     */
+    public int getLevel() {
+        this.checkCurrent();
+        return this.position / this.spiderWeb.getMaxElementPerLevel();
+    }
+
+    /**
+     * Gets the index of the current element within its level.
+     *
+     * @return The index of the current element.
+     * @throws IllegalStateException If the cursor has no current element.
+     * @throws ConcurrentModificationException If the SpiderWeb was modified other than through this cursor.
+     */
+    public int getIndex() {
+        this.checkCurrent();
+        return this.position % this.spiderWeb.getMaxElementPerLevel();
+    }
+
+    /**
+     * Returns the current element.
+     *
+     * @return The current element.
+     * @throws IllegalStateException If the cursor has no current element.
+     * @throws ConcurrentModificationException If the SpiderWeb was modified other than through this cursor.
+     */
+    public E get() {
+        return this.getNode().getValue();
+    }
+
+    /**
+     * Returns the node of the current element.
+     *
+     * @return The current node.
+     * @throws IllegalStateException If the cursor has no current element.
+     * @throws ConcurrentModificationException If the SpiderWeb was modified other than through this cursor.
+     */
+    public SpiderWebNode<E> getNode() {
+        this.checkCurrent();
+        return this.node;
+    }
+
+    /**
+     * Checks whether there is an element after the current one.
+     *
+     * @return True if the cursor can move to the next element, false otherwise.
+     */
+    public boolean hasNext() {
+        return this.node != null && this.node.getNextNode() != null;
+    }
+
+    /**
+     * Checks whether there is an element before the current one.
+     *
+     * @return True if the cursor can move to the previous element, false otherwise.
+     */
+    public boolean hasPrev() {
+        return this.node != null && this.node.getPrevNode() != null;
+    }
+
+    /**
+     * Checks whether there is an element at the same index of the next level.
+     *
+     * @return True if the cursor can move to the next level, false otherwise.
+     */
+    public boolean hasNextLevel() {
+        return this.node != null && this.node.getNextLevelNode() != null;
+    }
+
+    /**
+     * Checks whether there is an element at the same index of the previous level.
+     *
+     * @return True if the cursor can move to the previous level, false otherwise.
+     */
+    public boolean hasPrevLevel() {
+        return this.node != null && this.node.getPrevLevelNode() != null;
+    }
+
+    /**
+     * Moves the cursor to the next element and returns it.
+     *
+     * @return The next element.
+     * @throws NoSuchElementException If the current element is the last one.
+     * @throws ConcurrentModificationException If the SpiderWeb was modified other than through this cursor.
+     */
+    public E next() {
+        this.checkCurrent();
+        this.node = this.step(this.node.getNextNode(), "next element");
+        this.position++;
+        return this.node.getValue();
+    }
+
+    /**
+     * Moves the cursor to the previous element and returns it.
+     *
+     * @return The previous element.
+     * @throws NoSuchElementException If the current element is the first one.
+     * @throws ConcurrentModificationException If the SpiderWeb was modified other than through this cursor.
+     */
+    public E prev() {
+        this.checkCurrent();
+        this.node = this.step(this.node.getPrevNode(), "previous element");
+        this.position--;
+        return this.node.getValue();
+    }
+
+    /**
+     * Moves the cursor to the same index of the next level and returns the element there.
+     *
+     * @return The element at the same index of the next level.
+     * @throws NoSuchElementException If the next level has no element at the current index.
+     * @throws ConcurrentModificationException If the SpiderWeb was modified other than through this cursor.
+     */
+    public E nextLevel() {
+        this.checkCurrent();
+        final int width = this.spiderWeb.getMaxElementPerLevel();
+        if (this.spiderWeb.levelStride(this.position) == width) {
+            this.node = this.step(this.node.getNextLevelNode(), "next level");
+        } else {
+            // The level link already spans the pending width of a re-level in progress.
+            SpiderWebNode<E> target = this.node;
+            for (int i = 0; i < width && target != null; i++) {
+                target = target.getNextNode();
+            }
+            this.node = this.step(target, "next level");
+        }
+        this.position += width;
+        return this.node.getValue();
+    }
+
+    /**
+     * Moves the cursor to the same index of the previous level and returns the element there.
+     *
+     * @return The element at the same index of the previous level.
+     * @throws NoSuchElementException If the current element is on the first level.
+     * @throws ConcurrentModificationException If the SpiderWeb was modified other than through this cursor.
+     */
+    public E prevLevel() {
+        this.checkCurrent();
+        final int width = this.spiderWeb.getMaxElementPerLevel();
+        if (this.spiderWeb.prevLevelStride(this.position) == width) {
+            this.node = this.step(this.node.getPrevLevelNode(), "previous level");
+        } else {
+            // The level link already spans the pending width of a re-level in progress.
+            SpiderWebNode<E> target = this.position < width ? null : this.node;
+            for (int i = 0; i < width && target != null; i++) {
+                target = target.getPrevNode();
+            }
+            this.node = this.step(target, "previous level");
+        }
+        this.position -= width;
+        return this.node.getValue();
+    }
+
+    /**
+     * Replaces the current element.
+     *
+     * @param element The new element.
+     * @return The element that was replaced.
+     * @throws IllegalStateException If the cursor has no current element.
+     * @throws UnsupportedOperationException If the SpiderWeb does not allow elements to be replaced.
+     * @throws ConcurrentModificationException If the SpiderWeb was modified other than through this cursor.
+     */
+    public E set(E element) {
+        this.checkCurrent();
+        return this.spiderWeb.setNode(this.node, this.position, element);
+    }
+
+    /**
+     * Removes the current element. The cursor then moves to the element that followed it, or to the
+     * new last element if the removed element was the last one.
+     *
+     * @return The removed element.
+     * @throws IllegalStateException If the cursor has no current element.
+     * @throws ConcurrentModificationException If the SpiderWeb was modified other than through this cursor.
+     */
+    public E remove() {
+        this.checkCurrent();
+        final SpiderWebNode<E> successor = this.node.getNextNode();
+        final E value = this.spiderWeb.unlink(this.node, this.position);
+        if (successor != null) {
+            this.node = successor;
+        } else {
+            this.node = this.spiderWeb.getLastNode();
+            this.position--;
+        }
+        this.expectedModCount = this.spiderWeb.modCount();
+        return value;
+    }
+
+    private SpiderWebNode<E> step(SpiderWebNode<E> target, String direction) {
+        if (target == null) {
+            throw new NoSuchElementException("Cursor has no " + direction + ".");
+        }
+        return target;
+    }
+
+    private void checkCurrent() {
+        if (this.expectedModCount != this.spiderWeb.modCount()) {
+            throw new ConcurrentModificationException();
+        }
+        if (this.node == null) {
+            throw new IllegalStateException("Cursor has no current element.");
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.spiderweb;
+
+/**
+ * The {@code SpiderWebListener} interface is implemented by the internal components that keep
+ * derived state of a SpiderWeb up to date. A listener is notified after each mutation has been
+ * applied, so the SpiderWeb already reflects the change when a callback runs.
+ *
+ * @param <E> the type of elements stored in the SpiderWeb
+ *
+ * @author Milan Savic
+ * @version 1.0
+ * @since October 19, 2026
+ */
+interface SpiderWebListener<E> {
+
+    /**
+     * Called after a node has been appended to the end of the SpiderWeb.
+     *
+     * @param node The appended node.
+     */
+    default void nodeAdded(SpiderWebNode<E> node) {
+    }
+
+    /**
+     * Called after a node has been inserted at the beginning of the SpiderWeb.
+     *
+     * @param node The inserted node.
+     */
+    default void nodeAddedFirst(SpiderWebNode<E> node) {
+    }
+
+    /**
+     * Called after a node has been inserted between two existing nodes. Every element after the
+     * inserted node has moved one position towards the end of the SpiderWeb.
+     *
+     * @param node     The inserted node.
+     * @param position The position of the inserted node, counted from the first element.
+     */
+    default void nodeInserted(SpiderWebNode<E> node, int position) {
+    }
+
+    /**
+     * Called after a node between the first and the last node has been removed. Every element after
+     * the removed node has moved one position towards the beginning of the SpiderWeb.
+     *
+     * @param successor The node now at the position of the removed node.
+     * @param position  The position of the removed node, counted from the first element.
+     * @param value     The value of the removed node.
+     */
+    default void nodeRemoved(SpiderWebNode<E> successor, int position, E value) {
+    }
+
+    /**
+     * Called after the value of a node has been replaced.
+     *
+     * @param node     The node whose value was replaced.
+     * @param position The position of the node, counted from the first element.
+     * @param oldValue The value the node held before the replacement.
+     */
+    default void valueSet(SpiderWebNode<E> node, int position, E oldValue) {
+    }
+
+    /**
+     * Called after the first element has been removed from the SpiderWeb.
+     *
+     * @param value The removed value.
+     */
+    default void firstRemoved(E value) {
+    }
+
+    /**
+     * Called after the first elements of the SpiderWeb have been detached at once. Every remaining
+     * element has moved {@code count} positions towards the beginning of the SpiderWeb.
+     *
+     * @param head  The first detached node. The detached nodes stay chained through their next links.
+     * @param count The number of detached elements.
+     */
+    default void firstRemoved(SpiderWebNode<E> head, int count) {
+    }
+
+    /**
+     * Called after the last element has been removed from the SpiderWeb.
+     *
+     * @param value The removed value.
+     */
+    default void lastRemoved(E value) {
+    }
+
+    /**
+     * Called after any number of nodes have been removed in one pass. Every element at or after
+     * {@code from} may now be at a different position, and the last elements no longer exist.
+     *
+     * @param from The position of the first removed node, counted from the first element.
+     */
+    default void nodesRemoved(int from) {
+    }
+
+    /**
+     * Called after all elements have been removed from the SpiderWeb.
+     */
+    default void cleared() {
+    }
+
+    /**
+     * Called after the values of any number of nodes have been replaced in bulk, without a
+     * {@link #valueSet} call for each of them.
+     */
+    default void valuesReplaced() {
+    }
+
+    /**
+     * Called after the SpiderWeb has switched to a new number of elements per level. Every level and
+     * index may now refer to a different element.
+     */
+    default void levelWidthChanged() {
+    }
+}
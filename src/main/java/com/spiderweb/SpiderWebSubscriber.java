@@ -0,0 +1,311 @@
+package com.spiderweb;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * SpiderWebSubscriber is a {@link Flow.Subscriber} that appends the items it receives to a SpiderWeb.
+ * Items are buffered and appended once a batch is full or every requested item has arrived, and
+ * demand is only requested while the SpiderWeb, the buffer and the outstanding demand together stay
+ * below a high-water mark. The mark counts either elements or whole levels. A slow consumer
+ * therefore slows the publisher down instead of letting the SpiderWeb grow without bound.
+ *
+ * <p>Consumers take elements through {@link #poll()} or {@link #drainTo(Consumer, int)}, which
+ * remove them from the beginning of the SpiderWeb under the subscriber's lock and request more
+ * demand as room frees up. The SpiderWeb should not be modified in any other way while it is
+ * subscribed.
+ *
+ * <p>Usage Example:
+ * <blockquote><pre>
+ * SpiderWebSubscriber&lt;Event&gt; subscriber = new SpiderWebSubscriber&lt;&gt;(new SpiderWeb&lt;&gt;(), 10000);
+ * publisher.subscribe(subscriber);
+ * Event next = subscriber.poll();
+ * </pre></blockquote>
+ *
+ * @param <E> the type of elements stored in the SpiderWeb
+ *
+ * @author Milan Savic
+ * @version 1.0
+ * @since October 19, 2026
+ */
+public class SpiderWebSubscriber<E> implements Flow.Subscriber<E> {
+
+    /**
+     * The default number of items appended to the SpiderWeb at once.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    private final SpiderWeb<E> spiderWeb;
+    private final int highWaterMark;
+    private final boolean countLevels;
+    private final int batchSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<E> buffer = new ArrayList<>();
+    private Flow.Subscription subscription;
+    private long outstanding;
+    private boolean done;
+    private Throwable error;
+
+    /**
+     * Constructs a subscriber that keeps at most {@code highWaterMark} elements in the SpiderWeb and
+     * appends items in batches of {@value #DEFAULT_BATCH_SIZE}.
+     *
+     * @param spiderWeb     The SpiderWeb to append items to.
+     * @param highWaterMark The maximum number of elements held in the SpiderWeb and in flight.
+     * @throws IllegalArgumentException If the SpiderWeb is null or the high-water mark is not positive.
+     */
+    public SpiderWebSubscriber(SpiderWeb<E> spiderWeb, int highWaterMark) {
+        this(spiderWeb, highWaterMark, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Constructs a subscriber that keeps at most {@code highWaterMark} elements in the SpiderWeb.
+     *
+     * @param spiderWeb     The SpiderWeb to append items to.
+     * @param highWaterMark The maximum number of elements held in the SpiderWeb and in flight.
+     * @param batchSize     The number of items appended to the SpiderWeb at once.
+     * @throws IllegalArgumentException If the SpiderWeb is null, or the high-water mark or batch size is not positive.
+     */
+    public SpiderWebSubscriber(SpiderWeb<E> spiderWeb, int highWaterMark, int batchSize) {
+        this(spiderWeb, highWaterMark, false, batchSize);
+    }
+
+    private SpiderWebSubscriber(SpiderWeb<E> spiderWeb, int highWaterMark, boolean countLevels, int batchSize) {
+        if (spiderWeb == null) {
+            throw new IllegalArgumentException("SpiderWeb cannot be null.");
+        }
+        if (highWaterMark <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("Invalid high-water mark: " + highWaterMark + " or batch size: " + batchSize);
+        }
+        this.spiderWeb = spiderWeb;
+        this.highWaterMark = highWaterMark;
+        this.countLevels = countLevels;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Creates a subscriber that keeps at most {@code levels} full levels in the SpiderWeb. The limit
+     * follows the level width of the SpiderWeb if it changes.
+     *
+     * @param spiderWeb The SpiderWeb to append items to.
+     * @param levels    The maximum number of levels held in the SpiderWeb and in flight.
+     * @param batchSize The number of items appended to the SpiderWeb at once.
+     * @param <E>       The type of elements stored in the SpiderWeb.
+     * @return A subscriber bounded by levels.
+     * @throws IllegalArgumentException If the SpiderWeb is null, or the number of levels or batch size is not positive.
+     */
+    public static <E> SpiderWebSubscriber<E> withLevelLimit(SpiderWeb<E> spiderWeb, int levels, int batchSize) {
+        return new SpiderWebSubscriber<>(spiderWeb, levels, true, batchSize);
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (subscription == null) {
+            throw new NullPointerException("Subscription cannot be null.");
+        }
+        final long demand;
+        this.lock.lock();
+        try {
+            if (this.subscription != null || this.done) {
+                subscription.cancel();
+                return;
+            }
+            this.subscription = subscription;
+            demand = this.takeDemand();
+        } finally {
+            this.lock.unlock();
+        }
+        this.request(subscription, demand);
+    }
+
+    @Override
+    public void onNext(E item) {
+        if (item == null) {
+            throw new NullPointerException("Item cannot be null.");
+        }
+        final long demand;
+        this.lock.lock();
+        try {
+            this.outstanding--;
+            this.buffer.add(item);
+            if (this.buffer.size() < this.batchSize && this.outstanding > 0) {
+                return;
+            }
+            this.flush();
+            demand = this.takeDemand();
+        } finally {
+            this.lock.unlock();
+        }
+        this.request(this.subscription, demand);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        this.lock.lock();
+        try {
+            this.flush();
+            this.error = throwable;
+            this.done = true;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        this.lock.lock();
+        try {
+            this.flush();
+            this.done = true;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the first element of the SpiderWeb, requesting more items if that freed
+     * enough room.
+     *
+     * @return The first element, or null if the SpiderWeb is empty.
+     */
+    public E poll() {
+        final E value;
+        final long demand;
+        this.lock.lock();
+        try {
+            if (this.spiderWeb.size() == 0) {
+                return null;
+            }
+            value = this.spiderWeb.removeFirst();
+            demand = this.takeDemand();
+        } finally {
+            this.lock.unlock();
+        }
+        this.request(this.subscription, demand);
+        return value;
+    }
+
+    /**
+     * Removes up to {@code maxElements} elements from the beginning of the SpiderWeb and passes them to
+     * the consumer, then requests more items if that freed enough room.
+     *
+     * @param consumer    The consumer receiving the removed elements in order.
+     * @param maxElements The maximum number of elements to remove.
+     * @return The number of elements removed.
+     * @throws IllegalArgumentException If the consumer is null.
+     */
+    public int drainTo(Consumer<? super E> consumer, int maxElements) {
+        if (consumer == null) {
+            throw new IllegalArgumentException("Consumer cannot be null.");
+        }
+        int drained = 0;
+        final long demand;
+        this.lock.lock();
+        try {
+            for (; drained < maxElements && this.spiderWeb.size() > 0; drained++) {
+                consumer.accept(this.spiderWeb.removeFirst());
+            }
+            demand = this.takeDemand();
+        } finally {
+            this.lock.unlock();
+        }
+        this.request(this.subscription, demand);
+        return drained;
+    }
+
+    /**
+     * Returns the number of elements currently held in the SpiderWeb.
+     *
+     * @return The number of elements in the SpiderWeb.
+     */
+    public int size() {
+        this.lock.lock();
+        try {
+            return this.spiderWeb.size();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Checks whether the publisher has completed or failed. Elements may still be waiting in the
+     * SpiderWeb.
+     *
+     * @return True if no more items will be appended, false otherwise.
+     */
+    public boolean isDone() {
+        this.lock.lock();
+        try {
+            return this.done;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the error the publisher failed with.
+     *
+     * @return The error, or null if the publisher has not failed.
+     */
+    public Throwable getError() {
+        this.lock.lock();
+        try {
+            return this.error;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Cancels the subscription. Elements already in the SpiderWeb stay there.
+     */
+    public void cancel() {
+        final Flow.Subscription cancelled;
+        this.lock.lock();
+        try {
+            cancelled = this.subscription;
+            this.done = true;
+        } finally {
+            this.lock.unlock();
+        }
+        if (cancelled != null) {
+            cancelled.cancel();
+        }
+    }
+
+    private void flush() {
+        for (int i = 0; i < this.buffer.size(); i++) {
+            this.spiderWeb.add(this.buffer.get(i));
+        }
+        this.buffer.clear();
+    }
+
+    /**
+     * Computes how many more items fit under the high-water mark and records them as outstanding.
+     * Demand is requested a batch at a time, unless nothing is outstanding and waiting for a full
+     * batch would stall the publisher.
+     */
+    private long takeDemand() {
+        if (this.subscription == null || this.done) {
+            return 0;
+        }
+        final long limit = this.countLevels
+                ? (long) this.highWaterMark * this.spiderWeb.getMaxElementPerLevel()
+                : this.highWaterMark;
+        final long room = limit - this.spiderWeb.size() - this.buffer.size() - this.outstanding;
+        if (room <= 0 || (room < this.batchSize && this.outstanding > 0)) {
+            return 0;
+        }
+        this.outstanding += room;
+        return room;
+    }
+
+    private void request(Flow.Subscription target, long demand) {
+        if (demand > 0) {
+            target.request(demand);
+        }
+    }
+}
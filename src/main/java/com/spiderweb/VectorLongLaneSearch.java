@@ -0,0 +1,71 @@
+package com.spiderweb;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The {@code VectorLongLaneSearch} class scans {@code long} arrays with the Vector API, comparing
+ * every value of a lane with one instruction. Values that do not fill a whole lane are compared one
+ * at a time. The class is only loaded through {@link LongLaneSearch#create()}, which falls back to
+ * {@link ScalarLongLaneSearch} when the {@code jdk.incubator.vector} module is missing.
+ *
+ * @author Milan Savic
+ * @version 1.0
+ * @since October 19, 2026
+ */
+final class VectorLongLaneSearch implements LongLaneSearch {
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    @Override
+    public int indexOf(long[] values, int from, int to, long key) {
+        final int bound = from + SPECIES.loopBound(to - from);
+        int i = from;
+        for (; i < bound; i += SPECIES.length()) {
+            final VectorMask<Long> matches = LongVector.fromArray(SPECIES, values, i).eq(key);
+            if (matches.anyTrue()) {
+                return i + matches.firstTrue();
+            }
+        }
+        for (; i < to; i++) {
+            if (values[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(long[] values, int from, int to, long key) {
+        int i = to - SPECIES.length();
+        for (; i >= from; i -= SPECIES.length()) {
+            final VectorMask<Long> matches = LongVector.fromArray(SPECIES, values, i).eq(key);
+            if (matches.anyTrue()) {
+                return i + matches.lastTrue();
+            }
+        }
+        for (int j = i + SPECIES.length() - 1; j >= from; j--) {
+            if (values[j] == key) {
+                return j;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int count(long[] values, int from, int to, long key) {
+        final int bound = from + SPECIES.loopBound(to - from);
+        int count = 0;
+        int i = from;
+        for (; i < bound; i += SPECIES.length()) {
+            count += LongVector.fromArray(SPECIES, values, i).eq(key).trueCount();
+        }
+        for (; i < to; i++) {
+            if (values[i] == key) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
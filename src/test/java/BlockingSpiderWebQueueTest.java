@@ -0,0 +1,128 @@
+import com.spiderweb.BlockingSpiderWebQueue;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the BlockingSpiderWebQueue class.
+ */
+public class BlockingSpiderWebQueueTest {
+
+    /**
+     * Test case for a bounded queue, expecting FIFO order and offers to fail once it is full.
+     */
+    @Test
+    public void testBoundedOrder() throws InterruptedException {
+        BlockingSpiderWebQueue<Integer> queue = new BlockingSpiderWebQueue<>(3, 2);
+        queue.put(1);
+        queue.put(2);
+        assertTrue(queue.offer(3));
+        assertFalse(queue.offer(4));
+        assertEquals(0, queue.remainingCapacity());
+        assertFalse(queue.offer(4, 10, TimeUnit.MILLISECONDS));
+
+        assertEquals(1, queue.take());
+        assertEquals(2, queue.poll());
+        assertEquals(3, queue.peek());
+        assertEquals(3, queue.poll(10, TimeUnit.MILLISECONDS));
+        assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+        assertThrows(NullPointerException.class, () -> queue.offer(null));
+    }
+
+    /**
+     * Test case for drainTo, expecting whole levels to be detached in order and the remaining
+     * elements to keep working as a queue.
+     */
+    @Test
+    public void testDrainTo() {
+        BlockingSpiderWebQueue<Integer> queue = new BlockingSpiderWebQueue<>(1000, 4);
+        for (int i = 0; i < 100; i++) {
+            queue.add(i);
+        }
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(37, queue.drainTo(drained, 37));
+        assertEquals(37, drained.size());
+        for (int i = 0; i < 37; i++) {
+            assertEquals(i, drained.get(i));
+        }
+        assertEquals(63, queue.size());
+        assertEquals(37, queue.peek());
+
+        queue.add(100);
+        assertTrue(queue.remove(50));
+        assertTrue(queue.contains(99));
+        assertFalse(queue.contains(50));
+
+        drained.clear();
+        assertEquals(63, queue.drainTo(drained));
+        assertEquals(37, drained.get(0));
+        assertEquals(100, drained.get(62));
+        assertTrue(queue.isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> queue.drainTo(queue));
+    }
+
+    /**
+     * Test case for a full queue, expecting a blocked producer to resume once drainTo frees space.
+     */
+    @Test
+    public void testPutWaitsForSpace() throws InterruptedException {
+        BlockingSpiderWebQueue<Integer> queue = new BlockingSpiderWebQueue<>(2);
+        queue.put(1);
+        queue.put(2);
+        Thread producer = new Thread(() -> {
+            try {
+                queue.put(3);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        producer.join(50);
+        assertTrue(producer.isAlive());
+
+        assertEquals(2, queue.drainTo(new ArrayList<>()));
+        producer.join(5000);
+        assertFalse(producer.isAlive());
+        assertEquals(3, queue.take());
+    }
+
+    /**
+     * Test case for a thousand consumers waiting on an empty queue, expecting each element to be
+     * taken exactly once.
+     */
+    @Test
+    public void testManyWaiters() throws InterruptedException {
+        BlockingSpiderWebQueue<Integer> queue = new BlockingSpiderWebQueue<>();
+        int consumers = 1000;
+        AtomicLong sum = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(consumers);
+        List<Thread> threads = new ArrayList<>();
+        for (int c = 0; c < consumers; c++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    sum.addAndGet(queue.take());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                done.countDown();
+            });
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+        for (int i = 1; i <= consumers; i++) {
+            queue.put(i);
+        }
+
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        assertEquals((long) consumers * (consumers + 1) / 2, sum.get());
+        assertTrue(queue.isEmpty());
+    }
+}
@@ -0,0 +1,64 @@
+import com.spiderweb.DurableSpiderWeb;
+import com.spiderweb.SpiderWebCodec;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of DurableSpiderWeb appends for different numbers of writers and group
+ * commit delays. Run it with {@code java -cp target/classes:target/test-classes DurableSpiderWebBenchmark}.
+ */
+public class DurableSpiderWebBenchmark {
+
+    private static final int OPERATIONS_PER_WRITER = 2000;
+    private static final int[] WRITERS = {1, 4, 16};
+    private static final long[] GROUP_COMMIT_MICROS = {0, 50, 200, 1000};
+
+    /**
+     * Runs every combination of writers and group commit delay and prints the appends per second.
+     *
+     * @param args Unused.
+     * @throws Exception If the log cannot be written or a writer is interrupted.
+     */
+    public static void main(String[] args) throws Exception {
+        Path directory = Files.createTempDirectory("spiderweb-wal");
+        System.out.printf("%8s %12s %14s%n", "writers", "delay (us)", "appends/s");
+        for (long delay : GROUP_COMMIT_MICROS) {
+            for (int writers : WRITERS) {
+                Path log = directory.resolve("bench-" + delay + "-" + writers + ".log");
+                double throughput = run(log, writers, TimeUnit.MICROSECONDS.toNanos(delay));
+                System.out.printf("%8d %12d %14.0f%n", writers, delay, throughput);
+                Files.delete(log);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    private static double run(Path log, int writers, long groupCommitNanos) throws Exception {
+        try (DurableSpiderWeb<Long> web = new DurableSpiderWeb<>(log, SpiderWebCodec.longs(), 64, groupCommitNanos)) {
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < writers; t++) {
+                threads.add(new Thread(() -> {
+                    try {
+                        for (long i = 0; i < OPERATIONS_PER_WRITER; i++) {
+                            web.add(i);
+                        }
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                }));
+            }
+            long start = System.nanoTime();
+            threads.forEach(Thread::start);
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            long elapsed = System.nanoTime() - start;
+            return (double) writers * OPERATIONS_PER_WRITER / elapsed * TimeUnit.SECONDS.toNanos(1);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+import com.spiderweb.DurableSpiderWeb;
+import com.spiderweb.SpiderWebCodec;
+import com.spiderweb.SpiderWebNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the DurableSpiderWeb class.
+ */
+public class DurableSpiderWebTest {
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Test case for rebuilding the SpiderWeb by replaying the log of every kind of mutation.
+     */
+    @Test
+    public void testReplay() throws IOException {
+        Path log = this.directory.resolve("web.log");
+        try (DurableSpiderWeb<String> web = new DurableSpiderWeb<>(log, SpiderWebCodec.strings(), 3, 0)) {
+            for (int i = 0; i < 10; i++) {
+                web.add("v" + i);
+            }
+            web.addFirst("first");
+            assertEquals("v3", web.set(1, 1, "set"));
+            assertEquals("first", web.removeFirst());
+            assertEquals("v9", web.removeLast());
+            assertThrows(IllegalArgumentException.class, () -> web.set(5, 0, "invalid"));
+        }
+
+        try (DurableSpiderWeb<String> web = new DurableSpiderWeb<>(log, SpiderWebCodec.strings(), 3, 0)) {
+            assertEquals(9, web.size());
+            assertEquals("v0", web.get(0, 0));
+            assertEquals("set", web.get(1, 0));
+            assertEquals("v8", web.get(2, 2));
+            web.clear();
+            web.add("after clear");
+        }
+
+        try (DurableSpiderWeb<String> web = new DurableSpiderWeb<>(log, SpiderWebCodec.strings())) {
+            assertEquals(1, web.size());
+            assertEquals("after clear", web.toSpiderWeb().get(0, 0));
+        }
+    }
+
+    /**
+     * Test case for cutting off a record torn by a crash and appending after the last intact record.
+     */
+    @Test
+    public void testTornRecordIsTruncated() throws IOException {
+        Path log = this.directory.resolve("torn.log");
+        try (DurableSpiderWeb<Integer> web = new DurableSpiderWeb<>(log, SpiderWebCodec.integers())) {
+            web.add(1);
+            web.add(2);
+        }
+        long intact = Files.size(log);
+        Files.write(log, new byte[]{0, 0, 0, 5, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        try (DurableSpiderWeb<Integer> web = new DurableSpiderWeb<>(log, SpiderWebCodec.integers())) {
+            assertEquals(2, web.size());
+            assertEquals(intact, Files.size(log));
+            web.add(3);
+        }
+        try (DurableSpiderWeb<Integer> web = new DurableSpiderWeb<>(log, SpiderWebCodec.integers())) {
+            assertEquals(3, web.size());
+            assertEquals(3, web.get(0, 2));
+        }
+    }
+
+    /**
+     * Test case for concurrent writers sharing group commits, expecting every element to survive a reopen.
+     */
+    @Test
+    public void testConcurrentWritersAreDurable() throws Exception {
+        Path log = this.directory.resolve("concurrent.log");
+        try (DurableSpiderWeb<Long> web = new DurableSpiderWeb<>(log, SpiderWebCodec.longs(), 16, 100_000)) {
+            List<Thread> writers = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                final long base = t * 1000L;
+                writers.add(new Thread(() -> {
+                    try {
+                        for (int i = 0; i < 200; i++) {
+                            web.add(base + i);
+                        }
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                }));
+            }
+            writers.forEach(Thread::start);
+            for (Thread writer : writers) {
+                writer.join();
+            }
+        }
+
+        try (DurableSpiderWeb<Long> web = new DurableSpiderWeb<>(log, SpiderWebCodec.longs(), 16, 0)) {
+            assertEquals(800, web.size());
+            Set<Long> values = new HashSet<>();
+            for (SpiderWebNode<Long> node = web.toSpiderWeb().getFirstNode(); node != null; node = node.getNextNode()) {
+                values.add(node.getValue());
+            }
+            assertEquals(800, values.size());
+        }
+    }
+
+    /**
+     * Test case for invalid arguments, removal from an empty SpiderWeb, a foreign file and use after close.
+     */
+    @Test
+    public void testInvalidUse() throws IOException {
+        Path log = this.directory.resolve("invalid.log");
+        assertThrows(IllegalArgumentException.class, () -> new DurableSpiderWeb<>(log, null));
+        assertThrows(IllegalArgumentException.class, () -> new DurableSpiderWeb<>(log, SpiderWebCodec.strings(), 0, 0));
+
+        DurableSpiderWeb<String> web = new DurableSpiderWeb<>(log, SpiderWebCodec.strings());
+        assertThrows(NoSuchElementException.class, web::removeFirst);
+        web.close();
+        assertThrows(IllegalStateException.class, () -> web.add("closed"));
+
+        Path foreign = this.directory.resolve("foreign.log");
+        Files.write(foreign, new byte[]{1, 2, 3, 4, 5});
+        assertThrows(IOException.class, () -> new DurableSpiderWeb<>(foreign, SpiderWebCodec.strings()));
+    }
+}
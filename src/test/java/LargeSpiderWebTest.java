@@ -0,0 +1,87 @@
+import com.spiderweb.LargeSpiderWeb;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the LargeSpiderWeb class.
+ */
+public class LargeSpiderWebTest {
+
+    /**
+     * Test case for adding elements across several chunks, expecting long levels and positions to address them.
+     */
+    @Test
+    public void testAddAndGetAcrossChunks() {
+        LargeSpiderWeb<Integer> spiderWeb = new LargeSpiderWeb<>(1);
+        int count = 3 * LargeSpiderWeb.CHUNK_SIZE + 17;
+        for (int i = 0; i < count; i++) {
+            spiderWeb.add(i);
+        }
+
+        assertEquals(count, spiderWeb.size());
+        assertEquals(count - 1L, spiderWeb.getLevel());
+        assertEquals(0, spiderWeb.getIndex());
+        assertEquals(LargeSpiderWeb.CHUNK_SIZE, spiderWeb.get(LargeSpiderWeb.CHUNK_SIZE, 0));
+        assertEquals(count - 1, spiderWeb.getLast());
+        assertEquals(5, spiderWeb.set(5L, 0, -5));
+        assertEquals(-5, spiderWeb.get(5L, 0));
+        assertThrows(IllegalArgumentException.class, () -> spiderWeb.get(count, 0));
+        assertThrows(IllegalArgumentException.class, () -> spiderWeb.get(0L, 1));
+    }
+
+    /**
+     * Test case for adding and removing at both ends across chunk boundaries, expecting the order to be kept.
+     */
+    @Test
+    public void testBothEnds() {
+        LargeSpiderWeb<Integer> spiderWeb = new LargeSpiderWeb<>(7);
+        for (int i = 0; i < LargeSpiderWeb.CHUNK_SIZE + 10; i++) {
+            spiderWeb.add(i);
+            spiderWeb.addFirst(-i - 1);
+        }
+
+        assertEquals(-LargeSpiderWeb.CHUNK_SIZE - 10, spiderWeb.getFirst());
+        for (int i = 0; i < LargeSpiderWeb.CHUNK_SIZE; i++) {
+            spiderWeb.removeFirst();
+            spiderWeb.removeLast();
+        }
+        assertEquals(20, spiderWeb.size());
+        assertEquals(-10, spiderWeb.get(0, 0));
+        assertEquals(9, spiderWeb.get(2, 5));
+
+        AtomicLong sum = new AtomicLong();
+        spiderWeb.forEach(sum::addAndGet);
+        assertEquals(-10, sum.get());
+
+        spiderWeb.clear();
+        assertTrue(spiderWeb.isEmpty());
+        assertEquals(-1, spiderWeb.getLevel());
+        assertThrows(NoSuchElementException.class, spiderWeb::removeFirst);
+        assertThrows(NoSuchElementException.class, spiderWeb::removeLast);
+    }
+
+    /**
+     * Test case for indexOf, lastIndexOf and contains, expecting long levels in the results.
+     */
+    @Test
+    public void testIndexOf() {
+        LargeSpiderWeb<String> spiderWeb = new LargeSpiderWeb<>(3);
+        for (int i = 0; i < LargeSpiderWeb.CHUNK_SIZE + 100; i++) {
+            spiderWeb.add(i % 1000 == 0 ? "mark" : null);
+        }
+
+        HashMap<String, Long> first = spiderWeb.indexOf("mark");
+        assertEquals(0L, first.get("level"));
+        assertEquals(0L, first.get("index"));
+        HashMap<String, Long> last = spiderWeb.lastIndexOf("mark");
+        assertEquals(65000L / 3, last.get("level"));
+        assertEquals(65000L % 3, last.get("index"));
+        assertTrue(spiderWeb.contains(null));
+        assertTrue(spiderWeb.indexOf("missing").isEmpty());
+    }
+}
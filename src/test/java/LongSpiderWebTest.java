@@ -0,0 +1,107 @@
+import com.spiderweb.LongSpiderWeb;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the LongSpiderWeb class.
+ */
+public class LongSpiderWebTest {
+
+    /**
+     * Test case for adding values at both ends and reading them back by level and index.
+     */
+    @Test
+    public void testAddAndGet() {
+        LongSpiderWeb spiderWeb = new LongSpiderWeb(4);
+        for (long i = 0; i < 10; i++) {
+            spiderWeb.add(i);
+        }
+        spiderWeb.addFirst(-1L);
+
+        assertEquals(11, spiderWeb.size());
+        assertEquals(2, spiderWeb.getLevel());
+        assertEquals(2, spiderWeb.getIndex());
+        assertEquals(-1L, spiderWeb.get(0, 0));
+        assertEquals(3L, spiderWeb.get(1, 0));
+        assertEquals(9L, spiderWeb.get(2, 2));
+        assertEquals(3L, spiderWeb.set(1, 0, 30L));
+        assertEquals(30L, spiderWeb.get(1, 0));
+        assertThrows(IllegalArgumentException.class, () -> spiderWeb.get(2, 3));
+    }
+
+    /**
+     * Test case for removing from an empty LongSpiderWeb, expecting NoSuchElementException.
+     */
+    @Test
+    public void testRemoveFromEmpty() {
+        LongSpiderWeb spiderWeb = new LongSpiderWeb();
+        assertThrows(NoSuchElementException.class, spiderWeb::removeFirst);
+        assertThrows(NoSuchElementException.class, spiderWeb::removeLast);
+    }
+
+    /**
+     * Test case for indexOf, lastIndexOf, count and contains across level boundaries.
+     */
+    @Test
+    public void testSearch() {
+        LongSpiderWeb spiderWeb = new LongSpiderWeb(32);
+        for (long i = 0; i < 1000; i++) {
+            spiderWeb.add(i % 100);
+        }
+        spiderWeb.removeFirst();
+
+        HashMap<String, Integer> first = spiderWeb.indexOf(0L);
+        assertEquals(99 / 32, first.get("level"));
+        assertEquals(99 % 32, first.get("index"));
+        HashMap<String, Integer> last = spiderWeb.lastIndexOf(42L);
+        assertEquals(941 / 32, last.get("level"));
+        assertEquals(941 % 32, last.get("index"));
+        assertEquals(9, spiderWeb.count(0L));
+        assertEquals(10, spiderWeb.count(99L));
+        assertTrue(spiderWeb.contains(57L));
+        assertFalse(spiderWeb.contains(100L));
+        assertTrue(spiderWeb.indexOf(-5L).isEmpty());
+    }
+
+    /**
+     * Test case for searches matching a list after random mutations at both ends.
+     */
+    @Test
+    public void testSearchAfterRandomMutations() {
+        LongSpiderWeb spiderWeb = new LongSpiderWeb(13);
+        List<Long> expected = new ArrayList<>();
+        Random random = new Random(5);
+
+        for (int step = 0; step < 3000; step++) {
+            long value = random.nextInt(20);
+            int operation = random.nextInt(5);
+            if (operation <= 1 || expected.isEmpty()) {
+                spiderWeb.add(value);
+                expected.add(value);
+            } else if (operation == 2) {
+                spiderWeb.addFirst(value);
+                expected.add(0, value);
+            } else if (operation == 3) {
+                assertEquals(expected.remove(0), spiderWeb.removeFirst());
+            } else {
+                assertEquals(expected.remove(expected.size() - 1), spiderWeb.removeLast());
+            }
+
+            long key = random.nextInt(20);
+            int position = expected.indexOf(key);
+            HashMap<String, Integer> found = spiderWeb.indexOf(key);
+            assertEquals(position < 0 ? null : position / 13, found.get("level"));
+            int lastPosition = expected.lastIndexOf(key);
+            HashMap<String, Integer> lastFound = spiderWeb.lastIndexOf(key);
+            assertEquals(lastPosition < 0 ? null : lastPosition % 13, lastFound.get("index"));
+            assertEquals(expected.stream().filter(v -> v == key).count(), spiderWeb.count(key));
+        }
+    }
+}
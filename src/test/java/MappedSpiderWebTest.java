@@ -0,0 +1,138 @@
+import com.spiderweb.MappedSpiderWeb;
+import com.spiderweb.SpiderWebCodec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the MappedSpiderWeb class.
+ */
+public class MappedSpiderWebTest {
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Test case for reopening a MappedSpiderWeb, expecting every element to be read back from the file.
+     */
+    @Test
+    public void testReopen() throws IOException {
+        Path file = this.directory.resolve("ticks.web");
+        try (MappedSpiderWeb<Long> web = new MappedSpiderWeb<>(file, Long.BYTES, SpiderWebCodec.longs(), 100)) {
+            for (long i = 0; i < 250_000; i++) {
+                web.add(i * 2);
+            }
+            assertEquals(10L, web.set(0, 5, -10L));
+        }
+
+        try (MappedSpiderWeb<Long> web = new MappedSpiderWeb<>(file, Long.BYTES, SpiderWebCodec.longs(), 100)) {
+            assertEquals(250_000, web.size());
+            assertEquals(2499, web.getLevel());
+            assertEquals(99, web.getIndex());
+            assertEquals(-10L, web.get(0, 5));
+            assertEquals(2L * 123_456, web.get(1234, 56));
+            assertEquals(499_998L, web.get(2499, 99));
+            assertThrows(IllegalArgumentException.class, () -> web.get(2500, 0));
+        }
+    }
+
+    /**
+     * Test case for removing at both ends across directory growth, expecting the removals to persist.
+     */
+    @Test
+    public void testRemoveAtBothEnds() throws IOException {
+        Path file = this.directory.resolve("words.web");
+        try (MappedSpiderWeb<String> web = new MappedSpiderWeb<>(file, 12, SpiderWebCodec.strings(), 2)) {
+            for (int i = 0; i < 1000; i++) {
+                web.add("w" + i);
+                if (i % 3 == 0) {
+                    assertEquals("w" + (i / 3), web.removeFirst());
+                }
+            }
+            assertEquals("w999", web.removeLast());
+            assertEquals("w998", web.removeLast());
+            web.add("last");
+        }
+
+        try (MappedSpiderWeb<String> web = new MappedSpiderWeb<>(file, 12, SpiderWebCodec.strings(), 2)) {
+            List<String> values = new ArrayList<>();
+            web.forEach(values::add);
+            assertEquals(665, values.size());
+            assertEquals("w334", values.get(0));
+            assertEquals("w997", values.get(663));
+            assertEquals("last", web.get(332, 0));
+
+            HashMap<String, Long> found = web.indexOf("w335");
+            assertEquals(0L, found.get("level"));
+            assertEquals(1L, found.get("index"));
+
+            web.clear();
+            assertTrue(web.isEmpty());
+            assertThrows(NoSuchElementException.class, web::removeLast);
+        }
+    }
+
+    /**
+     * Test case for opening a file of another layout or a closed MappedSpiderWeb, expecting errors.
+     */
+    @Test
+    public void testInvalidUse() throws IOException {
+        Path file = this.directory.resolve("ints.web");
+        MappedSpiderWeb<Integer> web = new MappedSpiderWeb<>(file, Integer.BYTES, SpiderWebCodec.integers(), 8);
+        web.add(1);
+        web.close();
+        assertThrows(IllegalStateException.class, () -> web.get(0, 0));
+
+        assertThrows(IOException.class, () -> new MappedSpiderWeb<>(file, Integer.BYTES, SpiderWebCodec.integers(), 16));
+        Path other = this.directory.resolve("other.web");
+        Files.write(other, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+        assertThrows(IOException.class, () -> new MappedSpiderWeb<>(other, Integer.BYTES, SpiderWebCodec.integers(), 8));
+    }
+
+    /**
+     * Test case for a MappedSpiderWeb used as a bounded queue, expecting freed levels to be reused and clear to reclaim the file.
+     */
+    @Test
+    public void testBoundedQueueReusesLevels() throws IOException {
+        Path file = this.directory.resolve("fifo.web");
+        long initial;
+        try (MappedSpiderWeb<Long> web = new MappedSpiderWeb<>(file, Long.BYTES, SpiderWebCodec.longs(), 4)) {
+            initial = web.getAllocatedBytes();
+            for (long i = 0; i < 40; i++) {
+                web.add(i);
+            }
+            long filled = web.getAllocatedBytes();
+            for (long i = 40; i < 200_000; i++) {
+                web.add(i);
+                assertEquals(i - 40, web.removeFirst());
+            }
+            assertTrue(web.getAllocatedBytes() <= filled + 2 * 4 * Long.BYTES, "Allocated: " + web.getAllocatedBytes());
+            assertEquals(199_960L, web.get(0, 0));
+        }
+
+        try (MappedSpiderWeb<Long> web = new MappedSpiderWeb<>(file, Long.BYTES, SpiderWebCodec.longs(), 4)) {
+            assertEquals(40, web.size());
+            assertEquals(199_999L, web.get(9, 3));
+            for (int i = 0; i < 30; i++) {
+                web.removeLast();
+            }
+            web.add(-1L);
+            assertEquals(-1L, web.get(2, 2));
+            for (long i = 0; i < 1000; i++) {
+                web.add(i);
+            }
+            assertTrue(web.getAllocatedBytes() > initial + 1000 * Long.BYTES);
+            web.clear();
+            assertEquals(initial, web.getAllocatedBytes());
+        }
+    }
+}
@@ -0,0 +1,128 @@
+import com.spiderweb.LongSpiderWeb;
+import com.spiderweb.NumericLevelCodec;
+import com.spiderweb.SpiderWeb;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the NumericLevelCodec class.
+ */
+public class NumericLevelCodecTest {
+
+    private static byte[] write(LongSpiderWeb web, boolean bitPack) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        NumericLevelCodec.write(web, out, bitPack);
+        return out.toByteArray();
+    }
+
+    /**
+     * Test case for round-tripping close timestamps, expecting both encodings to shrink them several-fold.
+     */
+    @Test
+    public void testTimestampsRoundTrip() throws IOException {
+        LongSpiderWeb timestamps = new LongSpiderWeb(64);
+        long time = 1_700_000_000_000L;
+        for (int i = 0; i < 1000; i++) {
+            time += 5 + (i * 7919) % 40;
+            timestamps.add(time);
+        }
+        for (boolean bitPack : new boolean[]{false, true}) {
+            byte[] bytes = write(timestamps, bitPack);
+            assertTrue(bytes.length * 4 < timestamps.size() * Long.BYTES, "Encoded size: " + bytes.length);
+
+            LongSpiderWeb restored = NumericLevelCodec.readLongSpiderWeb(new ByteArrayInputStream(bytes));
+            assertEquals(64, restored.getMaxElementPerLevel());
+            assertEquals(timestamps.size(), restored.size());
+            for (int position = 0; position < timestamps.size(); position++) {
+                assertEquals(timestamps.get(position / 64, position % 64), restored.get(position / 64, position % 64));
+            }
+        }
+        assertTrue(write(timestamps, true).length < write(timestamps, false).length);
+    }
+
+    /**
+     * Test case for extreme and alternating values, whose differences overflow a long.
+     */
+    @Test
+    public void testExtremeValues() throws IOException {
+        LongSpiderWeb web = new LongSpiderWeb(5);
+        long[] values = {Long.MIN_VALUE, Long.MAX_VALUE, 0, -1, 1, Long.MAX_VALUE, Long.MIN_VALUE, 42, -42};
+        for (long value : values) {
+            web.add(value);
+        }
+        web.addFirst(7);
+        web.removeFirst();
+        for (boolean bitPack : new boolean[]{false, true}) {
+            List<Long> restored = new ArrayList<>();
+            int width = NumericLevelCodec.forEachLevel(new ByteArrayInputStream(write(web, bitPack)), level -> {
+                assertTrue(level.length <= 5);
+                for (long value : level) {
+                    restored.add(value);
+                }
+            });
+            assertEquals(5, width);
+            assertEquals(values.length, restored.size());
+            for (int i = 0; i < values.length; i++) {
+                assertEquals(values[i], restored.get(i));
+            }
+        }
+    }
+
+    /**
+     * Test case for writing a SpiderWeb of integers and reading it back as a SpiderWeb of longs.
+     */
+    @Test
+    public void testSpiderWebRoundTrip() throws IOException {
+        SpiderWeb<Integer> web = new SpiderWeb<>(6);
+        for (int i = 0; i < 100; i++) {
+            web.add(i * 3 - 50);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        NumericLevelCodec.write(web, out, true);
+
+        SpiderWeb<Long> restored = NumericLevelCodec.readSpiderWeb(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(100, restored.size());
+        assertEquals(6, restored.getMaxElementPerLevel());
+        assertEquals(-50L, restored.get(0, 0));
+        assertEquals(247L, restored.get(16, 3));
+
+        ByteArrayOutputStream empty = new ByteArrayOutputStream();
+        NumericLevelCodec.write(new SpiderWeb<Integer>(), empty, false);
+        assertEquals(0, NumericLevelCodec.readSpiderWeb(new ByteArrayInputStream(empty.toByteArray())).size());
+        SpiderWeb<Integer> withNull = new SpiderWeb<>(6);
+        withNull.add(1);
+        withNull.add((Integer) null);
+        ByteArrayOutputStream rejected = new ByteArrayOutputStream();
+        assertThrows(IllegalArgumentException.class, () -> NumericLevelCodec.write(withNull, rejected, true));
+        SpiderWeb<Double> doubles = new SpiderWeb<>(6);
+        doubles.add(1.5);
+        assertThrows(IllegalArgumentException.class, () -> NumericLevelCodec.write(doubles, rejected, false));
+        assertEquals(0, rejected.size());
+    }
+
+    /**
+     * Test case for rejecting foreign and truncated data and null arguments.
+     */
+    @Test
+    public void testInvalidInput() throws IOException {
+        LongSpiderWeb web = new LongSpiderWeb(4);
+        for (int i = 0; i < 10; i++) {
+            web.add(i * 1000L);
+        }
+        byte[] bytes = write(web, true);
+        byte[] truncated = new byte[bytes.length - 2];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+
+        assertThrows(IOException.class, () -> NumericLevelCodec.readLongSpiderWeb(new ByteArrayInputStream(truncated)));
+        assertThrows(IOException.class, () -> NumericLevelCodec.readLongSpiderWeb(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 0})));
+        assertThrows(IllegalArgumentException.class, () -> NumericLevelCodec.write((LongSpiderWeb) null, new ByteArrayOutputStream(), true));
+        assertThrows(IllegalArgumentException.class, () -> NumericLevelCodec.forEachLevel(new ByteArrayInputStream(bytes), null));
+    }
+}
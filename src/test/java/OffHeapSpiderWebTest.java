@@ -0,0 +1,94 @@
+import com.spiderweb.OffHeapSpiderWeb;
+import com.spiderweb.SpiderWebCodec;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the OffHeapSpiderWeb class.
+ */
+public class OffHeapSpiderWebTest {
+
+    /**
+     * Test case for adding records across several chunks and reading them back by level and index.
+     */
+    @Test
+    public void testAddAndGet() {
+        try (OffHeapSpiderWeb<Long> spiderWeb = new OffHeapSpiderWeb<>(Long.BYTES, SpiderWebCodec.longs(), 100)) {
+            for (long i = 0; i < 300_000; i++) {
+                spiderWeb.add(i * 3);
+            }
+            spiderWeb.addFirst(-1L);
+
+            assertEquals(300_001, spiderWeb.size());
+            assertEquals(3000, spiderWeb.getLevel());
+            assertEquals(0, spiderWeb.getIndex());
+            assertEquals(-1L, spiderWeb.get(0, 0));
+            assertEquals(3L * 1234_56, spiderWeb.get(1234, 57));
+            assertEquals(3L * 299_999, spiderWeb.getLast());
+            assertEquals(3L, spiderWeb.set(0, 2, 7L));
+            assertEquals(7L, spiderWeb.get(0, 2));
+            assertTrue(spiderWeb.getAllocatedBytes() >= 300_001L * Long.BYTES);
+            assertThrows(IllegalArgumentException.class, () -> spiderWeb.get(3000, 1));
+        }
+    }
+
+    /**
+     * Test case for removing records at both ends, expecting emptied chunks to be released.
+     */
+    @Test
+    public void testRemoveReleasesChunks() {
+        OffHeapSpiderWeb<Integer> spiderWeb = new OffHeapSpiderWeb<>(Integer.BYTES, SpiderWebCodec.integers(), 64);
+        for (int i = 0; i < 1_000_000; i++) {
+            spiderWeb.add(i);
+        }
+        long allocated = spiderWeb.getAllocatedBytes();
+        for (int i = 0; i < 400_000; i++) {
+            assertEquals(i, spiderWeb.removeFirst());
+            assertEquals(999_999 - i, spiderWeb.removeLast());
+        }
+
+        assertEquals(200_000, spiderWeb.size());
+        assertTrue(spiderWeb.getAllocatedBytes() <= allocated / 2);
+        assertEquals(400_000, spiderWeb.getFirst());
+
+        List<Integer> values = new ArrayList<>();
+        spiderWeb.clear();
+        spiderWeb.forEach(values::add);
+        assertTrue(values.isEmpty());
+        assertEquals(0, spiderWeb.getAllocatedBytes());
+        assertThrows(NoSuchElementException.class, spiderWeb::removeFirst);
+        spiderWeb.close();
+        assertThrows(IllegalStateException.class, () -> spiderWeb.add(1));
+    }
+
+    /**
+     * Test case for variable-length encodings, expecting them to be padded to the record size and rejected beyond it.
+     */
+    @Test
+    public void testRecordSize() {
+        try (OffHeapSpiderWeb<String> spiderWeb = new OffHeapSpiderWeb<>(16, SpiderWebCodec.strings(), 4)) {
+            spiderWeb.add("alpha");
+            spiderWeb.add("be");
+            spiderWeb.add("");
+            spiderWeb.add("fourteen chars");
+
+            assertEquals("be", spiderWeb.get(0, 1));
+            assertEquals("", spiderWeb.get(0, 2));
+            assertEquals("fourteen chars", spiderWeb.get(0, 3));
+            assertThrows(IllegalArgumentException.class, () -> spiderWeb.add("fifteen chars!!"));
+            assertThrows(IllegalArgumentException.class, () -> spiderWeb.add(null));
+            assertEquals(4, spiderWeb.size());
+
+            HashMap<String, Long> found = spiderWeb.indexOf("be");
+            assertEquals(0L, found.get("level"));
+            assertEquals(1L, found.get("index"));
+            assertFalse(spiderWeb.contains("b"));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+import com.spiderweb.ReferenceSpiderWeb;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the ReferenceSpiderWeb class.
+ */
+public class ReferenceSpiderWebTest {
+
+    /**
+     * Test case for weakly held elements, expecting cleared ones to be reclaimed and the rest to keep their order.
+     */
+    @Test
+    public void testWeakElementsReclaimed() throws InterruptedException {
+        ReferenceSpiderWeb<Object> spiderWeb = new ReferenceSpiderWeb<>(ReferenceSpiderWeb.Strength.WEAK, 4);
+        List<Object> kept = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Object value = new StringBuilder("v" + i);
+            if (i % 10 == 0) {
+                kept.add(value);
+            }
+            spiderWeb.add(value);
+        }
+
+        for (int attempt = 0; attempt < 50 && spiderWeb.size() > kept.size(); attempt++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertEquals(kept.size(), spiderWeb.size());
+        assertEquals(90, spiderWeb.getReclaimedCount());
+        assertEquals(2, spiderWeb.getLevel());
+        assertEquals(1, spiderWeb.getIndex());
+        assertSame(kept.get(5), spiderWeb.get(1, 1));
+        List<Object> values = new ArrayList<>();
+        spiderWeb.forEach(values::add);
+        assertEquals(kept, values);
+    }
+
+    /**
+     * Test case for softly held elements that are strongly reachable elsewhere, expecting them to behave like a SpiderWeb.
+     */
+    @Test
+    public void testSoftElements() {
+        ReferenceSpiderWeb<String> spiderWeb = new ReferenceSpiderWeb<>(ReferenceSpiderWeb.Strength.SOFT, 3);
+        for (int i = 0; i < 7; i++) {
+            spiderWeb.add("s" + i);
+        }
+        spiderWeb.addFirst("first");
+
+        assertEquals(ReferenceSpiderWeb.Strength.SOFT, spiderWeb.getStrength());
+        assertEquals(8, spiderWeb.size());
+        assertEquals("s2", spiderWeb.get(1, 0));
+        assertEquals("s2", spiderWeb.set(1, 0, "set"));
+        assertEquals("first", spiderWeb.removeFirst());
+        assertEquals("s6", spiderWeb.removeLast());
+        assertEquals(0, spiderWeb.compact());
+        assertThrows(IllegalArgumentException.class, () -> spiderWeb.add(null));
+
+        spiderWeb.clear();
+        assertEquals(0, spiderWeb.size());
+        assertEquals(-1, spiderWeb.getLevel());
+    }
+
+    /**
+     * Test case for compact, expecting elements cleared but not yet reported to be reclaimed at once.
+     */
+    @Test
+    public void testCompact() throws InterruptedException {
+        ReferenceSpiderWeb<Object> spiderWeb = new ReferenceSpiderWeb<>(ReferenceSpiderWeb.Strength.WEAK, 2);
+        Object kept = new Object();
+        spiderWeb.add(new Object());
+        spiderWeb.add(kept);
+        spiderWeb.add(new Object());
+
+        int reclaimed = 0;
+        for (int attempt = 0; attempt < 50 && reclaimed < 2; attempt++) {
+            System.gc();
+            Thread.sleep(10);
+            reclaimed += spiderWeb.compact();
+        }
+
+        assertEquals(2, reclaimed);
+        assertSame(kept, spiderWeb.get(0, 0));
+        assertEquals(1, spiderWeb.size());
+    }
+}
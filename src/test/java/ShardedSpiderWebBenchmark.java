@@ -0,0 +1,53 @@
+import com.spiderweb.ShardedSpiderWeb;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the add throughput of ShardedSpiderWeb for different numbers of shards, with as many
+ * writing threads as available processors. Run it with
+ * {@code java -cp target/classes:target/test-classes ShardedSpiderWebBenchmark}.
+ */
+public class ShardedSpiderWebBenchmark {
+
+    private static final int ADDS_PER_WRITER = 1_000_000;
+    private static final int ROUNDS = 3;
+
+    /**
+     * Runs every shard count and prints the best adds per second of several rounds.
+     *
+     * @param args Unused.
+     * @throws InterruptedException If a writer is interrupted.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int writers = Math.max(2, Runtime.getRuntime().availableProcessors());
+        System.out.printf("%8s %8s %14s%n", "writers", "shards", "adds/s");
+        for (int shards = 1; shards <= writers * 2; shards *= 2) {
+            double best = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                best = Math.max(best, run(writers, shards));
+            }
+            System.out.printf("%8d %8d %14.0f%n", writers, shards, best);
+        }
+    }
+
+    private static double run(int writers, int shards) throws InterruptedException {
+        ShardedSpiderWeb<Integer> web = new ShardedSpiderWeb<>(shards);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < writers; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < ADDS_PER_WRITER; i++) {
+                    web.add(i);
+                }
+            }));
+        }
+        long start = System.nanoTime();
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - start;
+        return (double) writers * ADDS_PER_WRITER / elapsed * TimeUnit.SECONDS.toNanos(1);
+    }
+}
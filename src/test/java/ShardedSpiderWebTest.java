@@ -0,0 +1,103 @@
+import com.spiderweb.ShardedSpiderWeb;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the ShardedSpiderWeb class.
+ */
+public class ShardedSpiderWebTest {
+
+    /**
+     * Test case for concurrent writers, expecting every element to be stored exactly once.
+     */
+    @Test
+    public void testConcurrentAdds() throws InterruptedException {
+        ShardedSpiderWeb<Integer> web = new ShardedSpiderWeb<>(4, 8);
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            final int base = t * 10_000;
+            writers.add(new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    web.add(base + i);
+                }
+            }));
+        }
+        writers.forEach(Thread::start);
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        assertEquals(80_000, web.size());
+        Set<Integer> seen = new HashSet<>();
+        web.forEach(seen::add);
+        assertEquals(80_000, seen.size());
+        int perShard = 0;
+        for (int shard = 0; shard < web.getShardCount(); shard++) {
+            perShard += web.size(shard);
+        }
+        assertEquals(80_000, perShard);
+    }
+
+    /**
+     * Test case for addressing elements by shard, level and index, and for the global order of searches.
+     */
+    @Test
+    public void testAddressingAndSearch() {
+        ShardedSpiderWeb<String> web = new ShardedSpiderWeb<>(3, 2);
+        List<Integer> shards = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            shards.add(web.add("v" + i));
+        }
+        int shard = shards.get(0);
+        assertEquals(List.of(shard, shard, shard, shard, shard), shards);
+        assertEquals("v3", web.get(shard, 1, 1));
+
+        HashMap<String, Integer> found = web.parallelIndexOf("v4");
+        assertEquals(shard, found.get("shard"));
+        assertEquals(2, found.get("level"));
+        assertEquals(0, found.get("index"));
+        assertEquals(found, web.indexOf("v4"));
+        assertTrue(web.parallelIndexOf("missing").isEmpty());
+        assertEquals(0, web.parallelIndexOf(v -> v.startsWith("v")).get("level"));
+
+        web.clear();
+        assertEquals(0, web.size());
+        assertThrows(IllegalArgumentException.class, () -> web.get(3, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ShardedSpiderWeb<>(0));
+    }
+
+    /**
+     * Test case for a parallel search returning the match of the earliest shard when several shards match.
+     */
+    @Test
+    public void testParallelIndexOfPrefersEarlierShard() throws InterruptedException {
+        ShardedSpiderWeb<Integer> web = new ShardedSpiderWeb<>(4);
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < 16; t++) {
+            writers.add(new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    web.add(i % 10);
+                }
+            }));
+        }
+        writers.forEach(Thread::start);
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        int firstShard = 0;
+        while (web.size(firstShard) == 0) {
+            firstShard++;
+        }
+        HashMap<String, Integer> found = web.parallelIndexOf(7);
+        assertEquals(firstShard, found.get("shard"));
+        assertEquals(7, web.get(firstShard, found.get("level"), found.get("index")));
+    }
+}
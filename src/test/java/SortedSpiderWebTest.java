@@ -0,0 +1,227 @@
+import com.spiderweb.SortedSpiderWeb;
+import com.spiderweb.SpiderWebNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.DoubleSummaryStatistics;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the SortedSpiderWeb class.
+ */
+public class SortedSpiderWebTest {
+
+    /**
+     * Test case for adding elements in random order, expecting them to be stored in ascending order.
+     */
+    @Test
+    public void testAddKeepsElementsSorted() {
+        SortedSpiderWeb<Integer> spiderWeb = new SortedSpiderWeb<>(3);
+        spiderWeb.add(5);
+        spiderWeb.add(1);
+        spiderWeb.add(9);
+        spiderWeb.add(3);
+        spiderWeb.add(7);
+
+        assertEquals(5, spiderWeb.size());
+        assertEquals(1, spiderWeb.getFirst());
+        assertEquals(9, spiderWeb.getLast());
+        assertEquals(3, spiderWeb.get(0, 1));
+        assertEquals(7, spiderWeb.get(1, 0));
+    }
+
+    /**
+     * Test case for ordering the elements with a custom comparator.
+     */
+    @Test
+    public void testAddWithComparator() {
+        SortedSpiderWeb<String> spiderWeb = new SortedSpiderWeb<>(Comparator.reverseOrder());
+        spiderWeb.add("B");
+        spiderWeb.add("C");
+        spiderWeb.add("A");
+
+        assertEquals("C", spiderWeb.getFirst());
+        assertEquals("A", spiderWeb.getLast());
+        assertNotNull(spiderWeb.comparator());
+    }
+
+    /**
+     * Test case for the ceiling, floor, higher and lower queries.
+     */
+    @Test
+    public void testNavigationQueries() {
+        SortedSpiderWeb<Integer> spiderWeb = new SortedSpiderWeb<>(2);
+        for (int value : new int[]{40, 10, 30, 20, 50}) {
+            spiderWeb.add(value);
+        }
+
+        assertEquals(30, spiderWeb.ceiling(25));
+        assertEquals(30, spiderWeb.ceiling(30));
+        assertNull(spiderWeb.ceiling(51));
+        assertEquals(20, spiderWeb.floor(25));
+        assertEquals(30, spiderWeb.floor(30));
+        assertNull(spiderWeb.floor(9));
+        assertEquals(40, spiderWeb.higher(30));
+        assertEquals(20, spiderWeb.lower(30));
+        assertNull(spiderWeb.lower(10));
+    }
+
+    /**
+     * Test case for the rank and contains queries.
+     */
+    @Test
+    public void testRankAndContains() {
+        SortedSpiderWeb<Integer> spiderWeb = new SortedSpiderWeb<>(2);
+        for (int value : new int[]{5, 3, 3, 8, 1}) {
+            spiderWeb.add(value);
+        }
+
+        assertEquals(0, spiderWeb.rank(1));
+        assertEquals(1, spiderWeb.rank(3));
+        assertEquals(3, spiderWeb.rank(4));
+        assertEquals(5, spiderWeb.rank(100));
+        assertTrue(spiderWeb.contains(8));
+        assertFalse(spiderWeb.contains(4));
+    }
+
+    /**
+     * Test case for searching the first and last occurrence of an element.
+     */
+    @Test
+    public void testIndexOfAndLastIndexOf() {
+        SortedSpiderWeb<Integer> spiderWeb = new SortedSpiderWeb<>(2);
+        for (int value : new int[]{5, 3, 3, 8, 1}) {
+            spiderWeb.add(value);
+        }
+
+        HashMap<String, Integer> first = spiderWeb.indexOf(3);
+        HashMap<String, Integer> last = spiderWeb.lastIndexOf(3);
+
+        assertEquals(0, first.get("level"));
+        assertEquals(1, first.get("index"));
+        assertEquals(1, last.get("level"));
+        assertEquals(0, last.get("index"));
+        assertTrue(spiderWeb.indexOf(4).isEmpty());
+    }
+
+    /**
+     * Test case for the constructors without a level width, expecting an adaptive width near the square root of the size.
+     */
+    @Test
+    public void testDefaultLevelWidthIsAdaptive() {
+        SortedSpiderWeb<Integer> spiderWeb = new SortedSpiderWeb<>();
+        Random random = new Random(11);
+        for (int i = 0; i < 10_000; i++) {
+            spiderWeb.add(random.nextInt(100_000));
+        }
+
+        assertTrue(spiderWeb.isAdaptiveLevelWidth());
+        assertTrue(new SortedSpiderWeb<Integer>(Comparator.reverseOrder()).isAdaptiveLevelWidth());
+        assertFalse(new SortedSpiderWeb<Integer>(6).isAdaptiveLevelWidth());
+        int width = spiderWeb.getMaxElementPerLevel();
+        assertTrue(width >= 25 && width <= 400, "Level width: " + width);
+        Integer previous = null;
+        for (SpiderWebNode<Integer> node = spiderWeb.getFirstNode(); node != null; node = node.getNextNode()) {
+            assertTrue(previous == null || previous <= node.getValue());
+            previous = node.getValue();
+        }
+    }
+
+    /**
+     * Test case for operations that would break the sort order, expecting an {@code UnsupportedOperationException}.
+     */
+    @Test
+    public void testUnsupportedOperations() {
+        SortedSpiderWeb<Integer> spiderWeb = new SortedSpiderWeb<>();
+        spiderWeb.add(1);
+
+        assertThrows(UnsupportedOperationException.class, () -> spiderWeb.addFirst(0));
+        assertThrows(UnsupportedOperationException.class, () -> spiderWeb.addFirst(new SpiderWebNode<>(0, null, null)));
+        assertThrows(UnsupportedOperationException.class, () -> spiderWeb.set(0, 0, 2));
+    }
+
+    /**
+     * Test case for keeping level links, positions and aggregates consistent over random insertions and removals.
+     */
+    @Test
+    public void testLevelLinksAfterRandomInsertions() {
+        SortedSpiderWeb<Integer> spiderWeb = new SortedSpiderWeb<>(4);
+        spiderWeb.enableAggregates(Integer::doubleValue);
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(7);
+
+        for (int step = 0; step < 2000; step++) {
+            int operation = random.nextInt(5);
+            if (operation <= 2 || expected.isEmpty()) {
+                int value = random.nextInt(500);
+                spiderWeb.add(value);
+                expected.add(value);
+                Collections.sort(expected);
+            } else if (operation == 3) {
+                assertEquals(expected.remove(0), spiderWeb.removeFirst());
+            } else {
+                assertEquals(expected.remove(expected.size() - 1), spiderWeb.removeLast());
+            }
+
+            int position = 0;
+            for (SpiderWebNode<Integer> node = spiderWeb.getFirstNode(); node != null; node = node.getNextNode()) {
+                assertEquals(expected.get(position), node.getValue());
+                Integer nextLevel = position + 4 < expected.size() ? expected.get(position + 4) : null;
+                assertEquals(nextLevel, node.getNextLevelNode() == null ? null : node.getNextLevelNode().getValue());
+                position++;
+            }
+            if (!expected.isEmpty()) {
+                int probe = random.nextInt(expected.size());
+                assertEquals(expected.get(probe), spiderWeb.get(probe / 4, probe % 4));
+                DoubleSummaryStatistics statistics = spiderWeb.aggregate();
+                assertEquals(expected.size(), statistics.getCount());
+                assertEquals(expected.get(0), (int) statistics.getMin());
+            }
+        }
+    }
+
+    /**
+     * Test case for sorted insertions, searches and aggregates while an adaptive SortedSpiderWeb re-levels.
+     */
+    @Test
+    public void testAdaptiveLevelWidthAfterRandomInsertions() {
+        SortedSpiderWeb<Integer> spiderWeb = new SortedSpiderWeb<>(2);
+        spiderWeb.enableAdaptiveLevelWidth();
+        spiderWeb.enableAggregates(Integer::doubleValue);
+        spiderWeb.enableLevelDirectory();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(11);
+
+        for (int step = 0; step < 4000; step++) {
+            int operation = random.nextInt(step < 2500 ? 6 : 9);
+            if (operation <= 3 || expected.isEmpty()) {
+                int value = random.nextInt(5000);
+                spiderWeb.add(value);
+                expected.add(value);
+                Collections.sort(expected);
+            } else if (operation <= 5) {
+                assertEquals(expected.remove(0), spiderWeb.removeFirst());
+            } else {
+                assertEquals(expected.remove(expected.size() - 1), spiderWeb.removeLast());
+            }
+
+            if (!expected.isEmpty()) {
+                int width = spiderWeb.getMaxElementPerLevel();
+                int probe = random.nextInt(expected.size());
+                assertEquals(expected.get(probe), spiderWeb.get(probe / width, probe % width));
+                assertTrue(spiderWeb.contains(expected.get(probe)));
+                assertEquals(expected.indexOf(expected.get(probe)), spiderWeb.rank(expected.get(probe)));
+                DoubleSummaryStatistics statistics = spiderWeb.aggregate();
+                assertEquals(expected.size(), statistics.getCount());
+                assertEquals(expected.get(expected.size() - 1), (int) statistics.getMax());
+            }
+        }
+        assertTrue(spiderWeb.getMaxElementPerLevel() > 2);
+    }
+}
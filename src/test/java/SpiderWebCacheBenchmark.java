@@ -0,0 +1,123 @@
+import com.spiderweb.SpiderWebCache;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * Compares the throughput of SpiderWebCache under both policies with an LRU cache built on an
+ * access-ordered {@link LinkedHashMap}, for one thread and for as many threads as available
+ * processors. Keys are drawn from a range twice the capacity, nine lookups to every insertion, and
+ * the LinkedHashMap cache is guarded by a single lock. Run it with
+ * {@code java -cp target/classes:target/test-classes SpiderWebCacheBenchmark}.
+ */
+public class SpiderWebCacheBenchmark {
+
+    private static final int CAPACITY_LEVELS = 1024;
+    private static final int ELEMENTS_PER_LEVEL = 64;
+    private static final int OPERATIONS_PER_THREAD = 2_000_000;
+    private static final int ROUNDS = 3;
+
+    /**
+     * Runs every cache for each thread count and prints the best operations per second of several rounds.
+     *
+     * @param args Unused.
+     * @throws InterruptedException If a worker is interrupted.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int processors = Math.max(2, Runtime.getRuntime().availableProcessors());
+        System.out.printf("%14s %8s %14s%n", "cache", "threads", "ops/s");
+        for (int threads : new int[]{1, processors}) {
+            print("LinkedHashMap", threads, capacity -> new LinkedHashMapCache(capacity));
+            print("LRU", threads, capacity -> new SpiderWebCacheAdapter(SpiderWebCache.Policy.LRU));
+            print("CLOCK", threads, capacity -> new SpiderWebCacheAdapter(SpiderWebCache.Policy.CLOCK));
+        }
+    }
+
+    private static void print(String name, int threads, IntFunction<Cache> factory) throws InterruptedException {
+        double best = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            best = Math.max(best, run(factory.apply(CAPACITY_LEVELS * ELEMENTS_PER_LEVEL), threads));
+        }
+        System.out.printf("%14s %8d %14.0f%n", name, threads, best);
+    }
+
+    private static double run(Cache cache, int threads) throws InterruptedException {
+        int keys = 2 * CAPACITY_LEVELS * ELEMENTS_PER_LEVEL;
+        for (int key = 0; key < keys; key += 2) {
+            cache.put(key, key);
+        }
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            workers.add(new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    int key = random.nextInt(keys);
+                    if (i % 10 == 0) {
+                        cache.put(key, key);
+                    } else {
+                        cache.get(key);
+                    }
+                }
+            }));
+        }
+        long start = System.nanoTime();
+        workers.forEach(Thread::start);
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - start;
+        return (double) threads * OPERATIONS_PER_THREAD / elapsed * TimeUnit.SECONDS.toNanos(1);
+    }
+
+    private interface Cache {
+        Integer get(Integer key);
+
+        void put(Integer key, Integer value);
+    }
+
+    private static final class SpiderWebCacheAdapter implements Cache {
+        private final SpiderWebCache<Integer, Integer> cache;
+
+        private SpiderWebCacheAdapter(SpiderWebCache.Policy policy) {
+            this.cache = new SpiderWebCache<>(CAPACITY_LEVELS, ELEMENTS_PER_LEVEL, policy);
+        }
+
+        @Override
+        public Integer get(Integer key) {
+            return this.cache.get(key);
+        }
+
+        @Override
+        public void put(Integer key, Integer value) {
+            this.cache.put(key, value);
+        }
+    }
+
+    private static final class LinkedHashMapCache implements Cache {
+        private final Map<Integer, Integer> map;
+
+        private LinkedHashMapCache(int capacity) {
+            this.map = new LinkedHashMap<>(capacity, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+                    return this.size() > capacity;
+                }
+            };
+        }
+
+        @Override
+        public synchronized Integer get(Integer key) {
+            return this.map.get(key);
+        }
+
+        @Override
+        public synchronized void put(Integer key, Integer value) {
+            this.map.put(key, value);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+import com.spiderweb.SpiderWebCache;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the SpiderWebCache class.
+ */
+public class SpiderWebCacheTest {
+
+    /**
+     * Test case for an LRU cache over capacity, expecting the least recently used level of entries to be evicted.
+     */
+    @Test
+    public void testLruEvictsFirstLevel() {
+        SpiderWebCache<Integer, String> cache = new SpiderWebCache<>(2, 3, SpiderWebCache.Policy.LRU);
+        for (int i = 0; i < 6; i++) {
+            cache.put(i, "v" + i);
+        }
+        assertEquals("v0", cache.get(0));
+        assertEquals("v1", cache.get(1));
+
+        cache.put(6, "v6");
+
+        assertEquals(6, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertFalse(cache.containsKey(2));
+
+        cache.put(7, "v7");
+
+        assertEquals(4, cache.size());
+        assertEquals(4, cache.getEvictionCount());
+        assertFalse(cache.containsKey(3));
+        assertFalse(cache.containsKey(4));
+        assertEquals("v0", cache.get(0));
+        assertEquals("v1", cache.get(1));
+        assertFalse(cache.containsKey(5));
+        assertEquals("v6", cache.get(6));
+        assertEquals("v7", cache.get(7));
+    }
+
+    /**
+     * Test case for a CLOCK cache over capacity, expecting referenced entries to get a second chance.
+     */
+    @Test
+    public void testClockSecondChance() {
+        SpiderWebCache<Integer, String> cache = new SpiderWebCache<>(2, 2, SpiderWebCache.Policy.CLOCK);
+        for (int i = 0; i < 4; i++) {
+            cache.put(i, "v" + i);
+        }
+        assertEquals("v1", cache.get(1));
+
+        cache.put(4, "v4");
+
+        assertEquals(4, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertFalse(cache.containsKey(0));
+        assertTrue(cache.containsKey(1));
+
+        cache.put(5, "v5");
+        assertFalse(cache.containsKey(2));
+        assertFalse(cache.containsKey(3));
+        assertTrue(cache.containsKey(1));
+    }
+
+    /**
+     * Test case for putting a new key into a full CLOCK cache whose entries are all referenced, expecting the new key to be kept.
+     */
+    @Test
+    public void testClockPutIntoReferencedCacheKeepsNewKey() {
+        SpiderWebCache<Integer, String> cache = new SpiderWebCache<>(2, 4, SpiderWebCache.Policy.CLOCK);
+        for (int i = 1; i <= 8; i++) {
+            cache.put(i, "v" + i);
+        }
+        for (int i = 1; i <= 8; i++) {
+            assertEquals("v" + i, cache.get(i));
+        }
+
+        cache.put(99, "new");
+
+        assertTrue(cache.containsKey(99));
+        assertEquals("new", cache.get(99));
+        // One sweep clears every mark, then exactly one whole level is evicted.
+        assertEquals(4, cache.getEvictionCount());
+        assertEquals(5, cache.size());
+        for (int i = 5; i <= 8; i++) {
+            assertTrue(cache.containsKey(i));
+        }
+    }
+
+    /**
+     * Test case for many hits and removals, expecting the cache to stay consistent and bounded.
+     */
+    @Test
+    public void testHitsAndRemovals() {
+        SpiderWebCache<Integer, Integer> cache = new SpiderWebCache<>(10, 10, SpiderWebCache.Policy.LRU);
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, i);
+        }
+        for (int round = 0; round < 50; round++) {
+            for (int i = 0; i < 100; i += 3) {
+                assertEquals(i, cache.get(i));
+            }
+        }
+        for (int i = 0; i < 100; i += 2) {
+            assertEquals(i, cache.remove(i));
+        }
+        assertNull(cache.remove(0));
+        assertEquals(50, cache.size());
+        assertEquals(7, cache.put(7, 70));
+        assertEquals(70, cache.get(7));
+        assertEquals(0, cache.getEvictionCount());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNull(cache.get(7));
+    }
+
+    /**
+     * Test case for invalid arguments, expecting IllegalArgumentException.
+     */
+    @Test
+    public void testInvalidArguments() {
+        SpiderWebCache<String, String> cache = new SpiderWebCache<>(1);
+        assertThrows(IllegalArgumentException.class, () -> cache.put(null, "v"));
+        assertThrows(IllegalArgumentException.class, () -> cache.put("k", null));
+        assertThrows(IllegalArgumentException.class, () -> cache.get(null));
+        assertThrows(IllegalArgumentException.class, () -> new SpiderWebCache<>(0));
+        assertThrows(IllegalArgumentException.class, () -> new SpiderWebCache<>(1, 1, null));
+    }
+}
@@ -0,0 +1,167 @@
+import com.spiderweb.SpiderWeb;
+import com.spiderweb.SpiderWebChange;
+import com.spiderweb.SpiderWebChangePublisher;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the SpiderWebChangePublisher class.
+ */
+public class SpiderWebChangePublisherTest {
+
+    /**
+     * A subscriber that records every batch and requests a fixed demand on subscription.
+     */
+    private static final class RecordingSubscriber implements Flow.Subscriber<List<SpiderWebChange<Integer>>> {
+        private final long initialDemand;
+        private final List<List<SpiderWebChange<Integer>>> batches = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private boolean completed;
+        private Throwable error;
+
+        RecordingSubscriber(long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (this.initialDemand > 0) {
+                subscription.request(this.initialDemand);
+            }
+        }
+
+        @Override
+        public void onNext(List<SpiderWebChange<Integer>> item) {
+            this.batches.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+
+    /**
+     * Test case for recording each kind of mutation with the level and index of the affected element.
+     */
+    @Test
+    public void testChangeTypes() {
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>(3);
+        SpiderWebChangePublisher<Integer> publisher = new SpiderWebChangePublisher<>(spiderWeb, 16, Runnable::run);
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        publisher.subscribe(subscriber);
+
+        for (int i = 0; i < 5; i++) {
+            spiderWeb.add(i);
+        }
+        spiderWeb.set(1, 1, 40);
+        spiderWeb.addFirst(-1);
+        spiderWeb.removeLast();
+        spiderWeb.removeFirst();
+        spiderWeb.clear();
+        publisher.flush();
+
+        List<SpiderWebChange<Integer>> changes = new ArrayList<>();
+        subscriber.batches.forEach(changes::addAll);
+        assertEquals(10, changes.size());
+        assertEquals(SpiderWebChange.Type.ADD, changes.get(4).getType());
+        assertEquals(1, changes.get(4).getLevel());
+        assertEquals(1, changes.get(4).getIndex());
+        assertEquals(SpiderWebChange.Type.SET, changes.get(5).getType());
+        assertEquals(40, changes.get(5).getValue());
+        assertEquals(4, changes.get(5).getOldValue());
+        assertEquals(SpiderWebChange.Type.ADD_FIRST, changes.get(6).getType());
+        assertEquals(SpiderWebChange.Type.REMOVE_LAST, changes.get(7).getType());
+        assertEquals(40, changes.get(7).getValue());
+        assertEquals(1, changes.get(7).getLevel());
+        assertEquals(2, changes.get(7).getIndex());
+        assertEquals(SpiderWebChange.Type.REMOVE_FIRST, changes.get(8).getType());
+        assertEquals(-1, changes.get(8).getValue());
+        assertEquals(SpiderWebChange.Type.CLEAR, changes.get(9).getType());
+        assertEquals(-1, changes.get(9).getLevel());
+    }
+
+    /**
+     * Test case for grouping consecutive changes on the same level into one batch.
+     */
+    @Test
+    public void testBatchedPerLevel() {
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>(4);
+        SpiderWebChangePublisher<Integer> publisher = new SpiderWebChangePublisher<>(spiderWeb, 16, Runnable::run);
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        publisher.subscribe(subscriber);
+
+        for (int i = 0; i < 10; i++) {
+            spiderWeb.add(i);
+        }
+        assertEquals(2, subscriber.batches.size());
+        assertEquals(4, subscriber.batches.get(0).size());
+        assertEquals(1, subscriber.batches.get(1).get(0).getLevel());
+
+        publisher.flush();
+        assertEquals(3, subscriber.batches.size());
+        assertEquals(2, subscriber.batches.get(2).size());
+        assertThrows(UnsupportedOperationException.class, () -> subscriber.batches.get(0).clear());
+    }
+
+    /**
+     * Test case for a slow subscriber, expecting pending batches to be replaced by a resync once its ring is full.
+     */
+    @Test
+    public void testRingOverflowResyncs() {
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>(2);
+        SpiderWebChangePublisher<Integer> publisher = new SpiderWebChangePublisher<>(spiderWeb, 3, Runnable::run);
+        RecordingSubscriber subscriber = new RecordingSubscriber(0);
+        publisher.subscribe(subscriber);
+
+        for (int i = 0; i < 10; i++) {
+            spiderWeb.add(i);
+        }
+        assertTrue(subscriber.batches.isEmpty());
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertEquals(2, subscriber.batches.size());
+        assertEquals(SpiderWebChange.Type.RESYNC, subscriber.batches.get(0).get(0).getType());
+        assertEquals(3, subscriber.batches.get(1).get(0).getLevel());
+    }
+
+    /**
+     * Test case for completing subscribers on close, cancelling, and rejecting invalid demand.
+     */
+    @Test
+    public void testCloseCancelAndInvalidDemand() {
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>();
+        SpiderWebChangePublisher<Integer> publisher = new SpiderWebChangePublisher<>(spiderWeb, 4, Runnable::run);
+        RecordingSubscriber completing = new RecordingSubscriber(1);
+        RecordingSubscriber cancelling = new RecordingSubscriber(1);
+        RecordingSubscriber invalid = new RecordingSubscriber(0);
+        publisher.subscribe(completing);
+        publisher.subscribe(cancelling);
+        publisher.subscribe(invalid);
+
+        invalid.subscription.request(-1);
+        assertInstanceOf(IllegalArgumentException.class, invalid.error);
+        cancelling.subscription.cancel();
+        assertEquals(1, publisher.getSubscriberCount());
+
+        spiderWeb.add(1);
+        publisher.close();
+        spiderWeb.add(2);
+        assertEquals(1, completing.batches.size());
+        assertTrue(completing.completed);
+        assertTrue(cancelling.batches.isEmpty());
+        assertEquals(0, publisher.getSubscriberCount());
+        assertThrows(IllegalArgumentException.class, () -> new SpiderWebChangePublisher<>(spiderWeb, 0, Runnable::run));
+    }
+}
@@ -0,0 +1,152 @@
+import com.spiderweb.SpiderWeb;
+import com.spiderweb.SpiderWebCheckpointer;
+import com.spiderweb.SpiderWebCodec;
+import com.spiderweb.SpiderWebNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the SpiderWebCheckpointer class.
+ */
+public class SpiderWebCheckpointerTest {
+
+    @TempDir
+    Path directory;
+
+    private static List<Integer> values(SpiderWeb<Integer> spiderWeb) {
+        List<Integer> values = new ArrayList<>();
+        for (SpiderWebNode<Integer> node = spiderWeb.getFirstNode(); node != null; node = node.getNextNode()) {
+            values.add(node.getValue());
+        }
+        return values;
+    }
+
+    /**
+     * Test case for writing a full snapshot first and only the dirty levels afterwards.
+     */
+    @Test
+    public void testOnlyDirtyLevelsWritten() throws IOException {
+        Path file = this.directory.resolve("web.ckpt");
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>(4);
+        for (int i = 0; i < 40; i++) {
+            spiderWeb.add(i);
+        }
+        try (SpiderWebCheckpointer<Integer> checkpointer = new SpiderWebCheckpointer<>(spiderWeb, file, SpiderWebCodec.integers(), Runnable::run, 100)) {
+            assertEquals(10, checkpointer.checkpoint());
+
+            spiderWeb.set(2, 1, -9);
+            spiderWeb.add(40);
+            assertEquals(2, checkpointer.getDirtyLevelCount());
+            assertEquals(2, checkpointer.checkpoint());
+            assertEquals(0, checkpointer.checkpoint());
+
+            spiderWeb.cursor(7, 2).remove();
+            assertEquals(3, checkpointer.getDirtyLevelCount());
+            assertEquals(3, checkpointer.checkpoint());
+        }
+        SpiderWeb<Integer> recovered = SpiderWebCheckpointer.recover(file, SpiderWebCodec.integers());
+        assertEquals(4, recovered.getMaxElementPerLevel());
+        assertEquals(values(spiderWeb), values(recovered));
+    }
+
+    /**
+     * Test case for removing and adding at the beginning without making every level dirty.
+     */
+    @Test
+    public void testHeadChangesKeepLevelsClean() throws IOException {
+        Path file = this.directory.resolve("queue.ckpt");
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>(5);
+        for (int i = 0; i < 50; i++) {
+            spiderWeb.add(i);
+        }
+        try (SpiderWebCheckpointer<Integer> checkpointer = new SpiderWebCheckpointer<>(spiderWeb, file, SpiderWebCodec.integers(), Runnable::run, 100)) {
+            checkpointer.checkpoint();
+            for (int i = 0; i < 7; i++) {
+                spiderWeb.removeFirst();
+            }
+            spiderWeb.removeLast();
+            assertEquals(0, checkpointer.checkpoint());
+            assertEquals(values(spiderWeb), values(SpiderWebCheckpointer.recover(file, SpiderWebCodec.integers())));
+
+            spiderWeb.addFirst(100);
+            spiderWeb.addFirst(101);
+            spiderWeb.add(102);
+            assertEquals(2, checkpointer.checkpoint());
+            assertEquals(values(spiderWeb), values(SpiderWebCheckpointer.recover(file, SpiderWebCodec.integers())));
+
+            spiderWeb.clear();
+            spiderWeb.add(7);
+            assertEquals(1, checkpointer.checkpoint());
+        }
+        assertEquals(List.of(7), values(SpiderWebCheckpointer.recover(file, SpiderWebCodec.integers())));
+    }
+
+    /**
+     * Test case for compacting the deltas into a single snapshot, in the background and on demand.
+     */
+    @Test
+    public void testCompaction() throws IOException {
+        Path file = this.directory.resolve("compact.ckpt");
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>(8);
+        for (int i = 0; i < 64; i++) {
+            spiderWeb.add(i);
+        }
+        try (SpiderWebCheckpointer<Integer> checkpointer = new SpiderWebCheckpointer<>(spiderWeb, file, SpiderWebCodec.integers(), Runnable::run, 0.5)) {
+            checkpointer.checkpoint();
+            long snapshot = Files.size(file);
+            for (int round = 0; round < 20; round++) {
+                spiderWeb.set(round % 8, 0, round);
+                spiderWeb.set(7 - round % 8, 1, -round);
+                checkpointer.checkpoint();
+            }
+            assertTrue(Files.size(file) < 2 * snapshot);
+            assertEquals(values(spiderWeb), values(SpiderWebCheckpointer.recover(file, SpiderWebCodec.integers())));
+
+            spiderWeb.set(0, 0, 1000);
+            checkpointer.checkpoint();
+            checkpointer.compact();
+            assertTrue(Files.size(file) <= snapshot);
+            assertFalse(Files.exists(file.resolveSibling(file.getFileName() + ".compacting")));
+            spiderWeb.add(64);
+            checkpointer.checkpoint();
+        }
+        assertEquals(values(spiderWeb), values(SpiderWebCheckpointer.recover(file, SpiderWebCodec.integers())));
+    }
+
+    /**
+     * Test case for ignoring a torn checkpoint, reusing an existing file, and invalid use.
+     */
+    @Test
+    public void testTornCheckpointAndInvalidUse() throws IOException {
+        Path file = this.directory.resolve("torn.ckpt");
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>(3);
+        spiderWeb.add(1);
+        spiderWeb.add(2);
+        SpiderWebCheckpointer<Integer> checkpointer = new SpiderWebCheckpointer<>(spiderWeb, file, SpiderWebCodec.integers());
+        checkpointer.checkpoint();
+        checkpointer.close();
+        assertThrows(IllegalStateException.class, checkpointer::checkpoint);
+        Files.write(file, new byte[]{0, 0, 0, 40, 9, 9}, StandardOpenOption.APPEND);
+        assertEquals(List.of(1, 2), values(SpiderWebCheckpointer.recover(file, SpiderWebCodec.integers())));
+
+        spiderWeb.add(3);
+        try (SpiderWebCheckpointer<Integer> reopened = new SpiderWebCheckpointer<>(spiderWeb, file, SpiderWebCodec.integers())) {
+            assertEquals(1, reopened.checkpoint());
+        }
+        assertEquals(List.of(1, 2, 3), values(SpiderWebCheckpointer.recover(file, SpiderWebCodec.integers())));
+
+        Path empty = this.directory.resolve("empty.ckpt");
+        new SpiderWebCheckpointer<>(new SpiderWeb<Integer>(), empty, SpiderWebCodec.integers()).close();
+        assertThrows(IOException.class, () -> SpiderWebCheckpointer.recover(empty, SpiderWebCodec.integers()));
+        assertThrows(IllegalArgumentException.class, () -> new SpiderWebCheckpointer<>(spiderWeb, file, SpiderWebCodec.integers(), Runnable::run, 0));
+    }
+}
@@ -0,0 +1,195 @@
+import com.spiderweb.SortedSpiderWeb;
+import com.spiderweb.SpiderWeb;
+import com.spiderweb.SpiderWebCursor;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the SpiderWebCursor class.
+ */
+public class SpiderWebCursorTest {
+
+    private SpiderWeb<Integer> spiderWeb(int maxElementPerLevel, int size) {
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>(maxElementPerLevel);
+        for (int i = 0; i < size; i++) {
+            spiderWeb.add(i);
+        }
+        return spiderWeb;
+    }
+
+    /**
+     * Test case for moving between neighbouring elements and levels.
+     */
+    @Test
+    public void testNavigation() {
+        SpiderWebCursor<Integer> cursor = this.spiderWeb(4, 14).cursor(1, 2);
+
+        assertEquals(6, cursor.get());
+        assertEquals(7, cursor.next());
+        assertEquals(11, cursor.nextLevel());
+        assertEquals(2, cursor.getLevel());
+        assertEquals(3, cursor.getIndex());
+        assertFalse(cursor.hasNextLevel());
+        assertEquals(10, cursor.prev());
+        assertEquals(6, cursor.prevLevel());
+        assertEquals(2, cursor.prevLevel());
+        assertFalse(cursor.hasPrevLevel());
+        assertThrows(NoSuchElementException.class, cursor::prevLevel);
+        assertEquals(2, cursor.get());
+    }
+
+    /**
+     * Test case for replacing elements through the cursor.
+     */
+    @Test
+    public void testSet() {
+        SpiderWeb<Integer> spiderWeb = this.spiderWeb(3, 9);
+        spiderWeb.enableAggregates(Integer::doubleValue);
+        SpiderWebCursor<Integer> cursor = spiderWeb.cursor();
+        cursor.nextLevel();
+
+        assertEquals(3, cursor.set(30));
+        assertEquals(30, spiderWeb.get(1, 0));
+        assertEquals(30.0, spiderWeb.aggregate().getMax());
+    }
+
+    /**
+     * Test case for removing elements through the cursor, keeping level links and positions consistent.
+     */
+    @Test
+    public void testRemove() {
+        SpiderWeb<Integer> spiderWeb = this.spiderWeb(3, 10);
+        SpiderWebCursor<Integer> cursor = spiderWeb.cursor(1, 1);
+
+        assertEquals(4, cursor.remove());
+        assertEquals(5, cursor.get());
+        assertEquals(1, cursor.getLevel());
+        assertEquals(1, cursor.getIndex());
+        assertEquals(8, cursor.nextLevel());
+        assertEquals(9, spiderWeb.size());
+        assertEquals(2, spiderWeb.getLevel());
+        assertEquals(2, spiderWeb.getIndex());
+        assertEquals(List.of(0, 1, 2, 3, 5, 6, 7, 8, 9), toList(spiderWeb));
+        assertEquals(6, spiderWeb.getNode(0, 2).getNextLevelNode().getValue());
+        assertEquals(9, spiderWeb.getNode(1, 2).getNextLevelNode().getValue());
+
+        while (cursor.hasNext()) {
+            cursor.next();
+        }
+        assertEquals(9, cursor.remove());
+        assertEquals(8, cursor.get());
+        assertEquals(8, spiderWeb.getNode(1, 1).getNextLevelNode().getValue());
+        assertNull(spiderWeb.getNode(1, 2).getNextLevelNode());
+    }
+
+    /**
+     * Test case for invalidating a cursor when the SpiderWeb is modified elsewhere.
+     */
+    @Test
+    public void testConcurrentModification() {
+        SpiderWeb<Integer> spiderWeb = this.spiderWeb(3, 5);
+        SpiderWebCursor<Integer> cursor = spiderWeb.cursor();
+        spiderWeb.add(5);
+
+        assertThrows(ConcurrentModificationException.class, cursor::next);
+        assertThrows(NoSuchElementException.class, () -> new SpiderWeb<Integer>().cursor());
+    }
+
+    /**
+     * Test case for setting through a cursor on a SortedSpiderWeb, expecting UnsupportedOperationException.
+     */
+    @Test
+    public void testSetOnSortedSpiderWeb() {
+        SortedSpiderWeb<Integer> spiderWeb = new SortedSpiderWeb<>(3);
+        spiderWeb.add(2);
+        spiderWeb.add(1);
+        SpiderWebCursor<Integer> cursor = spiderWeb.cursor();
+
+        assertThrows(UnsupportedOperationException.class, () -> cursor.set(5));
+        assertEquals(1, cursor.remove());
+        assertEquals(2, spiderWeb.getFirst());
+    }
+
+    /**
+     * Test case for random cursor removals matching a list, with aggregates, the level directory and adaptive width enabled.
+     */
+    @Test
+    public void testRandomRemovals() {
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>(2);
+        spiderWeb.enableAdaptiveLevelWidth();
+        spiderWeb.enableAggregates(Integer::doubleValue);
+        spiderWeb.enableLevelDirectory();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(13);
+        for (int i = 0; i < 3000; i++) {
+            int value = random.nextInt(10000);
+            spiderWeb.add(value);
+            expected.add(value);
+        }
+
+        while (expected.size() > 1) {
+            int width = spiderWeb.getMaxElementPerLevel();
+            int position = random.nextInt(expected.size());
+            SpiderWebCursor<Integer> cursor = spiderWeb.cursor(position / width, position % width);
+            assertEquals(expected.remove(position), cursor.remove());
+            if (random.nextInt(4) == 0) {
+                spiderWeb.add(position);
+                expected.add(position);
+            }
+
+            width = spiderWeb.getMaxElementPerLevel();
+            int probe = random.nextInt(expected.size());
+            assertEquals(expected.get(probe), spiderWeb.get(probe / width, probe % width));
+            assertEquals(expected.size(), spiderWeb.aggregate().getCount());
+            assertEquals(expected.stream().mapToInt(Integer::intValue).sum(), (int) spiderWeb.aggregate().getSum());
+        }
+    }
+
+    private static List<Integer> toList(SpiderWeb<Integer> spiderWeb) {
+        List<Integer> values = new ArrayList<>();
+        SpiderWebCursor<Integer> cursor = spiderWeb.cursor();
+        values.add(cursor.get());
+        while (cursor.hasNext()) {
+            values.add(cursor.next());
+        }
+        return values;
+    }
+
+    /**
+     * Test case for moving between levels while an adaptive SpiderWeb re-levels, expecting steps of the current level width.
+     */
+    @Test
+    public void testLevelMovesWhileRelevelling() {
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>(2);
+        spiderWeb.enableAdaptiveLevelWidth();
+        for (int i = 0; i < 18; i++) {
+            spiderWeb.add(i);
+        }
+        int width = spiderWeb.getMaxElementPerLevel();
+
+        SpiderWebCursor<Integer> cursor = spiderWeb.cursor(0, 0);
+        assertEquals(width, cursor.nextLevel());
+        assertEquals(1, cursor.getLevel());
+        assertEquals(0, cursor.getIndex());
+
+        for (int position = 0; position < 18; position++) {
+            SpiderWebCursor<Integer> moving = spiderWeb.cursor(position / width, position % width);
+            if (position + width < 18) {
+                assertEquals(position + width, moving.nextLevel());
+                assertEquals(position, moving.prevLevel());
+            } else {
+                assertThrows(NoSuchElementException.class, moving::nextLevel);
+            }
+            if (position < width) {
+                assertThrows(NoSuchElementException.class, spiderWeb.cursor(0, position)::prevLevel);
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+import com.spiderweb.SpiderWeb;
+import com.spiderweb.SpiderWebSubscriber;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the SpiderWebSubscriber class.
+ */
+public class SpiderWebSubscriberTest {
+
+    /**
+     * A subscription that records the demand requested from it.
+     */
+    private static final class RecordingSubscription implements Flow.Subscription {
+        private long requested;
+        private boolean cancelled;
+
+        @Override
+        public void request(long n) {
+            this.requested += n;
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+        }
+    }
+
+    /**
+     * Test case for requesting demand up to the high-water mark, a batch at a time once consumers free room.
+     */
+    @Test
+    public void testDemandFollowsHighWaterMark() {
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>();
+        SpiderWebSubscriber<Integer> subscriber = new SpiderWebSubscriber<>(spiderWeb, 10, 4);
+        RecordingSubscription subscription = new RecordingSubscription();
+
+        subscriber.onSubscribe(subscription);
+        assertEquals(10, subscription.requested);
+        for (int i = 0; i < 10; i++) {
+            subscriber.onNext(i);
+        }
+        assertEquals(10, spiderWeb.size());
+        assertEquals(10, subscription.requested);
+
+        assertEquals(0, subscriber.poll());
+        assertEquals(11, subscription.requested);
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(3, subscriber.drainTo(drained::add, 3));
+        assertEquals(List.of(1, 2, 3), drained);
+        assertEquals(11, subscription.requested);
+
+        subscriber.onNext(10);
+        assertEquals(7, spiderWeb.size());
+        assertEquals(14, subscription.requested);
+    }
+
+    /**
+     * Test case for buffering items until a batch is full.
+     */
+    @Test
+    public void testItemsAppendedInBatches() {
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>();
+        SpiderWebSubscriber<Integer> subscriber = new SpiderWebSubscriber<>(spiderWeb, 100, 8);
+        subscriber.onSubscribe(new RecordingSubscription());
+
+        for (int i = 0; i < 7; i++) {
+            subscriber.onNext(i);
+        }
+        assertEquals(0, spiderWeb.size());
+        subscriber.onNext(7);
+        assertEquals(8, spiderWeb.size());
+        subscriber.onNext(8);
+        subscriber.onComplete();
+        assertEquals(9, spiderWeb.size());
+        assertTrue(subscriber.isDone());
+        assertNull(subscriber.getError());
+    }
+
+    /**
+     * Test case for a level limit following the level width of the SpiderWeb, and for rejecting a second subscription.
+     */
+    @Test
+    public void testLevelLimitAndSecondSubscription() {
+        SpiderWebSubscriber<Integer> subscriber = SpiderWebSubscriber.withLevelLimit(new SpiderWeb<>(5), 3, 2);
+        RecordingSubscription first = new RecordingSubscription();
+        RecordingSubscription second = new RecordingSubscription();
+
+        subscriber.onSubscribe(first);
+        subscriber.onSubscribe(second);
+
+        assertEquals(15, first.requested);
+        assertTrue(second.cancelled);
+        assertThrows(NullPointerException.class, () -> subscriber.onNext(null));
+    }
+
+    /**
+     * Test case for a fast publisher and a slow consumer, expecting every item in order and the SpiderWeb never above the mark.
+     */
+    @Test
+    public void testBackpressureWithPublisher() throws InterruptedException {
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>();
+        SpiderWebSubscriber<Integer> subscriber = new SpiderWebSubscriber<>(spiderWeb, 50, 8);
+        try (SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(subscriber);
+            Thread producer = new Thread(() -> {
+                for (int i = 0; i < 20000; i++) {
+                    publisher.submit(i);
+                }
+                publisher.close();
+            });
+            producer.start();
+
+            int expected = 0;
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (expected < 20000 && System.nanoTime() < deadline) {
+                assertTrue(subscriber.size() <= 50);
+                Integer value = subscriber.poll();
+                if (value != null) {
+                    assertEquals(expected++, value);
+                }
+            }
+            producer.join();
+            assertEquals(20000, expected);
+        }
+    }
+}
@@ -1,11 +1,17 @@
 import com.spiderweb.SpiderWeb;
+import com.spiderweb.SpiderWebCursor;
 import com.spiderweb.SpiderWebNode;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.DoubleSummaryStatistics;
 import java.util.HashMap;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.atomic.LongAdder;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -1089,4 +1095,745 @@ public class SpiderWebTest {
         String result = spiderWeb.toString();
         assertEquals("SpiderWeb{level=1, index=0, size=3, maxElementPerLevel=2}", result);
     }
+
+    /**
+     * Test case for level links after removing the last element and adding a new one.
+     */
+    @Test
+    public void testRemoveLastThenAddKeepsLevelLinks() {
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>(2);
+        for (int i = 0; i < 5; i++) {
+            spiderWeb.add(i);
+        }
+
+        spiderWeb.removeLast();
+        spiderWeb.add(9);
+
+        assertEquals(9, spiderWeb.getNode(1, 0).getNextLevelNode().getValue());
+        assertEquals(2, spiderWeb.getLastNode().getPrevLevelNode().getValue());
+        assertEquals(9, spiderWeb.get(2, 0));
+    }
+
+    /**
+     * Test case for aggregating a SpiderWeb without enabling aggregates, expecting an {@code IllegalStateException}.
+     */
+    @Test
+    public void testAggregateNotEnabled() {
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>();
+        spiderWeb.add(1);
+
+        assertFalse(spiderWeb.isAggregating());
+        assertThrows(IllegalStateException.class, spiderWeb::aggregate);
+    }
+
+    /**
+     * Test case for aggregating all elements of a SpiderWeb.
+     */
+    @Test
+    public void testAggregateWholeSpiderWeb() {
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>(3);
+        for (int i = 1; i <= 10; i++) {
+            spiderWeb.add(i);
+        }
+        spiderWeb.enableAggregates(Integer::doubleValue);
+
+        DoubleSummaryStatistics statistics = spiderWeb.aggregate();
+
+        assertTrue(spiderWeb.isAggregating());
+        assertEquals(10, statistics.getCount());
+        assertEquals(55, statistics.getSum());
+        assertEquals(1, statistics.getMin());
+        assertEquals(10, statistics.getMax());
+    }
+
+    /**
+     * Test case for aggregating a range and a single level after mutations.
+     */
+    @Test
+    public void testAggregateRangeAfterMutations() {
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>(3);
+        spiderWeb.enableAggregates(Integer::doubleValue);
+        for (int i = 1; i <= 9; i++) {
+            spiderWeb.add(i);
+        }
+        spiderWeb.set(1, 1, 50);
+        spiderWeb.removeFirst();
+        spiderWeb.addFirst(-4);
+
+        DoubleSummaryStatistics range = spiderWeb.aggregate(0, 2, 2, 0);
+        DoubleSummaryStatistics level = spiderWeb.aggregateLevel(1);
+
+        assertEquals(5, range.getCount());
+        assertEquals(3 + 4 + 50 + 6 + 7, range.getSum());
+        assertEquals(50, range.getMax());
+        assertEquals(4, level.getMin());
+        assertEquals(50, level.getMax());
+    }
+
+    /**
+     * Test case for aggregating an invalid range, expecting an {@code IllegalArgumentException}.
+     */
+    @Test
+    public void testAggregateInvalidRange() {
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>(3);
+        spiderWeb.enableAggregates(Integer::doubleValue);
+        for (int i = 0; i < 6; i++) {
+            spiderWeb.add(i);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> spiderWeb.aggregate(1, 0, 0, 2));
+        assertThrows(IllegalArgumentException.class, () -> spiderWeb.aggregate(0, 0, 2, 0));
+    }
+
+    /**
+     * Test case for keeping aggregates consistent with the elements over a random sequence of mutations.
+     */
+    @Test
+    public void testAggregatesMatchElementsAfterRandomMutations() {
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>(4);
+        spiderWeb.enableAggregates(Integer::doubleValue);
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(42);
+
+        for (int step = 0; step < 3000; step++) {
+            int value = random.nextInt(1000);
+            int operation = random.nextInt(6);
+            if (operation <= 1 || expected.isEmpty()) {
+                spiderWeb.add(value);
+                expected.add(value);
+            } else if (operation == 2) {
+                spiderWeb.addFirst(value);
+                expected.add(0, value);
+            } else if (operation == 3) {
+                int position = random.nextInt(expected.size());
+                spiderWeb.set(position / 4, position % 4, value);
+                expected.set(position, value);
+            } else if (operation == 4) {
+                assertEquals(expected.remove(0), spiderWeb.removeFirst());
+            } else {
+                assertEquals(expected.remove(expected.size() - 1), spiderWeb.removeLast());
+            }
+
+            if (!expected.isEmpty()) {
+                int from = random.nextInt(expected.size());
+                int to = from + random.nextInt(expected.size() - from);
+                DoubleSummaryStatistics actual = spiderWeb.aggregate(from / 4, from % 4, to / 4, to % 4);
+                DoubleSummaryStatistics reference = expected.subList(from, to + 1).stream()
+                        .mapToDouble(Integer::doubleValue).summaryStatistics();
+                assertEquals(reference.getCount(), actual.getCount());
+                assertEquals(reference.getSum(), actual.getSum());
+                assertEquals(reference.getMin(), actual.getMin());
+                assertEquals(reference.getMax(), actual.getMax());
+
+                DoubleSummaryStatistics total = spiderWeb.aggregate();
+                assertEquals(expected.size(), total.getCount());
+                assertEquals(expected.stream().mapToInt(Integer::intValue).min().getAsInt(), total.getMin());
+                assertEquals(expected.stream().mapToInt(Integer::intValue).max().getAsInt(), total.getMax());
+            }
+        }
+    }
+
+    /**
+     * Test case for adaptive level width growing with the SpiderWeb and returning to the initial width.
+     */
+    @Test
+    public void testAdaptiveLevelWidthGrowsAndShrinks() {
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>(4);
+        spiderWeb.enableAdaptiveLevelWidth();
+        assertTrue(spiderWeb.isAdaptiveLevelWidth());
+
+        for (int i = 0; i < 10000; i++) {
+            spiderWeb.add(i);
+        }
+        int width = spiderWeb.getMaxElementPerLevel();
+        assertTrue(width >= 50 && width <= 200, "Unexpected level width " + width);
+        assertEquals(10000, spiderWeb.getLevel() * width + spiderWeb.getIndex() + 1);
+        for (int position = 0; position < 10000; position += 37) {
+            assertEquals(position, spiderWeb.get(position / width, position % width));
+        }
+
+        while (spiderWeb.size() > 6) {
+            spiderWeb.removeFirst();
+        }
+        assertEquals(4, spiderWeb.getMaxElementPerLevel());
+        assertEquals(9994, spiderWeb.get(0, 0));
+        assertEquals(9999, spiderWeb.get(1, 1));
+    }
+
+    /**
+     * Test case for positional access staying correct while an adaptive SpiderWeb re-levels.
+     */
+    @Test
+    public void testAdaptiveLevelWidthAfterRandomMutations() {
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>(2);
+        spiderWeb.enableAdaptiveLevelWidth();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(7);
+
+        for (int step = 0; step < 6000; step++) {
+            int value = random.nextInt(1000);
+            int operation = random.nextInt(step < 3000 ? 6 : 8);
+            if (operation <= 2 || expected.isEmpty()) {
+                spiderWeb.add(value);
+                expected.add(value);
+            } else if (operation == 3) {
+                spiderWeb.addFirst(value);
+                expected.add(0, value);
+            } else if (operation == 4) {
+                int width = spiderWeb.getMaxElementPerLevel();
+                int position = random.nextInt(expected.size());
+                spiderWeb.set(position / width, position % width, value);
+                expected.set(position, value);
+            } else if (operation == 5 || operation == 6) {
+                assertEquals(expected.remove(0), spiderWeb.removeFirst());
+            } else {
+                assertEquals(expected.remove(expected.size() - 1), spiderWeb.removeLast());
+            }
+
+            assertEquals(expected.size(), spiderWeb.size());
+            if (!expected.isEmpty()) {
+                int width = spiderWeb.getMaxElementPerLevel();
+                int position = random.nextInt(expected.size());
+                assertEquals(expected.get(position), spiderWeb.get(position / width, position % width));
+                assertEquals((expected.size() - 1) / width, spiderWeb.getLevel());
+            }
+        }
+
+        spiderWeb.disableAdaptiveLevelWidth();
+        int width = spiderWeb.getMaxElementPerLevel();
+        SpiderWebNode<Integer> node = spiderWeb.getFirstNode();
+        for (int position = 0; position < expected.size(); position++, node = node.getNextNode()) {
+            assertEquals(expected.get(position), node.getValue());
+            if (position + width < expected.size()) {
+                assertEquals(expected.get(position + width), node.getNextLevelNode().getValue());
+            } else {
+                assertNull(node.getNextLevelNode());
+            }
+        }
+    }
+
+    /**
+     * Test case for positional access through the level directory after mutations at both ends.
+     */
+    @Test
+    public void testLevelDirectoryGetAndSet() {
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>(3);
+        for (int i = 0; i < 100; i++) {
+            spiderWeb.add(i);
+        }
+        spiderWeb.enableLevelDirectory();
+        assertTrue(spiderWeb.hasLevelDirectory());
+
+        spiderWeb.addFirst(-1);
+        spiderWeb.removeLast();
+        spiderWeb.set(10, 2, 500);
+
+        assertEquals(-1, spiderWeb.get(0, 0));
+        assertEquals(500, spiderWeb.get(10, 2));
+        assertEquals(98, spiderWeb.get(33, 0));
+        assertEquals(41, spiderWeb.getNode(14, 0).getValue());
+
+        spiderWeb.disableLevelDirectory();
+        assertFalse(spiderWeb.hasLevelDirectory());
+        assertEquals(500, spiderWeb.get(10, 2));
+    }
+
+    /**
+     * Test case for the level directory staying consistent over random mutations of an adaptive SpiderWeb.
+     */
+    @Test
+    public void testLevelDirectoryAfterRandomMutations() {
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>(2);
+        spiderWeb.enableLevelDirectory();
+        spiderWeb.enableAdaptiveLevelWidth();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(3);
+
+        for (int step = 0; step < 5000; step++) {
+            int value = random.nextInt(1000);
+            int operation = random.nextInt(step < 3000 ? 5 : 7);
+            if (operation <= 1 || expected.isEmpty()) {
+                spiderWeb.add(value);
+                expected.add(value);
+            } else if (operation == 2) {
+                spiderWeb.addFirst(value);
+                expected.add(0, value);
+            } else if (operation == 3 || operation == 5) {
+                assertEquals(expected.remove(0), spiderWeb.removeFirst());
+            } else {
+                assertEquals(expected.remove(expected.size() - 1), spiderWeb.removeLast());
+            }
+
+            if (!expected.isEmpty()) {
+                int width = spiderWeb.getMaxElementPerLevel();
+                int position = random.nextInt(expected.size());
+                assertEquals(expected.get(position), spiderWeb.get(position / width, position % width));
+            }
+        }
+    }
+
+    /**
+     * Test case for parallel forEach and count visiting every element exactly once.
+     */
+    @Test
+    public void testParallelForEachAndCount() {
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>(5);
+        for (int i = 0; i < 50000; i++) {
+            spiderWeb.add(i);
+        }
+
+        LongAdder sum = new LongAdder();
+        spiderWeb.parallelForEach(sum::add);
+
+        assertEquals(50000L * 49999 / 2, sum.sum());
+        assertEquals(25000, spiderWeb.parallelCount(value -> value % 2 == 0));
+        assertEquals(0, new SpiderWeb<Integer>().parallelCount(value -> true));
+    }
+
+    /**
+     * Test case for parallel replaceAll, expecting every element and the aggregates to be updated.
+     */
+    @Test
+    public void testParallelReplaceAll() {
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>(7);
+        for (int i = 0; i < 30000; i++) {
+            spiderWeb.add(i);
+        }
+        spiderWeb.enableAggregates(Integer::doubleValue);
+
+        spiderWeb.parallelReplaceAll(value -> value * 2);
+
+        assertEquals(0, spiderWeb.get(0, 0));
+        assertEquals(59998, spiderWeb.getLast());
+        assertEquals(2 * 12345, spiderWeb.get(12345 / 7, 12345 % 7));
+        assertEquals(59998.0, spiderWeb.aggregate().getMax());
+    }
+
+    /**
+     * Test case for parallel indexOf returning the first matching element, or an empty map without a match.
+     */
+    @Test
+    public void testParallelIndexOf() {
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>(6);
+        for (int i = 0; i < 100000; i++) {
+            spiderWeb.add(i % 40000);
+        }
+
+        HashMap<String, Integer> result = spiderWeb.parallelIndexOf(value -> value == 39999);
+        assertEquals(39999 / 6, result.get("level"));
+        assertEquals(39999 % 6, result.get("index"));
+        assertTrue(spiderWeb.parallelIndexOf(value -> value < 0).isEmpty());
+    }
+
+    /**
+     * Test case for getAll returning elements in request order, including repeated positions.
+     */
+    @Test
+    public void testGetAll() {
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>(4);
+        for (int i = 0; i < 50; i++) {
+            spiderWeb.add(i);
+        }
+        long[] positions = {
+                SpiderWeb.position(10, 3),
+                SpiderWeb.position(0, 0),
+                SpiderWeb.position(5, 2),
+                SpiderWeb.position(0, 0),
+                SpiderWeb.position(12, 1)
+        };
+
+        assertEquals(List.of(43, 0, 22, 0, 49), spiderWeb.getAll(positions));
+        assertTrue(spiderWeb.getAll(new long[0]).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> spiderWeb.getAll(new long[]{SpiderWeb.position(12, 2)}));
+    }
+
+    /**
+     * Test case for the consumer variant of getAll visiting positions in ascending order.
+     */
+    @Test
+    public void testGetAllWithConsumer() {
+        SpiderWeb<String> spiderWeb = new SpiderWeb<>(3);
+        for (int i = 0; i < 20; i++) {
+            spiderWeb.add("v" + i);
+        }
+        List<String> visited = new ArrayList<>();
+
+        spiderWeb.getAll(new long[]{SpiderWeb.position(4, 1), SpiderWeb.position(1, 2)},
+                (value, position) -> visited.add(value + "@" + (position >> 32) + "," + (int) position));
+
+        assertEquals(List.of("v5@1,2", "v13@4,1"), visited);
+    }
+
+    /**
+     * Test case for setAll replacing elements, returning the previous values and updating aggregates.
+     */
+    @Test
+    public void testSetAll() {
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>(4);
+        for (int i = 0; i < 30; i++) {
+            spiderWeb.add(i);
+        }
+        spiderWeb.enableAggregates(Integer::doubleValue);
+        spiderWeb.enableLevelDirectory();
+
+        List<Integer> previous = spiderWeb.setAll(
+                new long[]{SpiderWeb.position(7, 0), SpiderWeb.position(1, 1)}, List.of(100, -100));
+
+        assertEquals(List.of(28, 5), previous);
+        assertEquals(100, spiderWeb.get(7, 0));
+        assertEquals(-100, spiderWeb.get(1, 1));
+        assertEquals(-100.0, spiderWeb.aggregate().getMin());
+        assertEquals(100.0, spiderWeb.aggregate().getMax());
+        assertThrows(IllegalArgumentException.class, () -> spiderWeb.setAll(new long[]{0L}, List.of()));
+    }
+
+    /**
+     * Test case for local positional access staying correct while mutations shift or remove remembered positions.
+     */
+    @Test
+    public void testLocalAccessAfterMutations() {
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>(5);
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(21);
+        for (int i = 0; i < 500; i++) {
+            spiderWeb.add(i);
+            expected.add(i);
+        }
+
+        int position = 250;
+        for (int step = 0; step < 5000; step++) {
+            position = Math.max(0, Math.min(expected.size() - 1, position + random.nextInt(7) - 3));
+            assertEquals(expected.get(position), spiderWeb.get(position / 5, position % 5));
+
+            int operation = random.nextInt(10);
+            if (operation == 0) {
+                spiderWeb.addFirst(-step);
+                expected.add(0, -step);
+            } else if (operation == 1 && expected.size() > 1) {
+                assertEquals(expected.remove(0), spiderWeb.removeFirst());
+            } else if (operation == 2 && expected.size() > 1) {
+                assertEquals(expected.remove(expected.size() - 1), spiderWeb.removeLast());
+            } else if (operation == 3 && expected.size() > 1) {
+                int removed = Math.min(position, expected.size() - 1);
+                assertEquals(expected.remove(removed), spiderWeb.cursor(removed / 5, removed % 5).remove());
+            } else if (operation == 4) {
+                spiderWeb.add(step);
+                expected.add(step);
+            }
+        }
+    }
+
+    /**
+     * Test case for bulk loading deferring level links until the SpiderWeb is sealed.
+     */
+    @Test
+    public void testBulkLoadSeal() {
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>(4);
+        for (int i = 0; i < 6; i++) {
+            spiderWeb.add(i);
+        }
+        spiderWeb.beginBulkLoad();
+        assertTrue(spiderWeb.isBulkLoading());
+        for (int i = 6; i < 100; i++) {
+            spiderWeb.add(i);
+        }
+        assertNull(spiderWeb.getFirstNode().getNextNode().getNextNode().getNextLevelNode());
+        assertEquals(24, spiderWeb.getLevel());
+        assertEquals(3, spiderWeb.getIndex());
+
+        spiderWeb.seal();
+
+        assertFalse(spiderWeb.isBulkLoading());
+        SpiderWebNode<Integer> node = spiderWeb.getFirstNode();
+        for (int position = 0; position < 100; position++, node = node.getNextNode()) {
+            assertEquals(position + 4 < 100 ? position + 4 : null,
+                    node.getNextLevelNode() == null ? null : node.getNextLevelNode().getValue());
+            assertEquals(position >= 4 ? position - 4 : null,
+                    node.getPrevLevelNode() == null ? null : node.getPrevLevelNode().getValue());
+        }
+        spiderWeb.add(100);
+        assertEquals(96, spiderWeb.getLastNode().getPrevLevelNode().getValue());
+    }
+
+    /**
+     * Test case for the first level-aware operation sealing a bulk-loaded SpiderWeb.
+     */
+    @Test
+    public void testBulkLoadSealsOnFirstLevelAwareOperation() {
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>(3);
+        spiderWeb.beginBulkLoad();
+        for (int i = 0; i < 20; i++) {
+            spiderWeb.add(i);
+        }
+
+        assertEquals(13, spiderWeb.get(4, 1));
+        assertFalse(spiderWeb.isBulkLoading());
+        assertEquals(19, spiderWeb.removeLast());
+        assertEquals(15, spiderWeb.getNode(4, 0).getNextLevelNode().getValue());
+    }
+
+    /**
+     * Test case for sealing an adaptive bulk-loaded SpiderWeb, expecting it to switch straight to its target width.
+     */
+    @Test
+    public void testBulkLoadAdaptiveSeal() {
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>(4);
+        spiderWeb.enableAdaptiveLevelWidth();
+        spiderWeb.beginBulkLoad();
+        for (int i = 0; i < 40000; i++) {
+            spiderWeb.add(i);
+        }
+        assertEquals(4, spiderWeb.getMaxElementPerLevel());
+
+        spiderWeb.seal();
+
+        assertEquals(200, spiderWeb.getMaxElementPerLevel());
+        assertEquals(199, spiderWeb.getLevel());
+        assertEquals(12345, spiderWeb.get(61, 145));
+        assertEquals(200, spiderWeb.getNode(0, 0).getNextLevelNode().getValue());
+        assertEquals(39800, spiderWeb.getPrevLevel().getValue());
+    }
+
+    /**
+     * Test case for content hashes kept up to date by mutations, expecting them to match hashes computed from scratch.
+     */
+    @Test
+    public void testContentHashesFollowMutations() {
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>(4);
+        spiderWeb.enableContentHashes();
+        for (int i = 0; i < 50; i++) {
+            spiderWeb.add(i);
+        }
+        spiderWeb.set(3, 2, 100);
+        spiderWeb.removeLast();
+        spiderWeb.removeFirst();
+        spiderWeb.addFirst(-1);
+        spiderWeb.cursor(5, 1).remove();
+        spiderWeb.add(7);
+
+        SpiderWeb<Integer> fresh = new SpiderWeb<>(4);
+        for (SpiderWebNode<Integer> node = spiderWeb.getFirstNode(); node != null; node = node.getNextNode()) {
+            fresh.add(node.getValue());
+        }
+        fresh.enableContentHashes();
+
+        assertEquals(fresh.contentHash(), spiderWeb.contentHash());
+        for (int level = 0; level <= spiderWeb.getLevel(); level++) {
+            assertEquals(fresh.levelHash(level), spiderWeb.levelHash(level));
+        }
+        assertEquals(spiderWeb, fresh);
+        assertEquals(spiderWeb.hashCode(), fresh.hashCode());
+    }
+
+    /**
+     * Test case for equals and hashCode, expecting them to depend on the elements and the level width.
+     */
+    @Test
+    public void testEqualsAndHashCode() {
+        SpiderWeb<String> a = new SpiderWeb<>(3);
+        SpiderWeb<String> b = new SpiderWeb<>(3);
+        SpiderWeb<String> c = new SpiderWeb<>(2);
+        for (String s : new String[]{"a", "b", null, "d"}) {
+            a.add(s);
+            b.add(s);
+            c.add(s);
+        }
+        b.enableContentHashes();
+
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(a, c);
+
+        a.enableContentHashes();
+        b.set(1, 0, "e");
+        assertNotEquals(a, b);
+        assertNotEquals(a.contentHash(), b.contentHash());
+        assertThrows(IllegalStateException.class, c::contentHash);
+    }
+
+    /**
+     * Test case for diff, expecting the differing positions to be reported as merged ranges.
+     */
+    @Test
+    public void testDiff() {
+        SpiderWeb<Integer> primary = new SpiderWeb<>(4);
+        SpiderWeb<Integer> replica = new SpiderWeb<>(4);
+        for (int i = 0; i < 200; i++) {
+            primary.add(i);
+            replica.add(i);
+        }
+        primary.enableContentHashes();
+        replica.set(10, 3, -1);
+        replica.set(11, 0, -1);
+        replica.set(40, 2, -1);
+        primary.add(200);
+        primary.add(201);
+
+        List<HashMap<String, Integer>> ranges = primary.diff(replica);
+
+        assertEquals(3, ranges.size());
+        assertEquals(10, ranges.get(0).get("fromLevel"));
+        assertEquals(3, ranges.get(0).get("fromIndex"));
+        assertEquals(11, ranges.get(0).get("toLevel"));
+        assertEquals(0, ranges.get(0).get("toIndex"));
+        assertEquals(40, ranges.get(1).get("fromLevel"));
+        assertEquals(2, ranges.get(1).get("toIndex"));
+        assertEquals(50, ranges.get(2).get("fromLevel"));
+        assertEquals(0, ranges.get(2).get("fromIndex"));
+        assertEquals(1, ranges.get(2).get("toIndex"));
+        assertTrue(replica.diff(replica).isEmpty());
+    }
+
+    /**
+     * Test case for estimateRetainedBytes, expecting the estimate to be close to the measured heap growth.
+     */
+    @Test
+    public void testEstimateRetainedBytesMatchesHeap() {
+        long before = usedHeap();
+        SpiderWeb<Long> spiderWeb = new SpiderWeb<>();
+        for (long i = 0; i < 500_000; i++) {
+            spiderWeb.add(1_000_000 + i);
+        }
+        long measured = usedHeap() - before;
+        long estimated = spiderWeb.estimateRetainedBytes();
+
+        assertTrue(estimated > measured * 0.8 && estimated < measured * 1.2,
+                "Estimated " + estimated + " bytes, measured " + measured + " bytes.");
+        assertEquals(500_000, spiderWeb.size());
+    }
+
+    /**
+     * Test case for estimateOverheadBytes, expecting one node of a header and five references per element.
+     */
+    @Test
+    public void testEstimateOverheadBytes() {
+        SpiderWeb<String> spiderWeb = new SpiderWeb<>();
+        long empty = spiderWeb.estimateOverheadBytes();
+        for (int i = 0; i < 1000; i++) {
+            spiderWeb.add("value" + i);
+        }
+        long perNode = (spiderWeb.estimateOverheadBytes() - empty) / 1000;
+
+        assertTrue(perNode == 32 || perNode == 40 || perNode == 56, "Node size: " + perNode);
+        assertTrue(spiderWeb.estimateRetainedBytes() > spiderWeb.estimateOverheadBytes() + 1000 * 24);
+        assertEquals(spiderWeb.estimateOverheadBytes() + 1000, spiderWeb.estimateRetainedBytes(value -> 1, 10));
+        spiderWeb.enableLevelDirectory();
+        assertTrue(spiderWeb.estimateOverheadBytes() > empty + 1000 * perNode);
+        assertThrows(IllegalArgumentException.class, () -> spiderWeb.estimateRetainedBytes(null, 1));
+    }
+
+    /**
+     * Test case for removeIf, expecting the remaining elements to close up with consistent level links.
+     */
+    @Test
+    public void testRemoveIf() {
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>(4);
+        for (int i = 0; i < 1000; i++) {
+            spiderWeb.add(i);
+        }
+        spiderWeb.enableLevelDirectory();
+        spiderWeb.enableAggregates(Integer::doubleValue);
+        spiderWeb.enableContentHashes();
+        spiderWeb.get(200, 0);
+
+        assertTrue(spiderWeb.removeIf(value -> value % 3 == 0 || (value > 500 && value < 600)));
+        assertFalse(spiderWeb.removeIf(value -> value < 0));
+
+        SpiderWeb<Integer> expected = new SpiderWeb<>(4);
+        long sum = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (i % 3 != 0 && (i <= 500 || i >= 600)) {
+                expected.add(i);
+                sum += i;
+            }
+        }
+        assertEquals(expected.size(), spiderWeb.size());
+        assertEquals(expected.getLevel(), spiderWeb.getLevel());
+        assertEquals(expected.getIndex(), spiderWeb.getIndex());
+        assertEquals(expected, spiderWeb);
+        assertEquals(sum, spiderWeb.aggregate().getSum());
+        expected.enableContentHashes();
+        assertEquals(expected.contentHash(), spiderWeb.contentHash());
+        for (SpiderWebNode<Integer> node = spiderWeb.getFirstNode(); node != null; node = node.getNextNode()) {
+            SpiderWebNode<Integer> target = node;
+            for (int i = 0; i < 4 && target != null; i++) {
+                target = target.getNextNode();
+            }
+            assertSame(target, node.getNextLevelNode());
+            if (target != null) {
+                assertSame(node, target.getPrevLevelNode());
+            }
+        }
+        for (int level = 0; level <= expected.getLevel(); level++) {
+            assertEquals(expected.get(level, 0), spiderWeb.get(level, 0));
+        }
+        spiderWeb.add(-1);
+        assertEquals(-1, spiderWeb.getLast());
+        assertEquals(spiderWeb.getLastNode(), spiderWeb.getLastNode().getPrevLevelNode().getNextLevelNode());
+    }
+
+    /**
+     * Test case for remove and retainAll, expecting matching elements to be removed and the rest kept in order.
+     */
+    @Test
+    public void testRemoveAndRetainAll() {
+        SpiderWeb<String> spiderWeb = new SpiderWeb<>(2);
+        for (String value : new String[]{"a", "b", "c", "b", "d", "e"}) {
+            spiderWeb.add(value);
+        }
+
+        assertTrue(spiderWeb.remove("b"));
+        assertFalse(spiderWeb.remove("x"));
+        assertEquals("c", spiderWeb.get(0, 1));
+        assertTrue(spiderWeb.retainAll(List.of("b", "d", "e")));
+        assertEquals(3, spiderWeb.size());
+        assertEquals("b", spiderWeb.get(0, 0));
+        assertEquals("d", spiderWeb.get(0, 1));
+        assertEquals("e", spiderWeb.get(1, 0));
+        assertSame(spiderWeb.getLastNode(), spiderWeb.getFirstNode().getNextLevelNode());
+
+        assertTrue(spiderWeb.retainAll(List.of()));
+        assertEquals(0, spiderWeb.size());
+        assertThrows(IllegalArgumentException.class, () -> spiderWeb.removeIf(null));
+    }
+
+    /**
+     * Test case for positional access on an adaptive SpiderWeb still bulk loading, expecting coordinates at the sealed width.
+     */
+    @Test
+    public void testPositionalAccessSealsAdaptiveBulkLoad() {
+        SpiderWeb<Integer> spiderWeb = new SpiderWeb<>(2);
+        spiderWeb.enableAdaptiveLevelWidth();
+        spiderWeb.beginBulkLoad();
+        for (int i = 0; i < 400; i++) {
+            spiderWeb.add(i);
+        }
+
+        assertEquals(25, spiderWeb.get(1, 5));
+        assertFalse(spiderWeb.isBulkLoading());
+        assertEquals(20, spiderWeb.getMaxElementPerLevel());
+        assertEquals(19, spiderWeb.getLevel());
+        assertEquals(19, spiderWeb.getIndex());
+        assertEquals(399, spiderWeb.get(19, 19));
+
+        SpiderWeb<Integer> cursorWeb = new SpiderWeb<>(2);
+        cursorWeb.enableAdaptiveLevelWidth();
+        cursorWeb.beginBulkLoad();
+        for (int i = 0; i < 400; i++) {
+            cursorWeb.add(i);
+        }
+        SpiderWebCursor<Integer> cursor = cursorWeb.cursor(10, 15);
+        assertEquals(215, cursor.next() - 1);
+        assertEquals(10, cursor.getLevel());
+        assertEquals(16, cursor.getIndex());
+        assertEquals(215, cursorWeb.set(10, 15, -1));
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
 }